@@ -28,4 +28,18 @@ public interface IStrictEnergyAcceptor {
      * @return if tile entity accepts energy
      */
     boolean canReceiveEnergy(Direction side);
+
+    /**
+     * Gets how much energy this acceptor would currently accept from a certain side, without having to simulate a transfer. Should match what {@link
+     * #acceptEnergy(Direction, double, boolean)} would accept if it was offered an unlimited amount.
+     *
+     * @param side - side to check, or null if not from a specific side
+     *
+     * @return energy needed
+     *
+     * @implNote Defaults to simulating accepting as much energy as possible, implementations that know how much they need should override this.
+     */
+    default double getEnergyNeeded(@Nullable Direction side) {
+        return acceptEnergy(side, Double.MAX_VALUE, true);
+    }
 }
\ No newline at end of file
@@ -1,14 +1,22 @@
 package mekanism.api.transmitters;
 
+import it.unimi.dsi.fastutil.ints.Int2IntMap;
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ByteMap;
+import it.unimi.dsi.fastutil.longs.Long2ByteOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.ObjectLinkedOpenHashSet;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.EnumSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.UUID;
 import javax.annotation.Nullable;
 import mekanism.api.Coord4D;
 import mekanism.api.IClientTicker;
@@ -17,6 +25,7 @@ import mekanism.api.text.IHasTextComponent;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.Direction;
+import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.eventbus.api.Event;
@@ -28,29 +37,62 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
      * Cached value of {@link Direction#values()}. DO NOT MODIFY THIS LIST.
      */
     private static final Direction[] DIRECTIONS = Direction.values();
+    /**
+     * How many ticks a network that has something to send but nowhere to send it sleeps for before checking again. Networks get woken when their acceptors are added,
+     * removed or replaced, but an acceptor using up what it already has does not tell the network it wants more, so this is kept short enough that machines being fed
+     * by a network do not noticeably stall while it is asleep.
+     */
+    protected static final int IDLE_SLEEP_TICKS = 4;
 
     protected Set<IGridTransmitter<ACCEPTOR, NETWORK, BUFFER>> transmitters = new ObjectLinkedOpenHashSet<>();
     protected Set<IGridTransmitter<ACCEPTOR, NETWORK, BUFFER>> transmittersToAdd = new ObjectLinkedOpenHashSet<>();
     protected Set<IGridTransmitter<ACCEPTOR, NETWORK, BUFFER>> transmittersAdded = new ObjectLinkedOpenHashSet<>();
 
-    protected Set<Coord4D> possibleAcceptors = new ObjectOpenHashSet<>();
-    protected Map<Coord4D, EnumSet<Direction>> acceptorDirections = new Object2ObjectOpenHashMap<>();
+    /**
+     * The acceptors of this network, keyed by their position packed with {@link BlockPos#toLong()} as a network never spans more than one dimension. The value has the
+     * bit {@code 1 << side.ordinal()} set for each side of the acceptor that the network is connected to.
+     */
+    protected Long2ByteMap acceptorDirections = new Long2ByteOpenHashMap();
     protected Map<IGridTransmitter<ACCEPTOR, NETWORK, BUFFER>, EnumSet<Direction>> changedAcceptors = new Object2ObjectOpenHashMap<>();
-    protected Range4D packetRange = null;
     protected int capacity = 0;
     protected double doubleCapacity = 0;
+    /**
+     * Number of transmitters in this network with each capacity, which as the capacity of a transmitter comes from its tier is a count of the transmitters of each tier.
+     * Kept up to date as transmitters are added and removed so that the capacity never has to be recalculated from every transmitter.
+     */
+    private final Int2IntOpenHashMap capacityCounts = new Int2IntOpenHashMap();
+    /**
+     * Bounding box of the transmitters in this network, grown as transmitters are added. Only recalculated from every transmitter if one on its edge gets removed.
+     */
+    private int minX;
+    private int minY;
+    private int minZ;
+    private int maxX;
+    private int maxY;
+    private int maxZ;
+    private boolean boundsValid;
     protected boolean needsUpdate = false;
     protected int updateDelay = 0;
     protected boolean firstUpdate = true;
     @Nullable
     protected World world = null;
     private Set<DelayQueue> updateQueue = new ObjectLinkedOpenHashSet<>();
+    /**
+     * Saved by the transmitters of this network so that when they are loaded again they can rejoin it without it having to be found by walking all the transmitters.
+     */
+    private UUID networkID = UUID.randomUUID();
+    /**
+     * Number of ticks this network has left to sleep for, {@link Integer#MAX_VALUE} if it is sleeping until something wakes it.
+     */
+    private int sleepTicks;
+    private final NetworkProfile profile = new NetworkProfile();
 
     public void addNewTransmitters(Collection<IGridTransmitter<ACCEPTOR, NETWORK, BUFFER>> newTransmitters) {
         transmittersToAdd.addAll(newTransmitters);
     }
 
     public void commit() {
+        wake();
         if (!transmittersToAdd.isEmpty()) {
             for (IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> transmitter : transmittersToAdd) {
                 if (transmitter.isValid()) {
@@ -64,7 +106,9 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
 
                     transmitter.setTransmitterNetwork((NETWORK) this);
                     absorbBuffer(transmitter);
-                    transmitters.add(transmitter);
+                    if (transmitters.add(transmitter)) {
+                        onTransmitterAdded(transmitter);
+                    }
                 }
             }
 
@@ -90,29 +134,65 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
 
     public void updateTransmitterOnSide(IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> transmitter, Direction side) {
         ACCEPTOR acceptor = transmitter.getAcceptor(side);
-        Coord4D acceptorCoord = transmitter.coord().offset(side);
-        EnumSet<Direction> directions = acceptorDirections.get(acceptorCoord);
+        long acceptorPos = BlockPos.offset(transmitter.getPos().toLong(), side);
+        byte directions = acceptorDirections.get(acceptorPos);
 
         if (acceptor != null) {
-            possibleAcceptors.add(acceptorCoord);
-            if (directions != null) {
-                directions.add(side.getOpposite());
-            } else {
-                acceptorDirections.put(acceptorCoord, EnumSet.of(side.getOpposite()));
+            if (directions == 0) {
+                acceptorsChanged();
             }
-        } else if (directions != null) {
-            directions.remove(side.getOpposite());
+            acceptorDirections.put(acceptorPos, (byte) (directions | getSideMask(side.getOpposite())));
+            onAcceptorUpdated(acceptorPos);
+        } else if (directions != 0) {
+            removeAcceptorSide(acceptorPos, directions, side.getOpposite());
+        }
+    }
 
-            if (directions.isEmpty()) {
-                possibleAcceptors.remove(acceptorCoord);
-                acceptorDirections.remove(acceptorCoord);
-            }
+    /**
+     * Removes the given side from the sides the acceptor at the given position is connected on, and removes the acceptor entirely if it has no sides left.
+     */
+    private void removeAcceptorSide(long acceptorPos, byte directions, Direction side) {
+        directions &= ~getSideMask(side);
+        if (directions == 0) {
+            acceptorDirections.remove(acceptorPos);
+            acceptorsChanged();
         } else {
-            possibleAcceptors.remove(acceptorCoord);
-            acceptorDirections.remove(acceptorCoord);
+            acceptorDirections.put(acceptorPos, directions);
+        }
+        onAcceptorUpdated(acceptorPos);
+    }
+
+    /**
+     * Lets the registry know that an acceptor was added to or removed from this network, which may change which networks share acceptors.
+     */
+    private void acceptorsChanged() {
+        if (!isRemote()) {
+            TransmitterNetworkRegistry.getInstance().acceptorsChanged();
         }
     }
 
+    /**
+     * Called when the acceptor at the given position gets added, removed, or has the sides it is connected to this network on change.
+     *
+     * @param acceptorPos Position of the acceptor, packed with {@link BlockPos#toLong()}.
+     */
+    protected void onAcceptorUpdated(long acceptorPos) {
+    }
+
+    /**
+     * @return The bit that represents the given side in the values of {@link #acceptorDirections}.
+     */
+    public static byte getSideMask(Direction side) {
+        return (byte) (1 << side.ordinal());
+    }
+
+    /**
+     * @return True if the given side is set in a value of {@link #acceptorDirections}.
+     */
+    public static boolean hasSide(byte directions, Direction side) {
+        return (directions & getSideMask(side)) != 0;
+    }
+
     @Nullable
     public BUFFER getBuffer() {
         return null;
@@ -128,8 +208,15 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
     public abstract void clampBuffer();
 
     public void invalidate() {
+        long start = System.nanoTime();
         //Remove invalid transmitters first for share calculations
-        transmitters.removeIf(transmitter -> !transmitter.isValid());
+        for (Iterator<IGridTransmitter<ACCEPTOR, NETWORK, BUFFER>> iterator = transmitters.iterator(); iterator.hasNext(); ) {
+            IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> transmitter = iterator.next();
+            if (!transmitter.isValid()) {
+                iterator.remove();
+                onTransmitterRemoved(transmitter);
+            }
+        }
 
         //Clamp the new buffer
         clampBuffer();
@@ -145,9 +232,106 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
         }
 
         transmitters.clear();
+        clearAggregates();
+        profile.addInvalidateTime(System.nanoTime() - start);
         deregister();
     }
 
+    /**
+     * Removes the given transmitters from this network without tearing down the entire network. Only the area around the removed transmitters is walked to see if the
+     * network got split apart. Any parts that are no longer connected get moved into new networks, and the rest of the network keeps its buffer and acceptors.
+     *
+     * @param removed Transmitters to remove. Ones that are still valid get registered as orphans so that their connections are recalculated.
+     */
+    public void split(Set<IGridTransmitter<ACCEPTOR, NETWORK, BUFFER>> removed) {
+        wake();
+        Set<IGridTransmitter<ACCEPTOR, NETWORK, BUFFER>> reconnecting = new ObjectOpenHashSet<>();
+        for (IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> transmitter : removed) {
+            if (transmitter.isValid()) {
+                if (transmitters.contains(transmitter)) {
+                    reconnecting.add(transmitter);
+                }
+            } else if (transmitters.remove(transmitter)) {
+                onTransmitterRemoved(transmitter);
+                removeAcceptors(transmitter);
+                changedAcceptors.remove(transmitter);
+            }
+        }
+        if (transmitters.isEmpty()) {
+            deregister();
+            return;
+        }
+        updateCapacity();
+        clampBuffer();
+
+        //Any remaining transmitter next to one that got removed may now be part of a separate network
+        Set<IGridTransmitter<ACCEPTOR, NETWORK, BUFFER>> neighbors = new ObjectLinkedOpenHashSet<>();
+        for (IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> transmitter : removed) {
+            Coord4D coord = transmitter.coord();
+            for (Direction side : DIRECTIONS) {
+                IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> adjacent = transmitter.getExternalTransmitter(coord.offset(side));
+                if (adjacent != null && transmitters.contains(adjacent) && !reconnecting.contains(adjacent)) {
+                    neighbors.add(adjacent);
+                }
+            }
+        }
+        List<IGridTransmitter<ACCEPTOR, NETWORK, BUFFER>> leaving = new ArrayList<>(reconnecting);
+        List<List<IGridTransmitter<ACCEPTOR, NETWORK, BUFFER>>> detached = Collections.emptyList();
+        if (neighbors.size() > 1) {
+            NetworkSplitFinder<ACCEPTOR, NETWORK, BUFFER> finder = new NetworkSplitFinder<>(transmitters, reconnecting);
+            finder.start(neighbors);
+            detached = finder.detached;
+            for (List<IGridTransmitter<ACCEPTOR, NETWORK, BUFFER>> component : detached) {
+                leaving.addAll(component);
+            }
+        }
+        if (leaving.isEmpty()) {
+            return;
+        }
+
+        //Calculate all the shares before taking any of them so that they are all based on the same buffer
+        for (IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> transmitter : leaving) {
+            transmitter.updateShare();
+        }
+        for (IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> transmitter : leaving) {
+            transmitter.takeShare();
+            transmitter.setTransmitterNetwork(null);
+            if (transmitters.remove(transmitter)) {
+                onTransmitterRemoved(transmitter);
+            }
+            removeAcceptors(transmitter);
+            changedAcceptors.remove(transmitter);
+        }
+        for (IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> transmitter : reconnecting) {
+            TransmitterNetworkRegistry.registerOrphanTransmitter(transmitter);
+        }
+        for (List<IGridTransmitter<ACCEPTOR, NETWORK, BUFFER>> component : detached) {
+            NETWORK network = component.get(0).createEmptyNetwork();
+            network.addNewTransmitters(component);
+            network.register();
+            TransmitterNetworkRegistry.registerChangedNetwork(network);
+        }
+        if (transmitters.isEmpty()) {
+            deregister();
+        } else {
+            updateCapacity();
+        }
+    }
+
+    /**
+     * Removes any acceptor directions that point at the given transmitter.
+     */
+    protected void removeAcceptors(IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> transmitter) {
+        long pos = transmitter.getPos().toLong();
+        for (Direction side : DIRECTIONS) {
+            long acceptorPos = BlockPos.offset(pos, side);
+            byte directions = acceptorDirections.get(acceptorPos);
+            if (directions != 0) {
+                removeAcceptorSide(acceptorPos, directions, side.getOpposite());
+            }
+        }
+    }
+
     public void invalidateTransmitter(IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> transmitter) {
         if (!isRemote() && transmitter.isValid()) {
             transmitter.takeShare();
@@ -164,67 +348,133 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
             changedAcceptors.put(transmitter, EnumSet.of(side));
         }
         TransmitterNetworkRegistry.registerChangedNetwork(this);
+        wake();
     }
 
     public void adoptTransmittersAndAcceptorsFrom(NETWORK net) {
+        wake();
+        boolean wasEmpty = transmitters.isEmpty();
         for (IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> transmitter : net.transmitters) {
             transmitter.setTransmitterNetwork((NETWORK) this);
             transmitters.add(transmitter);
             transmittersAdded.add(transmitter);
         }
+        //Combine the aggregates of the two networks rather than recalculating them from every transmitter
+        for (Int2IntMap.Entry entry : net.capacityCounts.int2IntEntrySet()) {
+            capacityCounts.addTo(entry.getIntKey(), entry.getIntValue());
+        }
+        if (wasEmpty) {
+            //Keep the ID of the network being merged into this one so that its saved transmitters can still find it
+            networkID = net.networkID;
+            setBounds(net.minX, net.minY, net.minZ, net.maxX, net.maxY, net.maxZ);
+            boundsValid = net.boundsValid;
+        } else if (boundsValid && net.boundsValid) {
+            setBounds(Math.min(minX, net.minX), Math.min(minY, net.minY), Math.min(minZ, net.minZ), Math.max(maxX, net.maxX), Math.max(maxY, net.maxY),
+                  Math.max(maxZ, net.maxZ));
+        } else if (!net.transmitters.isEmpty()) {
+            boundsValid = false;
+        }
+        updateCapacity();
 
         transmittersToAdd.addAll(net.transmittersToAdd);
-        possibleAcceptors.addAll(net.possibleAcceptors);
-
-        for (Entry<Coord4D, EnumSet<Direction>> entry : net.acceptorDirections.entrySet()) {
-            Coord4D coord = entry.getKey();
-            if (acceptorDirections.containsKey(coord)) {
-                acceptorDirections.get(coord).addAll(entry.getValue());
-            } else {
-                acceptorDirections.put(coord, entry.getValue());
-            }
+        if (!net.acceptorDirections.isEmpty()) {
+            acceptorsChanged();
         }
-    }
 
-    public Range4D getPacketRange() {
-        return packetRange == null ? genPacketRange() : packetRange;
+        for (Long2ByteMap.Entry entry : net.acceptorDirections.long2ByteEntrySet()) {
+            long acceptorPos = entry.getLongKey();
+            acceptorDirections.put(acceptorPos, (byte) (acceptorDirections.get(acceptorPos) | entry.getByteValue()));
+            onAcceptorUpdated(acceptorPos);
+        }
     }
 
-    protected Range4D genPacketRange() {
+    public Range4D getPacketRange() {
         if (getSize() == 0) {
             deregister();
             return null;
         }
+        if (!boundsValid) {
+            recalculateBounds();
+        }
+        return new Range4D(minX, minY, minZ, maxX, maxY, maxZ, transmitters.iterator().next().world().getDimension().getType());
+    }
 
-        IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> initTransmitter = transmitters.iterator().next();
-        Coord4D initCoord = initTransmitter.coord();
+    private void recalculateBounds() {
+        BlockPos initPos = transmitters.iterator().next().getPos();
+        setBounds(initPos.getX(), initPos.getY(), initPos.getZ(), initPos.getX(), initPos.getY(), initPos.getZ());
+        for (IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> transmitter : transmitters) {
+            expandBounds(transmitter.getPos());
+        }
+        boundsValid = true;
+    }
 
-        int minX = initCoord.x;
-        int minY = initCoord.y;
-        int minZ = initCoord.z;
-        int maxX = initCoord.x;
-        int maxY = initCoord.y;
-        int maxZ = initCoord.z;
+    private void setBounds(int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+        this.minX = minX;
+        this.minY = minY;
+        this.minZ = minZ;
+        this.maxX = maxX;
+        this.maxY = maxY;
+        this.maxZ = maxZ;
+    }
 
-        for (IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> transmitter : transmitters) {
-            Coord4D coord = transmitter.coord();
-            if (coord.x < minX) {
-                minX = coord.x;
-            } else if (coord.x > maxX) {
-                maxX = coord.x;
-            }
-            if (coord.y < minY) {
-                minY = coord.y;
-            } else if (coord.y > maxY) {
-                maxY = coord.y;
-            }
-            if (coord.z < minZ) {
-                minZ = coord.z;
-            } else if (coord.x > maxZ) {
-                maxZ = coord.z;
+    private void expandBounds(BlockPos pos) {
+        minX = Math.min(minX, pos.getX());
+        minY = Math.min(minY, pos.getY());
+        minZ = Math.min(minZ, pos.getZ());
+        maxX = Math.max(maxX, pos.getX());
+        maxY = Math.max(maxY, pos.getY());
+        maxZ = Math.max(maxZ, pos.getZ());
+    }
+
+    /**
+     * Adds a transmitter that was just added to {@link #transmitters} to the capacity counts and bounding box.
+     */
+    protected void onTransmitterAdded(IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> transmitter) {
+        capacityCounts.addTo(transmitter.getCapacity(), 1);
+        BlockPos pos = transmitter.getPos();
+        if (transmitters.size() == 1) {
+            setBounds(pos.getX(), pos.getY(), pos.getZ(), pos.getX(), pos.getY(), pos.getZ());
+            boundsValid = true;
+        } else if (boundsValid) {
+            expandBounds(pos);
+        }
+    }
+
+    /**
+     * Removes a transmitter that was just removed from {@link #transmitters} from the capacity counts and bounding box.
+     */
+    protected void onTransmitterRemoved(IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> transmitter) {
+        int transmitterCapacity = transmitter.getCapacity();
+        int count = capacityCounts.get(transmitterCapacity);
+        if (count > 1) {
+            capacityCounts.put(transmitterCapacity, count - 1);
+        } else if (count == 1) {
+            capacityCounts.remove(transmitterCapacity);
+        } else {
+            //The capacity of the transmitter changed since it was added, such as from the config being reloaded, so count everything again
+            recountCapacities();
+        }
+        if (transmitters.isEmpty()) {
+            boundsValid = false;
+        } else if (boundsValid) {
+            BlockPos pos = transmitter.getPos();
+            if (pos.getX() == minX || pos.getX() == maxX || pos.getY() == minY || pos.getY() == maxY || pos.getZ() == minZ || pos.getZ() == maxZ) {
+                //The box may be able to shrink, so work it out again the next time it is needed
+                boundsValid = false;
             }
         }
-        return new Range4D(minX, minY, minZ, maxX, maxY, maxZ, initTransmitter.world().getDimension().getType());
+    }
+
+    private void recountCapacities() {
+        capacityCounts.clear();
+        for (IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> transmitter : transmitters) {
+            capacityCounts.addTo(transmitter.getCapacity(), 1);
+        }
+    }
+
+    private void clearAggregates() {
+        capacityCounts.clear();
+        boundsValid = false;
     }
 
     public void register() {
@@ -237,6 +487,7 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
 
     public void deregister() {
         transmitters.clear();
+        clearAggregates();
         transmittersToAdd.clear();
         transmittersAdded.clear();
 
@@ -252,11 +503,14 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
     }
 
     public int getAcceptorSize() {
-        return possibleAcceptors.size();
+        return acceptorDirections.size();
     }
 
     public synchronized void updateCapacity() {
-        doubleCapacity = transmitters.stream().mapToDouble(IGridTransmitter::getCapacity).sum();
+        doubleCapacity = 0;
+        for (Int2IntMap.Entry entry : capacityCounts.int2IntEntrySet()) {
+            doubleCapacity += (double) entry.getIntKey() * entry.getIntValue();
+        }
         capacity = doubleCapacity > Integer.MAX_VALUE ? Integer.MAX_VALUE : (int) doubleCapacity;
     }
 
@@ -273,10 +527,89 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
         return world;
     }
 
+    public UUID getNetworkID() {
+        return networkID;
+    }
+
+    /**
+     * Sets the ID of this network, should only be called before the network is registered.
+     */
+    public void setNetworkID(UUID networkID) {
+        this.networkID = networkID;
+    }
+
+    public NetworkProfile getProfile() {
+        return profile;
+    }
+
+    /**
+     * Whether this network splits its tick up into {@link #gatherTick()}, {@link #planTick()} and {@link #tick()}, so that the registry can plan it on another thread.
+     */
+    public boolean canPlanTick() {
+        return false;
+    }
+
+    /**
+     * Called on the server thread before {@link #planTick()} when networks are being planned in parallel. This is where the network asks its acceptors what they
+     * want, as they may only be used from the server thread.
+     */
+    public void gatherTick() {
+    }
+
+    /**
+     * Works out what this network will send in its next {@link #tick()} from what was collected in {@link #gatherTick()}. When networks are planned in parallel this
+     * is called off the server thread at the same time as other networks, so it must only touch state that belongs to this network and never the world or any
+     * acceptors. If it does not get called, {@link #tick()} gathers and plans the network itself.
+     */
+    public void planTick() {
+    }
+
     public void tick() {
         onUpdate();
     }
 
+    /**
+     * Whether this network is asleep, in which case the registry calls {@link #tickDormant()} instead of {@link #tick()}.
+     */
+    public boolean isDormant() {
+        return sleepTicks > 0;
+    }
+
+    public void tickDormant() {
+        if (sleepTicks != Integer.MAX_VALUE) {
+            sleepTicks--;
+        }
+    }
+
+    /**
+     * Stops ticking this network for the given number of ticks, or until it gets woken up.
+     */
+    protected void sleep(int ticks) {
+        sleepTicks = ticks;
+    }
+
+    /**
+     * Stops ticking this network until it gets woken up. Should only be used when nothing can change without something calling {@link #wake()}.
+     */
+    protected void sleepUntilWoken() {
+        sleepTicks = Integer.MAX_VALUE;
+    }
+
+    /**
+     * Makes this network start ticking again if it is asleep. Called when the network changes, when something is inserted into it, or by anything that knows the
+     * network may have work to do again.
+     */
+    public void wake() {
+        sleepTicks = 0;
+    }
+
+    /**
+     * @return True if the base network has nothing left to do, such as sending updates to clients.
+     */
+    protected boolean canSleep() {
+        return updateQueue.isEmpty() && updateDelay == 0 && !needsUpdate;
+    }
+
     public void onUpdate() {
         if (!isRemote()) {
             Iterator<DelayQueue> i = updateQueue.iterator();
@@ -319,10 +652,12 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
     public void queueClientUpdate(Collection<IGridTransmitter<ACCEPTOR, NETWORK, BUFFER>> newTransmitters) {
         transmittersAdded.addAll(newTransmitters);
         updateDelay = 5;
+        wake();
     }
 
     public void addUpdate(PlayerEntity player) {
         updateQueue.add(new DelayQueue(player));
+        wake();
     }
 
     public boolean isCompatibleWith(NETWORK other) {
@@ -338,11 +673,18 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
     }
 
     public boolean addTransmitter(IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> transmitter) {
-        return transmitters.add(transmitter);
+        if (transmitters.add(transmitter)) {
+            onTransmitterAdded(transmitter);
+            return true;
+        }
+        return false;
     }
 
     public boolean removeTransmitter(IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> transmitter) {
         boolean removed = transmitters.remove(transmitter);
+        if (removed) {
+            onTransmitterRemoved(transmitter);
+        }
         if (transmitters.isEmpty()) {
             deregister();
         }
@@ -365,12 +707,22 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
         return transmittersAdded;
     }
 
-    public Set<Coord4D> getPossibleAcceptors() {
-        return possibleAcceptors;
+    public Long2ByteMap getAcceptorDirections() {
+        return acceptorDirections;
     }
 
-    public Map<Coord4D, EnumSet<Direction>> getAcceptorDirections() {
-        return acceptorDirections;
+    /**
+     * @return The sides of the acceptor at the given position that this network is connected to, empty if there is no acceptor there.
+     */
+    public Set<Direction> getAcceptorSides(BlockPos pos) {
+        byte directions = acceptorDirections.get(pos.toLong());
+        Set<Direction> sides = EnumSet.noneOf(Direction.class);
+        for (Direction side : DIRECTIONS) {
+            if (hasSide(directions, side)) {
+                sides.add(side);
+            }
+        }
+        return sides;
     }
 
     public Map<IGridTransmitter<ACCEPTOR, NETWORK, BUFFER>, EnumSet<Direction>> getChangedAcceptors() {
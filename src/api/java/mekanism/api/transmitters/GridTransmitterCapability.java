@@ -0,0 +1,16 @@
+package mekanism.api.transmitters;
+
+import net.minecraftforge.common.capabilities.Capability;
+import net.minecraftforge.common.capabilities.CapabilityInject;
+
+/**
+ * Holds the grid transmitter capability for the default implementations in {@link IGridTransmitter}, as the API can not reach the one Mekanism registers.
+ */
+final class GridTransmitterCapability {
+
+    @CapabilityInject(IGridTransmitter.class)
+    static Capability<IGridTransmitter<?, ?, ?>> GRID_TRANSMITTER = null;
+
+    private GridTransmitterCapability() {
+    }
+}
\ No newline at end of file
@@ -1,9 +1,12 @@
 package mekanism.api.transmitters;
 
 import java.util.Collection;
+import java.util.UUID;
 import javax.annotation.Nullable;
 import mekanism.api.Coord4D;
+import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.Direction;
+import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.text.ITextComponent;
 import net.minecraft.world.World;
 
@@ -45,6 +48,24 @@ public interface IGridTransmitter<ACCEPTOR, NETWORK extends DynamicNetwork<ACCEP
 
     Coord4D coord();
 
+    default BlockPos getPos() {
+        return coord().getPos();
+    }
+
+    /**
+     * @return The ID of the network this transmitter was part of when it was saved, or null if it was not part of one.
+     */
+    @Nullable
+    default UUID getStoredNetworkID() {
+        return null;
+    }
+
+    /**
+     * Forgets the ID of the network this transmitter was saved in, called once the transmitter has been placed in a network again.
+     */
+    default void clearStoredNetworkID() {
+    }
+
     Coord4D getAdjacentConnectableTransmitterCoord(Direction side);
 
     ACCEPTOR getAcceptor(Direction side);
@@ -61,6 +82,31 @@ public interface IGridTransmitter<ACCEPTOR, NETWORK extends DynamicNetwork<ACCEP
 
     NETWORK getExternalNetwork(Coord4D from);
 
+    /**
+     * Gets the transmitter of the same transmission type as this transmitter at the given location.
+     *
+     * @param from - location to look for a transmitter at
+     *
+     * @return the transmitter at the location, or null if there is no compatible transmitter there
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    default IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> getExternalTransmitter(Coord4D from) {
+        World world = world();
+        BlockPos pos = from.getPos();
+        if (world == null || GridTransmitterCapability.GRID_TRANSMITTER == null || !world.isBlockLoaded(pos)) {
+            return null;
+        }
+        TileEntity tile = world.getTileEntity(pos);
+        if (tile != null) {
+            IGridTransmitter<?, ?, ?> transmitter = tile.getCapability(GridTransmitterCapability.GRID_TRANSMITTER, null).orElse(null);
+            if (transmitter != null && TransmissionType.checkTransmissionType(transmitter, getTransmissionType())) {
+                return (IGridTransmitter<ACCEPTOR, NETWORK, BUFFER>) transmitter;
+            }
+        }
+        return null;
+    }
+
     void takeShare();
 
     void updateShare();
@@ -91,6 +137,15 @@ public interface IGridTransmitter<ACCEPTOR, NETWORK extends DynamicNetwork<ACCEP
         return true;
     }
 
+    /**
+     * Gets a key that decides what this transmitter is compatible with, so that it can be checked against a whole group of transmitters at once. Two transmitters are
+     * compatible if either key is null or if the keys are equal, which has to agree with {@link #isCompatibleWith(IGridTransmitter)}.
+     */
+    @Nullable
+    default Object getCompatibilityKey() {
+        return null;
+    }
+
     /**
      * Gets called on an orphan if at least one attempted network fails to connect due to having connected to another network that is incompatible with the next attempted
      * ones.
@@ -0,0 +1,99 @@
+package mekanism.api.transmitters;
+
+/**
+ * Keeps track of how long a network spends ticking and how much it moves each tick. Tick costs and throughput are smoothed over the last second or so of ticks, so that
+ * the counters are cheap enough to always be kept. A network is only ever worked on by one thread at a time, so none of this needs to be synchronized.
+ */
+public class NetworkProfile {
+
+    /**
+     * How much each new tick counts towards the smoothed values, roughly averaging them over the last 20 ticks.
+     */
+    private static final double SMOOTHING = 0.05;
+
+    private long currentTickNanos;
+    private double currentTransferred;
+    private double averageTickNanos;
+    private double averageTransferred;
+    private long totalTickNanos;
+    private long ticks;
+    private long commitNanos;
+    private int commits;
+    private long invalidateNanos;
+    private int invalidates;
+
+    /**
+     * Adds time spent ticking the network, can be called more than once per tick.
+     */
+    public void addTickTime(long nanos) {
+        currentTickNanos += nanos;
+    }
+
+    /**
+     * Adds an amount the network moved this tick, in whatever units the network transfers.
+     */
+    public void addTransferred(double amount) {
+        currentTransferred += amount;
+    }
+
+    public void addCommitTime(long nanos) {
+        commitNanos += nanos;
+        commits++;
+    }
+
+    /**
+     * Adds time spent invalidating the network or splitting transmitters off of it.
+     */
+    public void addInvalidateTime(long nanos) {
+        invalidateNanos += nanos;
+        invalidates++;
+    }
+
+    /**
+     * Folds everything added since the last call into the smoothed values. Called once per server tick, including when the network is asleep.
+     */
+    public void endTick() {
+        averageTickNanos = smooth(averageTickNanos, currentTickNanos);
+        averageTransferred = smooth(averageTransferred, currentTransferred);
+        totalTickNanos += currentTickNanos;
+        ticks++;
+        currentTickNanos = 0;
+        currentTransferred = 0;
+    }
+
+    static double smooth(double average, double value) {
+        return average + (value - average) * SMOOTHING;
+    }
+
+    public double getAverageTickNanos() {
+        return averageTickNanos;
+    }
+
+    public double getAverageTransferred() {
+        return averageTransferred;
+    }
+
+    public long getTotalTickNanos() {
+        return totalTickNanos;
+    }
+
+    public long getTicks() {
+        return ticks;
+    }
+
+    public long getCommitNanos() {
+        return commitNanos;
+    }
+
+    public int getCommits() {
+        return commits;
+    }
+
+    public long getInvalidateNanos() {
+        return invalidateNanos;
+    }
+
+    public int getInvalidates() {
+        return invalidates;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,143 @@
+package mekanism.api.transmitters;
+
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import mekanism.api.Coord4D;
+import net.minecraft.util.Direction;
+
+/**
+ * Finds the parts of a network that got detached from the rest of it after some of its transmitters were removed.
+ *
+ * A breadth first search is started from each remaining transmitter that neighbours a removed one, and all the searches are advanced one transmitter at a time in
+ * turn. When two searches meet they get joined into one, and when a search runs out of transmitters to visit it has found an entire detached part. As soon as only
+ * one search is left everything it has not reached yet is known to still be connected, so only the smaller detached parts ever have to be fully walked.
+ */
+public class NetworkSplitFinder<ACCEPTOR, NETWORK extends DynamicNetwork<ACCEPTOR, NETWORK, BUFFER>, BUFFER> {
+
+    /**
+     * Cached value of {@link Direction#values()}. DO NOT MODIFY THIS LIST.
+     */
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    private final Set<IGridTransmitter<ACCEPTOR, NETWORK, BUFFER>> members;
+    private final Set<IGridTransmitter<ACCEPTOR, NETWORK, BUFFER>> excluded;
+    private final Object2IntMap<IGridTransmitter<ACCEPTOR, NETWORK, BUFFER>> owners = new Object2IntOpenHashMap<>();
+    private final List<Search> searches = new ArrayList<>();
+
+    /**
+     * Each list is a group of transmitters that is no longer connected to the rest of the network.
+     */
+    public final List<List<IGridTransmitter<ACCEPTOR, NETWORK, BUFFER>>> detached = new ArrayList<>();
+
+    /**
+     * @param members  The transmitters that are still part of the network.
+     * @param excluded Transmitters that are still part of the network but should not be walked through, as they are about to leave it.
+     */
+    public NetworkSplitFinder(Set<IGridTransmitter<ACCEPTOR, NETWORK, BUFFER>> members, Set<IGridTransmitter<ACCEPTOR, NETWORK, BUFFER>> excluded) {
+        this.members = members;
+        this.excluded = excluded;
+        owners.defaultReturnValue(-1);
+    }
+
+    public void start(Collection<IGridTransmitter<ACCEPTOR, NETWORK, BUFFER>> seeds) {
+        for (IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> seed : seeds) {
+            if (!owners.containsKey(seed)) {
+                Search search = new Search(searches.size());
+                searches.add(search);
+                search.visit(seed);
+            }
+        }
+        int running = searches.size();
+        while (running > 1) {
+            for (Search search : searches) {
+                if (!search.isRunning()) {
+                    continue;
+                }
+                if (search.queue.isEmpty()) {
+                    //Nothing else is reachable from this search so it is an entire detached part
+                    search.finished = true;
+                    detached.add(search.visited);
+                    running--;
+                } else {
+                    running -= search.iterate(search.queue.removeFirst());
+                }
+                if (running <= 1) {
+                    break;
+                }
+            }
+        }
+    }
+
+    private Search find(int index) {
+        Search search = searches.get(index);
+        while (search.joinedInto != null) {
+            search = search.joinedInto;
+        }
+        return search;
+    }
+
+    private class Search {
+
+        private final int index;
+        private final Deque<IGridTransmitter<ACCEPTOR, NETWORK, BUFFER>> queue = new ArrayDeque<>();
+        private List<IGridTransmitter<ACCEPTOR, NETWORK, BUFFER>> visited = new ArrayList<>();
+        private Search joinedInto;
+        private boolean finished;
+
+        private Search(int index) {
+            this.index = index;
+        }
+
+        private boolean isRunning() {
+            return !finished && joinedInto == null;
+        }
+
+        private void visit(IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> transmitter) {
+            owners.put(transmitter, index);
+            visited.add(transmitter);
+            queue.addLast(transmitter);
+        }
+
+        /**
+         * @return The number of other searches that got joined into this one.
+         */
+        private int iterate(IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> from) {
+            int joined = 0;
+            for (Direction side : DIRECTIONS) {
+                Coord4D coord = from.getAdjacentConnectableTransmitterCoord(side);
+                if (coord == null) {
+                    continue;
+                }
+                IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> adjacent = from.getExternalTransmitter(coord);
+                if (adjacent == null || !members.contains(adjacent) || excluded.contains(adjacent)) {
+                    continue;
+                }
+                int owner = owners.getInt(adjacent);
+                if (owner == -1) {
+                    visit(adjacent);
+                } else {
+                    Search other = find(owner);
+                    if (other != this && !other.finished) {
+                        join(other);
+                        joined++;
+                    }
+                }
+            }
+            return joined;
+        }
+
+        private void join(Search other) {
+            queue.addAll(other.queue);
+            visited.addAll(other.visited);
+            other.queue.clear();
+            other.visited = null;
+            other.joinedInto = this;
+        }
+    }
+}
\ No newline at end of file
@@ -1,15 +1,39 @@
 package mekanism.api.transmitters;
 
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import it.unimi.dsi.fastutil.objects.Object2ObjectLinkedOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Deque;
-import java.util.LinkedList;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.IntSupplier;
 import mekanism.api.Coord4D;
 import mekanism.api.MekanismAPI;
 import net.minecraft.util.Direction;
+import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.text.ITextComponent;
+import net.minecraft.world.World;
+import net.minecraft.world.dimension.DimensionType;
 import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.event.TickEvent.Phase;
 import net.minecraftforge.event.TickEvent.ServerTickEvent;
@@ -27,11 +51,41 @@ public class TransmitterNetworkRegistry {
     private static TransmitterNetworkRegistry INSTANCE = new TransmitterNetworkRegistry();
     private static boolean loaderRegistered = false;
     private static Logger logger = LogManager.getLogger("MekanismTransmitters");
+    private static BooleanSupplier parallelPlanning = () -> false;
+    private static IntSupplier orphanTickBudget = () -> 0;
+    /**
+     * Threads that plan networks alongside the server thread. The server thread hands out at most one task per thread each tick and waits for them, so the queue
+     * never grows past that.
+     */
+    private static final int PLANNING_THREADS = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1));
+    private static final ExecutorService PLANNING_EXECUTOR = createPlanningExecutor();
+    /**
+     * How many networks a thread takes to plan at a time. Planning a network only takes a few microseconds, so fewer than this many are not worth handing off.
+     */
+    private static final int PLANNING_BATCH = 64;
     private Set<DynamicNetwork<?, ?, ?>> networks = new ObjectOpenHashSet<>();
+    private Map<UUID, DynamicNetwork<?, ?, ?>> networksByID = new Object2ObjectOpenHashMap<>();
     private Set<DynamicNetwork<?, ?, ?>> networksToChange = new ObjectOpenHashSet<>();
     private Set<IGridTransmitter<?, ?, ?>> invalidTransmitters = new ObjectOpenHashSet<>();
-    private Map<Coord4D, IGridTransmitter<?, ?, ?>> orphanTransmitters = new Object2ObjectOpenHashMap<>();
+    /**
+     * Orphans waiting to be put into a network, by dimension and then by position packed with {@link BlockPos#toLong()}. Ones that there was no time left for in a tick
+     * stay here until the next tick.
+     */
+    private Map<DimensionType, Long2ObjectMap<IGridTransmitter<?, ?, ?>>> orphanTransmitters = new Object2ObjectOpenHashMap<>();
     private Map<Coord4D, IGridTransmitter<?, ?, ?>> newOrphanTransmitters = new Object2ObjectOpenHashMap<>();
+    /**
+     * Smoothed nanoseconds spent in each {@link TickPhase} per tick.
+     */
+    private double[] phaseNanos = new double[TickPhase.values().length];
+    /**
+     * Networks that can be planned ahead of their tick, as no other network of the same type is connected to any of their acceptors. Only found again when networks
+     * or their acceptors change, null until then.
+     */
+    private List<DynamicNetwork<?, ?, ?>> plannableNetworks;
+    /**
+     * The awake networks out of {@link #plannableNetworks} that are being planned this tick.
+     */
+    private List<DynamicNetwork<?, ?, ?>> planning = new ArrayList<>();
 
     public static void initiate() {
         if (!loaderRegistered) {
@@ -42,10 +96,38 @@ public class TransmitterNetworkRegistry {
 
     public static void reset() {
         getInstance().networks.clear();
+        getInstance().networksByID.clear();
         getInstance().networksToChange.clear();
         getInstance().invalidTransmitters.clear();
         getInstance().orphanTransmitters.clear();
         getInstance().newOrphanTransmitters.clear();
+        getInstance().plannableNetworks = null;
+    }
+
+    private static ExecutorService createPlanningExecutor() {
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(PLANNING_THREADS, PLANNING_THREADS, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "Mekanism Network Planning #" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * Sets whether networks work out how to split what they send between their acceptors on other threads, before they tick on the server thread.
+     */
+    public static void setParallelPlanning(BooleanSupplier parallelPlanning) {
+        TransmitterNetworkRegistry.parallelPlanning = parallelPlanning;
+    }
+
+    /**
+     * Sets how many milliseconds each tick can spend finding networks for orphan transmitters, zero or less for no limit. Any orphans that are left over get
+     * handled in the following ticks.
+     */
+    public static void setOrphanTickBudget(IntSupplier orphanTickBudget) {
+        TransmitterNetworkRegistry.orphanTickBudget = orphanTickBudget;
     }
 
     public static void invalidateTransmitter(IGridTransmitter<?, ?, ?> transmitter) {
@@ -70,11 +152,22 @@ public class TransmitterNetworkRegistry {
 
     public void registerNetwork(DynamicNetwork<?, ?, ?> network) {
         networks.add(network);
+        networksByID.put(network.getNetworkID(), network);
+        plannableNetworks = null;
     }
 
     public void removeNetwork(DynamicNetwork<?, ?, ?> network) {
         networks.remove(network);
+        networksByID.remove(network.getNetworkID(), network);
         networksToChange.remove(network);
+        plannableNetworks = null;
+    }
+
+    /**
+     * Called when an acceptor gets added to or removed from a network, as that may change which networks share acceptors.
+     */
+    public void acceptorsChanged() {
+        plannableNetworks = null;
     }
 
     @SubscribeEvent
@@ -85,12 +178,120 @@ public class TransmitterNetworkRegistry {
     }
 
     public void tickEnd() {
+        long start = System.nanoTime();
         removeInvalidTransmitters();
+        long invalidated = System.nanoTime();
         assignOrphans();
+        long assigned = System.nanoTime();
         commitChanges();
+        long committed = System.nanoTime();
+        if (parallelPlanning.getAsBoolean()) {
+            planNetworks();
+        }
+        for (DynamicNetwork<?, ?, ?> net : networks) {
+            if (net.isDormant()) {
+                net.tickDormant();
+            } else {
+                long tickStart = System.nanoTime();
+                net.tick();
+                net.getProfile().addTickTime(System.nanoTime() - tickStart);
+            }
+            net.getProfile().endTick();
+        }
+        long ticked = System.nanoTime();
+        recordPhase(TickPhase.INVALID_TRANSMITTERS, invalidated - start);
+        recordPhase(TickPhase.ORPHANS, assigned - invalidated);
+        recordPhase(TickPhase.COMMIT, committed - assigned);
+        recordPhase(TickPhase.NETWORKS, ticked - committed);
+    }
+
+    /**
+     * Gathers each awake network that can be planned on the server thread, and then plans them on the planning threads with the server thread planning some as well.
+     * The networks still tick in the same order as always afterwards, sending what was planned.
+     */
+    private void planNetworks() {
+        if (plannableNetworks == null) {
+            plannableNetworks = findPlannableNetworks();
+        }
+        planning.clear();
+        for (DynamicNetwork<?, ?, ?> net : plannableNetworks) {
+            if (!net.isDormant()) {
+                long start = System.nanoTime();
+                net.gatherTick();
+                net.getProfile().addTickTime(System.nanoTime() - start);
+                planning.add(net);
+            }
+        }
+        AtomicInteger nextBatch = new AtomicInteger();
+        Runnable planner = () -> {
+            int start;
+            while ((start = nextBatch.getAndAdd(PLANNING_BATCH)) < planning.size()) {
+                for (int i = start, end = Math.min(start + PLANNING_BATCH, planning.size()); i < end; i++) {
+                    planNetwork(planning.get(i));
+                }
+            }
+        };
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[Math.min(PLANNING_THREADS, planning.size() / PLANNING_BATCH)];
+        for (int i = 0; i < futures.length; i++) {
+            futures[i] = CompletableFuture.runAsync(planner, PLANNING_EXECUTOR);
+        }
+        planner.run();
+        //Planning never touches the world, so waiting for it can not hold up anything the planning threads need
+        CompletableFuture.allOf(futures).join();
+    }
+
+    private static void planNetwork(DynamicNetwork<?, ?, ?> net) {
+        long start = System.nanoTime();
+        try {
+            net.planTick();
+        } catch (RuntimeException e) {
+            //The network plans itself when it ticks instead
+            logger.error("Failed to plan network", e);
+        }
+        net.getProfile().addTickTime(System.nanoTime() - start);
+    }
+
+    /**
+     * Finds the networks that can be planned ahead of their tick. Networks of the same type that share an acceptor have always ticked one after the other, with the
+     * later ones seeing what the earlier ones sent, so they are left to do that. Networks of different types do not change how much of each other's type an acceptor
+     * wants, so they do not get in the way of each other being planned.
+     */
+    private List<DynamicNetwork<?, ?, ?>> findPlannableNetworks() {
+        Map<DimensionType, Map<Class<?>, Long2ObjectMap<DynamicNetwork<?, ?, ?>>>> owners = new Object2ObjectOpenHashMap<>();
+        Set<DynamicNetwork<?, ?, ?>> shared = new ObjectOpenHashSet<>();
+        List<DynamicNetwork<?, ?, ?>> candidates = new ArrayList<>();
         for (DynamicNetwork<?, ?, ?> net : networks) {
-            net.tick();
+            if (!net.canPlanTick() || net.getWorld() == null) {
+                continue;
+            }
+            candidates.add(net);
+            Long2ObjectMap<DynamicNetwork<?, ?, ?>> acceptorOwners = owners.computeIfAbsent(net.getWorld().getDimension().getType(),
+                  dimension -> new Object2ObjectOpenHashMap<>()).computeIfAbsent(net.getClass(), type -> new Long2ObjectOpenHashMap<>());
+            for (LongIterator iterator = net.getAcceptorDirections().keySet().iterator(); iterator.hasNext(); ) {
+                DynamicNetwork<?, ?, ?> owner = acceptorOwners.putIfAbsent(iterator.nextLong(), net);
+                if (owner != null) {
+                    shared.add(owner);
+                    shared.add(net);
+                }
+            }
         }
+        candidates.removeIf(shared::contains);
+        return candidates;
+    }
+
+    private void recordPhase(TickPhase phase, long nanos) {
+        phaseNanos[phase.ordinal()] = NetworkProfile.smooth(phaseNanos[phase.ordinal()], nanos);
+    }
+
+    /**
+     * @return Nanoseconds spent in the given phase per tick, smoothed over the last second or so.
+     */
+    public double getPhaseNanos(TickPhase phase) {
+        return phaseNanos[phase.ordinal()];
+    }
+
+    public Set<DynamicNetwork<?, ?, ?>> getNetworks() {
+        return Collections.unmodifiableSet(networks);
     }
 
     public void removeInvalidTransmitters() {
@@ -98,35 +299,147 @@ public class TransmitterNetworkRegistry {
             logger.info("Dealing with " + invalidTransmitters.size() + " invalid Transmitters");
         }
 
+        Map<DynamicNetwork<?, ?, ?>, Set<IGridTransmitter<?, ?, ?>>> changedNetworks = new Object2ObjectLinkedOpenHashMap<>();
         for (IGridTransmitter<?, ?, ?> invalid : invalidTransmitters) {
             if (!(invalid.isOrphan() && invalid.isValid())) {
                 DynamicNetwork<?, ?, ?> n = invalid.getTransmitterNetwork();
                 if (n != null) {
-                    n.invalidate();
+                    changedNetworks.computeIfAbsent(n, network -> new ObjectOpenHashSet<>()).add(invalid);
                 }
             }
         }
 
         invalidTransmitters.clear();
+
+        //Only split off the parts of the networks that actually got disconnected rather than rebuilding each network from scratch
+        for (Entry<DynamicNetwork<?, ?, ?>, Set<IGridTransmitter<?, ?, ?>>> entry : changedNetworks.entrySet()) {
+            DynamicNetwork<?, ?, ?> network = entry.getKey();
+            long start = System.nanoTime();
+            ((DynamicNetwork) network).split(entry.getValue());
+            network.getProfile().addInvalidateTime(System.nanoTime() - start);
+        }
     }
 
     public void assignOrphans() {
-        orphanTransmitters = new Object2ObjectOpenHashMap<>(newOrphanTransmitters);
+        for (Entry<Coord4D, IGridTransmitter<?, ?, ?>> entry : newOrphanTransmitters.entrySet()) {
+            Coord4D coord = entry.getKey();
+            orphanTransmitters.computeIfAbsent(coord.dimension, dimension -> new Long2ObjectOpenHashMap<>()).put(pack(coord), entry.getValue());
+        }
         newOrphanTransmitters.clear();
+        if (orphanTransmitters.isEmpty()) {
+            return;
+        }
 
-        if (MekanismAPI.debug && !orphanTransmitters.isEmpty()) {
-            logger.info("Dealing with " + orphanTransmitters.size() + " orphan Transmitters");
+        if (MekanismAPI.debug) {
+            logger.info("Dealing with " + orphanTransmitters.values().stream().mapToInt(Map::size).sum() + " orphan Transmitters");
         }
 
-        for (IGridTransmitter<?, ?, ?> orphanTransmitter : new Object2ObjectOpenHashMap<>(orphanTransmitters).values()) {
-            DynamicNetwork<?, ?, ?> network = getNetworkFromOrphan(orphanTransmitter);
-            if (network != null) {
-                networksToChange.add(network);
-                network.register();
+        int budget = orphanTickBudget.getAsInt();
+        long deadline = budget > 0 ? System.nanoTime() + budget * 1_000_000L : Long.MAX_VALUE;
+        boolean searched = false;
+        for (Iterator<Long2ObjectMap<IGridTransmitter<?, ?, ?>>> iterator = orphanTransmitters.values().iterator(); iterator.hasNext(); ) {
+            Long2ObjectMap<IGridTransmitter<?, ?, ?>> orphans = iterator.next();
+            reattachOrphans(orphans);
+            //Each search has to be finished in the tick it is started in, so only check the time between them
+            for (IGridTransmitter<?, ?, ?> orphanTransmitter : new ArrayList<>(orphans.values())) {
+                if (searched && System.nanoTime() > deadline) {
+                    if (MekanismAPI.debug) {
+                        logger.info("Ran out of time, leaving " + orphans.size() + " orphan Transmitters for the next tick");
+                    }
+                    return;
+                }
+                long pos = orphanTransmitter.getPos().toLong();
+                if (orphans.get(pos) != orphanTransmitter) {
+                    //Already dealt with by an earlier search
+                    continue;
+                }
+                DynamicNetwork<?, ?, ?> network = getNetworkFromOrphan(orphanTransmitter);
+                searched = true;
+                //The orphan has either joined a network or is no longer valid, so it does not need to be looked at again
+                orphans.remove(pos);
+                if (network != null) {
+                    networksToChange.add(network);
+                    network.register();
+                }
             }
+            iterator.remove();
         }
+    }
 
-        orphanTransmitters.clear();
+    private static long pack(Coord4D coord) {
+        return BlockPos.pack(coord.x, coord.y, coord.z);
+    }
+
+    /**
+     * Puts orphans that were saved as part of a network straight back into it, without walking the transmitters to find the network. This is only done when every
+     * network next to the orphan is the one it was saved in, or when that network is not loaded and nothing next to the orphan is in a network, in which case the
+     * network gets created again with the same ID. Anything else, such as the orphan being next to a network it was not saved in or being separated from the network
+     * it was saved in, means the saved network is no longer accurate and the orphan is left for {@link OrphanPathFinder}.
+     */
+    private void reattachOrphans(Long2ObjectMap<IGridTransmitter<?, ?, ?>> orphans) {
+        Deque<IGridTransmitter<?, ?, ?>> queue = new ArrayDeque<>(orphans.values());
+        while (!queue.isEmpty()) {
+            IGridTransmitter<?, ?, ?> orphan = queue.removeFirst();
+            if (reattachOrphan(orphan)) {
+                orphans.remove(orphan.getPos().toLong());
+                //Orphans next to this one may now be next to their network
+                for (Direction side : DIRECTIONS) {
+                    Coord4D adjacentCoord = orphan.getAdjacentConnectableTransmitterCoord(side);
+                    if (adjacentCoord != null) {
+                        IGridTransmitter<?, ?, ?> adjacent = orphans.get(pack(adjacentCoord));
+                        if (adjacent != null) {
+                            queue.addLast(adjacent);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private <A, N extends DynamicNetwork<A, N, BUFFER>, BUFFER> boolean reattachOrphan(IGridTransmitter<A, N, BUFFER> orphan) {
+        UUID networkID = orphan.getStoredNetworkID();
+        if (networkID == null || !orphan.isValid() || !orphan.isOrphan()) {
+            return false;
+        }
+        N network = null;
+        Coord4D coord = orphan.coord();
+        for (Direction side : DIRECTIONS) {
+            if (side.getAxis().isHorizontal() && !orphan.world().isBlockLoaded(coord.getPos().offset(side))) {
+                continue;
+            }
+            Coord4D adjacentCoord = orphan.getAdjacentConnectableTransmitterCoord(side);
+            if (adjacentCoord == null) {
+                continue;
+            }
+            IGridTransmitter<A, N, BUFFER> adjacent = orphan.getExternalTransmitter(adjacentCoord);
+            if (adjacent == null || !adjacent.hasTransmitterNetwork()) {
+                continue;
+            }
+            N adjacentNetwork = adjacent.getTransmitterNetwork();
+            if ((network != null && network != adjacentNetwork) || !networkID.equals(adjacentNetwork.getNetworkID()) || !adjacent.isCompatibleWith(orphan)) {
+                //Next to a network it was not saved in, which may need merging
+                return false;
+            }
+            network = adjacentNetwork;
+        }
+        if (network == null) {
+            if (networksByID.containsKey(networkID)) {
+                //The network it was saved in is loaded but not next to it, so it got separated from it
+                return false;
+            }
+            network = orphan.createEmptyNetwork();
+            network.setNetworkID(networkID);
+            network.register();
+        } else if (!network.compatibleWithBuffer(orphan.getBuffer())) {
+            return false;
+        }
+        orphan.setOrphan(false);
+        orphan.clearStoredNetworkID();
+        //Set the network right away rather than when it is committed so that orphans next to this one can see it
+        orphan.setTransmitterNetwork(network);
+        network.addNewTransmitters(Collections.singleton(orphan));
+        networksToChange.add(network);
+        return true;
     }
 
     public <A, N extends DynamicNetwork<A, N, BUFFER>, BUFFER> DynamicNetwork<A, N, BUFFER> getNetworkFromOrphan(IGridTransmitter<A, N, BUFFER> startOrphan) {
@@ -156,6 +469,9 @@ public class TransmitterNetworkRegistry {
             }
 
             network.addNewTransmitters(finder.connectedTransmitters);
+            for (IGridTransmitter<A, N, BUFFER> transmitter : finder.connectedTransmitters) {
+                finder.orphans.remove(transmitter.getPos().toLong());
+            }
 
             if (finder.someNetworksFailed) {
                 //At least one network that connection was attempted with is not compatible
@@ -170,7 +486,9 @@ public class TransmitterNetworkRegistry {
 
     public void commitChanges() {
         for (DynamicNetwork<?, ?, ?> network : networksToChange) {
+            long start = System.nanoTime();
             network.commit();
+            network.getProfile().addCommitTime(System.nanoTime() - start);
         }
         networksToChange.clear();
     }
@@ -190,56 +508,74 @@ public class TransmitterNetworkRegistry {
         return components;
     }
 
+    /**
+     * The parts of each tick the registry keeps track of the time of.
+     */
+    public enum TickPhase {
+        INVALID_TRANSMITTERS,
+        ORPHANS,
+        COMMIT,
+        NETWORKS
+    }
+
     public class OrphanPathFinder<A, N extends DynamicNetwork<A, N, BUFFER>, BUFFER> {
 
         public IGridTransmitter<A, N, BUFFER> startPoint;
 
-        public Set<Coord4D> iterated = new ObjectOpenHashSet<>();
+        public LongSet iterated = new LongOpenHashSet();
 
         public Set<IGridTransmitter<A, N, BUFFER>> connectedTransmitters = new ObjectOpenHashSet<>();
         public Set<N> networksFound = new ObjectOpenHashSet<>();
 
-        private Deque<Coord4D> queue = new LinkedList<>();
+        private final World world;
+        private final Long2ObjectMap<IGridTransmitter<?, ?, ?>> orphans;
+        private LongArrayFIFOQueue queue = new LongArrayFIFOQueue();
+        /**
+         * The {@link IGridTransmitter#getCompatibilityKey() compatibility keys} of the connected transmitters, so that a transmitter can be checked against all of them
+         * at once.
+         */
+        private Set<Object> compatibilityKeys = new ObjectOpenHashSet<>();
+        private boolean connectedToWildcard;
 
         public boolean someNetworksFailed;
 
         public OrphanPathFinder(IGridTransmitter<A, N, BUFFER> start) {
             startPoint = start;
+            world = start.world();
+            orphans = orphanTransmitters.getOrDefault(world.getDimension().getType(), new Long2ObjectOpenHashMap<>());
         }
 
         public void start() {
-            if (queue.peek() != null) {
+            if (!queue.isEmpty()) {
                 logger.error("OrphanPathFinder queue was not empty?!");
                 queue.clear();
             }
-            queue.push(startPoint.coord());
-            while (queue.peek() != null) {
-                iterate(queue.removeFirst());
+            queue.enqueue(startPoint.getPos().toLong());
+            while (!queue.isEmpty()) {
+                iterate(queue.dequeueLong());
             }
         }
 
-        public void iterate(Coord4D from) {
-            if (iterated.contains(from)) {
+        public void iterate(long from) {
+            if (!iterated.add(from)) {
                 return;
             }
 
-            iterated.add(from);
-
-            if (orphanTransmitters.containsKey(from)) {
-                IGridTransmitter<A, N, BUFFER> transmitter = (IGridTransmitter<A, N, BUFFER>) orphanTransmitters.get(from);
-
-                if (transmitter.isValid() && transmitter.isOrphan() &&
-                    (connectedTransmitters.isEmpty() || connectedTransmitters.stream().anyMatch(existing -> existing.isCompatibleWith(transmitter)))) {
-                    connectedTransmitters.add(transmitter);
-                    transmitter.setOrphan(false);
-
+            IGridTransmitter<A, N, BUFFER> transmitter = (IGridTransmitter<A, N, BUFFER>) orphans.get(from);
+            if (transmitter != null) {
+                if (transmitter.isValid() && transmitter.isOrphan() && isCompatible(transmitter)) {
+                    connect(transmitter);
+                    BlockPos pos = transmitter.getPos();
                     for (Direction direction : DIRECTIONS) {
-                        if (direction.getAxis().isHorizontal() && !transmitter.world().isBlockLoaded(from.getPos().offset(direction))) {
+                        if (direction.getAxis().isHorizontal() && !world.isBlockLoaded(pos.offset(direction))) {
                             continue;
                         }
                         Coord4D directionCoord = transmitter.getAdjacentConnectableTransmitterCoord(direction);
-                        if (directionCoord != null && !iterated.contains(directionCoord)) {
-                            queue.addLast(directionCoord);
+                        if (directionCoord != null) {
+                            long directionPos = pack(directionCoord);
+                            if (!iterated.contains(directionPos)) {
+                                queue.enqueue(directionPos);
+                            }
                         }
                     }
                 }
@@ -248,8 +584,31 @@ public class TransmitterNetworkRegistry {
             }
         }
 
-        public void addNetworkToIterated(Coord4D from) {
-            N net = startPoint.getExternalNetwork(from);
+        /**
+         * @return True if the transmitter is compatible with at least one of the transmitters that have been connected so far, or if none have been connected yet.
+         */
+        private boolean isCompatible(IGridTransmitter<A, N, BUFFER> transmitter) {
+            if (connectedTransmitters.isEmpty() || connectedToWildcard) {
+                return true;
+            }
+            Object key = transmitter.getCompatibilityKey();
+            return key == null || compatibilityKeys.contains(key);
+        }
+
+        private void connect(IGridTransmitter<A, N, BUFFER> transmitter) {
+            connectedTransmitters.add(transmitter);
+            transmitter.setOrphan(false);
+            transmitter.clearStoredNetworkID();
+            Object key = transmitter.getCompatibilityKey();
+            if (key == null) {
+                connectedToWildcard = true;
+            } else {
+                compatibilityKeys.add(key);
+            }
+        }
+
+        public void addNetworkToIterated(long from) {
+            N net = startPoint.getExternalNetwork(new Coord4D(BlockPos.fromLong(from), world));
             //Make sure that there is an external network and that it is compatible with this buffer
             if (net != null && net.compatibleWithBuffer(startPoint.getBuffer())) {
                 if (networksFound.isEmpty() || networksFound.iterator().next().isCompatibleWith(net)) {
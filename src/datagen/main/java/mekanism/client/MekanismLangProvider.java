@@ -358,6 +358,9 @@ public class MekanismLangProvider extends BaseLanguageProvider {
         add(MekanismLang.COMMAND_TP, "Teleported to %d, %d, %d - saved last position on stack");
         add(MekanismLang.COMMAND_TPOP, "Returned to %d, %d, %d; %d positions on stack");
         add(MekanismLang.COMMAND_TPOP_EMPTY, "No positions on stack");
+        add(MekanismLang.COMMAND_NETWORKS, "%s networks, %s asleep. Per tick: %s ms removing transmitters, %s ms on orphans, %s ms committing, %s ms ticking");
+        add(MekanismLang.COMMAND_NETWORKS_ENTRY, "%s. %s At %d, %d, %d in %s");
+        add(MekanismLang.COMMAND_NETWORKS_COST, " - %s ms/t moving %s, %s commits taking %s ms, %s splits taking %s ms");
         //Tooltip stuff
         add(MekanismLang.MODE, "Mode: %s");
         add(MekanismLang.FIRE_MODE, "Fire Mode: %s");
@@ -590,6 +593,7 @@ public class MekanismLangProvider extends BaseLanguageProvider {
         add(MekanismLang.HEAT_NETWORK_FLOW_EFFICIENCY, "%s transferred to acceptors, %s lost to environment, %s% efficiency.");
         add(MekanismLang.FLUID_NETWORK_NEEDED, "%s buckets");
         add(MekanismLang.NETWORK_MB_PER_TICK, "%s mB/t");
+        add(MekanismLang.NETWORK_ITEMS_PER_TICK, "%s items/t");
         add(MekanismLang.NETWORK_MB_STORED, "%s (%s mB)");
         //Button
         add(MekanismLang.BUTTON_CONFIRM, "Confirm");
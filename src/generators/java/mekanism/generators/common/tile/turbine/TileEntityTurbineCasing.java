@@ -104,8 +104,11 @@ public class TileEntityTurbineCasing extends TileEntityMultiblock<SynchronizedTu
     @Override
     public void setEnergy(double energy) {
         if (structure != null) {
-            structure.electricityStored = Math.max(Math.min(energy, getMaxEnergy()), 0);
-            MekanismUtils.saveChunk(this);
+            double newEnergy = Math.max(Math.min(energy, getMaxEnergy()), 0);
+            if (newEnergy != structure.electricityStored) {
+                structure.electricityStored = newEnergy;
+                MekanismUtils.saveChunk(this);
+            }
         }
     }
 
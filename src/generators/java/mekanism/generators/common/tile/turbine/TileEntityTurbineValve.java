@@ -65,6 +65,11 @@ public class TileEntityTurbineValve extends TileEntityTurbineCasing implements I
         return 0;
     }
 
+    @Override
+    public double getEnergyNeeded(Direction side) {
+        return 0;
+    }
+
     @Override
     public double pullEnergy(Direction side, double amount, boolean simulate) {
         double toGive = Math.min(getEnergy(), amount);
@@ -0,0 +1,98 @@
+package mekanism.common.content.transporter;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import mekanism.api.Coord4D;
+import mekanism.common.content.transporter.TransporterLayouts.Layout;
+import mekanism.common.content.transporter.TransporterPathfinder.Pathfinder;
+import mekanism.common.util.EnumUtils;
+import net.minecraft.util.math.BlockPos;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the search over a {@link TransporterAdjacency} against the search that looked at where a stack could go one transporter at a time in {@link
+ * LegacyPathfinder}. Each invocation does the same fixed set of searches from uncolored transporters to spots next to other transporters of the layout, picked so that
+ * there is a path for each of them as most of the random searches in a maze can not get anywhere. Grids have lots of equally good paths to pick between, mazes have
+ * long winding paths that go far from the straight line to the destination.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PathfinderBenchmark {
+
+    private static final int SEARCHES = 20;
+    private static final byte ALL_SIDES = (byte) ((1 << EnumUtils.DIRECTIONS.length) - 1);
+
+    @Param({"grid", "maze"})
+    private String shape;
+    /**
+     * The number of transporters along each side of the layout. A maze has walls between its paths, so it has about half as many transporters as a grid of the same
+     * size.
+     */
+    @Param({"15", "45"})
+    private int size;
+
+    private Layout layout;
+    private TransporterAdjacency adjacency;
+    private int[] starts;
+    private BlockPos[] destinations;
+    private Coord4D[] destinationCoords;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(0);
+        layout = "maze".equals(shape) ? TransporterLayouts.maze(size / 2, random) : TransporterLayouts.grid(size, random);
+        adjacency = layout.adjacency();
+        starts = new int[SEARCHES];
+        destinations = new BlockPos[SEARCHES];
+        destinationCoords = new Coord4D[SEARCHES];
+        for (int i = 0; i < SEARCHES; i++) {
+            int start;
+            BlockPos destination;
+            do {
+                start = random.nextInt(layout.size());
+                destination = layout.positions[random.nextInt(layout.size())].offset(EnumUtils.DIRECTIONS[random.nextInt(EnumUtils.DIRECTIONS.length)]);
+            } while (layout.colors[start] != null || layout.indexOf(destination) != -1 || !new LegacyPathfinder(layout, destination, null, ALL_SIDES).find(
+                  layout.positions[start]));
+            starts[i] = start;
+            destinations[i] = destination;
+            destinationCoords[i] = layout.coord(destination);
+        }
+    }
+
+    @Benchmark
+    public int pathfinder() {
+        int found = 0;
+        Pathfinder pathfinder = Pathfinder.get();
+        for (int i = 0; i < SEARCHES; i++) {
+            if (pathfinder.find(adjacency, destinationCoords[i], starts[i], null, ALL_SIDES)) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    @Benchmark
+    public int legacyPathfinder() {
+        int found = 0;
+        for (int i = 0; i < SEARCHES; i++) {
+            if (new LegacyPathfinder(layout, destinations[i], null, ALL_SIDES).find(layout.positions[starts[i]])) {
+                found++;
+            }
+        }
+        return found;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,108 @@
+package mekanism.common.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import mekanism.common.util.SplitFixtures.DoubleHandlerTarget;
+import mekanism.common.util.SplitFixtures.Handler;
+import mekanism.common.util.SplitFixtures.IntegerHandlerTarget;
+import net.minecraft.util.Direction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares splitting between acceptors with {@link EmitUtils#sendToAcceptors} against the old split in {@link LegacySplit}, which kept what each handler needed in
+ * boxed maps. Every acceptor has a handler on each side, and half of the handlers want less than an even share. Run with {@code -prof gc} to see how much each split
+ * allocates.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SplitBenchmark {
+
+    private static final int AMOUNT = 100_000;
+
+    @Param({"10", "100", "500"})
+    private int acceptors;
+    /**
+     * How the demands are laid out, random has half of the handlers wanting less than an even share in no particular order. Descending has every handler want a
+     * little less than the one before it, which is the order that makes the old split go over the handlers that want more the most times.
+     */
+    @Param({"random", "descending"})
+    private String demands;
+
+    private List<List<Handler>> layout;
+    private List<IntegerHandlerTarget> integerTargets;
+    private List<DoubleHandlerTarget> doubleTargets;
+    //Boxed once so that the benchmark itself does not allocate when passing it as the extra information
+    private Integer toSend;
+
+    @Setup
+    public void setup() {
+        if ("descending".equals(demands)) {
+            layout = SplitFixtures.descendingLayout(acceptors, AMOUNT);
+        } else {
+            Random random = new Random(0);
+            int handlers = acceptors * EnumUtils.DIRECTIONS.length;
+            layout = new ArrayList<>(acceptors);
+            for (int i = 0; i < acceptors; i++) {
+                List<Handler> sides = new ArrayList<>(EnumUtils.DIRECTIONS.length);
+                for (Direction side : EnumUtils.DIRECTIONS) {
+                    sides.add(new Handler(side, random.nextInt(2 * AMOUNT / handlers + 1)));
+                }
+                layout.add(sides);
+            }
+        }
+        integerTargets = SplitFixtures.integerTargets(layout);
+        doubleTargets = SplitFixtures.doubleTargets(layout);
+        toSend = AMOUNT;
+    }
+
+    @Benchmark
+    public int integerSplit() {
+        reset();
+        return EmitUtils.sendToAcceptors(integerTargets, AMOUNT, toSend);
+    }
+
+    @Benchmark
+    public int legacyIntegerSplit() {
+        reset();
+        return LegacySplit.sendToAcceptors(layout, AMOUNT);
+    }
+
+    @Benchmark
+    public double doubleSplit() {
+        reset();
+        return EmitUtils.sendToAcceptors(doubleTargets, AMOUNT);
+    }
+
+    @Benchmark
+    public double legacyDoubleSplit() {
+        reset();
+        return LegacySplit.sendToAcceptors(layout, (double) AMOUNT);
+    }
+
+    /**
+     * The handlers are shared by all the splits, so forget what they received last time.
+     */
+    private void reset() {
+        for (List<Handler> handlers : layout) {
+            for (Handler handler : handlers) {
+                handler.received = 0;
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -2,6 +2,7 @@ package mekanism.common;
 
 import mekanism.api.text.EnumColor;
 import mekanism.common.block.BlockCardboardBox;
+import mekanism.common.content.transporter.TransporterSyncBatcher;
 import mekanism.common.network.PacketClearRecipeCache;
 import mekanism.common.network.PacketFlamethrowerData;
 import mekanism.common.network.PacketFreeRunnerData;
@@ -56,6 +57,7 @@ public class CommonPlayerTracker {
     public void onPlayerLogoutEvent(PlayerLoggedOutEvent event) {
         Mekanism.playerState.clearPlayer(event.getPlayer().getUniqueID());
         Mekanism.freeRunnerOn.remove(event.getPlayer().getUniqueID());
+        TransporterSyncBatcher.playerLoggedOut(event.getPlayer().getUniqueID());
     }
 
     @SubscribeEvent
@@ -7,8 +7,10 @@ import java.util.Queue;
 import java.util.Random;
 import mekanism.common.chunkloading.ChunkManager;
 import mekanism.common.config.MekanismConfig;
+import mekanism.common.content.transporter.TransporterSyncBatcher;
 import mekanism.common.frequency.FrequencyManager;
 import mekanism.common.multiblock.MultiblockManager;
+import mekanism.common.world.DirtyChunkTracker;
 import mekanism.common.world.GenHandler;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.math.ChunkPos;
@@ -16,9 +18,12 @@ import net.minecraft.world.World;
 import net.minecraft.world.dimension.DimensionType;
 import net.minecraft.world.server.ServerWorld;
 import net.minecraftforge.event.TickEvent.Phase;
+import net.minecraftforge.event.TickEvent.ServerTickEvent;
 import net.minecraftforge.event.TickEvent.WorldTickEvent;
 import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.eventbus.api.EventPriority;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.server.ServerLifecycleHooks;
 
 public class CommonWorldTickHandler {
 
@@ -59,6 +64,16 @@ public class CommonWorldTickHandler {
         }
     }
 
+    /**
+     * Runs after the transmitter networks have ticked, so that the chunks of anything they changed get marked before the next tick unloads and saves chunks.
+     */
+    @SubscribeEvent(priority = EventPriority.LOWEST)
+    public void onServerTick(ServerTickEvent event) {
+        if (event.side.isServer() && event.phase == Phase.END) {
+            DirtyChunkTracker.flushAll(ServerLifecycleHooks.getCurrentServer());
+        }
+    }
+
     @SubscribeEvent
     public void onTick(WorldTickEvent event) {
         if (event.side.isServer() && event.phase == Phase.END) {
@@ -70,6 +85,8 @@ public class CommonWorldTickHandler {
         if (!world.isRemote) {
             MultiblockManager.tick(world);
             FrequencyManager.tick(world);
+            DirtyChunkTracker.flush(world);
+            TransporterSyncBatcher.flush(world);
             if (chunkRegenMap == null || !MekanismConfig.world.enableRegeneration.get()) {
                 return;
             }
@@ -26,8 +26,8 @@ import mekanism.common.content.boiler.SynchronizedBoilerData;
 import mekanism.common.content.entangloporter.InventoryFrequency;
 import mekanism.common.content.matrix.SynchronizedMatrixData;
 import mekanism.common.content.tank.SynchronizedTankData;
-import mekanism.common.content.transporter.PathfinderCache;
 import mekanism.common.content.transporter.TransporterManager;
+import mekanism.common.content.transporter.TransporterSyncBatcher;
 import mekanism.common.frequency.Frequency;
 import mekanism.common.frequency.FrequencyManager;
 import mekanism.common.integration.MekanismHooks;
@@ -55,6 +55,7 @@ import mekanism.common.tags.MekanismTagManager;
 import mekanism.common.transmitters.grid.EnergyNetwork.EnergyTransferEvent;
 import mekanism.common.transmitters.grid.FluidNetwork.FluidTransferEvent;
 import mekanism.common.transmitters.grid.GasNetwork.GasTransferEvent;
+import mekanism.common.world.DirtyChunkTracker;
 import mekanism.common.world.GenHandler;
 import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.resources.IFutureReloadListener;
@@ -287,8 +288,9 @@ public class Mekanism {
         MultiblockManager.reset();
         FrequencyManager.reset();
         TransporterManager.reset();
-        PathfinderCache.reset();
         TransmitterNetworkRegistry.reset();
+        DirtyChunkTracker.reset();
+        TransporterSyncBatcher.reset();
     }
 
     private void imcQueue(InterModEnqueueEvent event) {
@@ -336,6 +338,8 @@ public class Mekanism {
 
         //Register with TransmitterNetworkRegistry
         TransmitterNetworkRegistry.initiate();
+        TransmitterNetworkRegistry.setParallelPlanning(MekanismConfig.general.parallelNetworkPlanning::get);
+        TransmitterNetworkRegistry.setOrphanTickBudget(MekanismConfig.general.orphanTickBudget::get);
 
         //Load this module
         hooks.hookCommonSetup();
@@ -447,6 +451,8 @@ public class Mekanism {
         // when the server shuts down
         if (event.getWorld() instanceof ServerWorld) {
             MekFakePlayer.releaseInstance(event.getWorld());
+            DirtyChunkTracker.worldUnloaded(event.getWorld());
+            TransporterSyncBatcher.worldUnloaded(event.getWorld());
         }
     }
 }
\ No newline at end of file
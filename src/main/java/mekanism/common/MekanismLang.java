@@ -61,6 +61,9 @@ public enum MekanismLang implements ILangEntry {
     COMMAND_TP("command", "tp"),
     COMMAND_TPOP("command", "tpop"),
     COMMAND_TPOP_EMPTY("command", "tpop.empty"),
+    COMMAND_NETWORKS("command", "networks"),
+    COMMAND_NETWORKS_ENTRY("command", "networks.entry"),
+    COMMAND_NETWORKS_COST("command", "networks.cost"),
     //Tooltip stuff
     MODE("tooltip", "mode"),
     FIRE_MODE("tooltip", "fire_mode"),
@@ -284,6 +287,7 @@ public enum MekanismLang implements ILangEntry {
     HEAT_NETWORK_FLOW_EFFICIENCY("network", "heat_flow.efficiency"),
     FLUID_NETWORK_NEEDED("network", "fluid_needed"),
     NETWORK_MB_PER_TICK("network", "mb_per_tick"),
+    NETWORK_ITEMS_PER_TICK("network", "items_per_tick"),
     NETWORK_MB_STORED("network", "mb_stored"),
     //Button
     BUTTON_CONFIRM("button", "confirm"),
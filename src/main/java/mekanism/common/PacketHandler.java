@@ -36,6 +36,7 @@ import mekanism.common.network.PacketSecurityMode;
 import mekanism.common.network.PacketSecurityUpdate;
 import mekanism.common.network.PacketTileEntity;
 import mekanism.common.network.PacketTransmitterUpdate;
+import mekanism.common.network.PacketTransporterBatch;
 import mekanism.common.network.container.PacketUpdateContainer;
 import mekanism.common.network.container.PacketUpdateContainerBatch;
 import mekanism.common.network.container.PacketUpdateContainerBoolean;
@@ -202,6 +203,7 @@ public class PacketHandler {
         registerServerToClient(PacketUpdateContainerInfusionStack.class, PacketUpdateContainer::encode, PacketUpdateContainerInfusionStack::decode, PacketUpdateContainer::handle);
         //Container sync packet that batches multiple changes into one packet
         registerServerToClient(PacketUpdateContainerBatch.class, PacketUpdateContainerBatch::encode, PacketUpdateContainerBatch::decode, PacketUpdateContainerBatch::handle);
+        registerServerToClient(PacketTransporterBatch.class, PacketTransporterBatch::encode, PacketTransporterBatch::decode, PacketTransporterBatch::handle);
     }
 
     //TODO: Go through and limit specific packets to the proper network direction
@@ -1,6 +1,6 @@
 package mekanism.common.base;
 
-import java.util.Optional;
+import javax.annotation.Nullable;
 import mekanism.api.Coord4D;
 import mekanism.api.energy.IStrictEnergyAcceptor;
 import mekanism.common.capabilities.Capabilities;
@@ -9,43 +9,116 @@ import mekanism.common.util.CapabilityUtils;
 import mekanism.common.util.MekanismUtils;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.Direction;
+import net.minecraftforge.common.util.LazyOptional;
 import net.minecraftforge.energy.CapabilityEnergy;
 import net.minecraftforge.energy.IEnergyStorage;
 
 public abstract class EnergyAcceptorWrapper implements IStrictEnergyAcceptor {
 
     public Coord4D coord;
-
+    /**
+     * Set once the capability this wrapper was made from gets invalidated, at which point it should no longer be reused.
+     */
+    private boolean invalidated;
+    /**
+     * This wrapper as an optional that gets invalidated along with the capability it was made from, created the first time it is asked for.
+     */
+    @Nullable
+    private LazyOptional<EnergyAcceptorWrapper> optional;
+
+    /**
+     * Gets a wrapper for the energy handler of the given tile on the given side for one time use. The wrapper does not listen for the capability it was made from being
+     * invalidated, so it should not be held onto, use {@link #get(TileEntity, Direction, EnergyAcceptorWrapper)} for wrappers that get kept between ticks.
+     */
     public static EnergyAcceptorWrapper get(TileEntity tile, Direction side) {
-        EnergyAcceptorWrapper wrapper = getNoCoord(tile, side);
-        if (wrapper != null) {
-            wrapper.coord = Coord4D.get(tile);
-        }
-        return wrapper;
+        return get(tile, side, null, false);
     }
 
-    private static EnergyAcceptorWrapper getNoCoord(TileEntity tile, Direction side) {
+    /**
+     * Gets a wrapper for the energy handler of the given tile on the given side, reusing the previous wrapper for that side if it still wraps the handler the tile gives
+     * out and the capability it came from has not been invalidated. This lets anything that looks up the same neighbours every tick hold onto the wrappers instead of
+     * creating new ones each time.
+     *
+     * @param previous The wrapper that was last returned for this tile and side, if any.
+     */
+    public static EnergyAcceptorWrapper get(TileEntity tile, Direction side, @Nullable EnergyAcceptorWrapper previous) {
+        return get(tile, side, previous, true);
+    }
+
+    /**
+     * @param keep True if the caller holds onto the wrapper, in which case a new wrapper listens for the capability it was made from being invalidated. Capabilities are
+     *             usually cached by the tile that gives them out, so listening on a wrapper that gets thrown away would add a listener that never gets removed.
+     */
+    private static EnergyAcceptorWrapper get(TileEntity tile, Direction side, @Nullable EnergyAcceptorWrapper previous, boolean keep) {
         if (tile == null || tile.getWorld() == null) {
             return null;
         }
-        Optional<IStrictEnergyAcceptor> energyAcceptorCap = MekanismUtils.toOptional(CapabilityUtils.getCapability(tile, Capabilities.ENERGY_ACCEPTOR_CAPABILITY, side));
+        LazyOptional<IStrictEnergyAcceptor> energyAcceptorCap = CapabilityUtils.getCapability(tile, Capabilities.ENERGY_ACCEPTOR_CAPABILITY, side);
         if (energyAcceptorCap.isPresent()) {
-            return new MekanismAcceptor(energyAcceptorCap.get());
+            IStrictEnergyAcceptor acceptor = energyAcceptorCap.orElseThrow(() -> new RuntimeException("Failed to retrieve value of lazy optional when it claimed it was present."));
+            if (previous instanceof MekanismAcceptor && !previous.invalidated && ((MekanismAcceptor) previous).acceptor == acceptor) {
+                return previous;
+            }
+            return create(tile, energyAcceptorCap, new MekanismAcceptor(acceptor), keep);
         }
         if (MekanismUtils.useForge()) {
-            Optional<IEnergyStorage> forgeEnergyCap = MekanismUtils.toOptional(CapabilityUtils.getCapability(tile, CapabilityEnergy.ENERGY, side));
+            LazyOptional<IEnergyStorage> forgeEnergyCap = CapabilityUtils.getCapability(tile, CapabilityEnergy.ENERGY, side);
             if (forgeEnergyCap.isPresent()) {
-                return new ForgeAcceptor(forgeEnergyCap.get());
+                IEnergyStorage storage = forgeEnergyCap.orElseThrow(() -> new RuntimeException("Failed to retrieve value of lazy optional when it claimed it was present."));
+                if (previous instanceof ForgeAcceptor && !previous.invalidated && ((ForgeAcceptor) previous).acceptor == storage) {
+                    return previous;
+                }
+                return create(tile, forgeEnergyCap, new ForgeAcceptor(storage), keep);
             }
         }
         return null;
     }
 
+    /**
+     * Gets a wrapper for the energy handler of the given tile on the given side as an optional that gets invalidated along with the capability the wrapper was made from.
+     * When the previous wrapper gets reused so does its optional.
+     *
+     * @param previous The wrapper that was last returned for this tile and side, if any.
+     */
+    public static LazyOptional<EnergyAcceptorWrapper> getOptional(TileEntity tile, Direction side, @Nullable EnergyAcceptorWrapper previous) {
+        EnergyAcceptorWrapper wrapper = get(tile, side, previous);
+        if (wrapper == null) {
+            return LazyOptional.empty();
+        }
+        if (wrapper.optional == null) {
+            wrapper.optional = LazyOptional.of(() -> wrapper);
+            if (wrapper.invalidated) {
+                wrapper.optional.invalidate();
+            }
+        }
+        return wrapper.optional;
+    }
+
+    private static EnergyAcceptorWrapper create(TileEntity tile, LazyOptional<?> capability, EnergyAcceptorWrapper wrapper, boolean keep) {
+        wrapper.coord = Coord4D.get(tile);
+        if (keep) {
+            capability.addListener(invalidated -> {
+                wrapper.invalidated = true;
+                if (wrapper.optional != null) {
+                    wrapper.optional.invalidate();
+                }
+            });
+        }
+        return wrapper;
+    }
+
+    /**
+     * @return True if the capability this wrapper was made from has been invalidated.
+     */
+    boolean isInvalidated() {
+        return invalidated;
+    }
+
     public abstract boolean needsEnergy(Direction side);
 
     public static class MekanismAcceptor extends EnergyAcceptorWrapper {
 
-        private IStrictEnergyAcceptor acceptor;
+        private final IStrictEnergyAcceptor acceptor;
 
         public MekanismAcceptor(IStrictEnergyAcceptor mekAcceptor) {
             acceptor = mekAcceptor;
@@ -61,9 +134,14 @@ public abstract class EnergyAcceptorWrapper implements IStrictEnergyAcceptor {
             return acceptor.canReceiveEnergy(side);
         }
 
+        @Override
+        public double getEnergyNeeded(Direction side) {
+            return acceptor.getEnergyNeeded(side);
+        }
+
         @Override
         public boolean needsEnergy(Direction side) {
-            return acceptor.acceptEnergy(side, 1, true) > 0;
+            return acceptor.getEnergyNeeded(side) > 0;
         }
     }
 
@@ -100,7 +178,7 @@ public abstract class EnergyAcceptorWrapper implements IStrictEnergyAcceptor {
 
     public static class ForgeAcceptor extends EnergyAcceptorWrapper {
 
-        private IEnergyStorage acceptor;
+        private final IEnergyStorage acceptor;
 
         public ForgeAcceptor(IEnergyStorage forgeConsumer) {
             acceptor = forgeConsumer;
@@ -116,6 +194,11 @@ public abstract class EnergyAcceptorWrapper implements IStrictEnergyAcceptor {
             return acceptor.canReceive();
         }
 
+        @Override
+        public double getEnergyNeeded(Direction side) {
+            return ForgeEnergyIntegration.fromForge(acceptor.receiveEnergy(Integer.MAX_VALUE, true));
+        }
+
         @Override
         public boolean needsEnergy(Direction side) {
             return acceptor.receiveEnergy(1, true) > 0;
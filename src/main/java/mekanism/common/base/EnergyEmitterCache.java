@@ -0,0 +1,151 @@
+package mekanism.common.base;
+
+import java.util.Collections;
+import java.util.List;
+import mekanism.common.base.target.EnergyAcceptorTarget;
+import mekanism.common.util.CableUtils;
+import mekanism.common.util.EmitUtils;
+import mekanism.common.util.EnumUtils;
+import mekanism.common.util.MekanismUtils;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.Direction;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+
+/**
+ * Keeps track of the acceptors next to the output sides of an energy emitter, so that {@link CableUtils#emit(IEnergyWrapper)} does not have to look up the tiles and
+ * capabilities on every side of the emitter each tick. The acceptors only get looked up again after a neighbour of the emitter changes, the emitter's output sides
+ * change, or the tile or capability an acceptor came from is no longer valid.
+ */
+public class EnergyEmitterCache {
+
+    private final TileEntity tile;
+    private final IEnergyWrapper emitter;
+    private final EnergyAcceptorWrapper[] acceptors = new EnergyAcceptorWrapper[EnumUtils.DIRECTIONS.length];
+    private final TileEntity[] acceptorTiles = new TileEntity[EnumUtils.DIRECTIONS.length];
+    private final EnergyAcceptorTarget target = new EnergyAcceptorTarget();
+    private final List<EnergyAcceptorTarget> targets = Collections.singletonList(target);
+    private final SplitPlan plan = new SplitPlan();
+    /**
+     * The sides the acceptors were looked up for.
+     */
+    private byte outputSides;
+    /**
+     * The number of sides that have an acceptor, and if there is only one of them which side it is on.
+     */
+    private int acceptorCount;
+    private int singleSide;
+    private boolean dirty = true;
+
+    public <TILE extends TileEntity & IEnergyWrapper> EnergyEmitterCache(TILE tile) {
+        this.tile = tile;
+        this.emitter = tile;
+    }
+
+    /**
+     * Marks the acceptors as needing to be looked up again the next time the emitter emits, called when a neighbour of the emitter changes.
+     */
+    public void markDirty() {
+        dirty = true;
+    }
+
+    /**
+     * Sends energy to the acceptors next to the output sides of the emitter, splitting it evenly between them.
+     *
+     * @param energyToSend The amount of energy to attempt to send.
+     *
+     * @return The amount of energy that actually got sent.
+     */
+    public double emit(double energyToSend) {
+        validate();
+        if (acceptorCount == 0) {
+            return 0;
+        }
+        if (acceptorCount == 1) {
+            //Only one side to send to, so there is nothing to split
+            Direction opposite = EnumUtils.DIRECTIONS[singleSide].getOpposite();
+            EnergyAcceptorWrapper acceptor = acceptors[singleSide];
+            if (!acceptor.canReceiveEnergy(opposite)) {
+                return 0;
+            }
+            double toSend = Math.min(acceptor.getEnergyNeeded(opposite), energyToSend);
+            return toSend > 0 ? acceptor.acceptEnergy(opposite, toSend, false) : 0;
+        }
+        //Fake that we have one target given we know that no sides will overlap
+        // This allows us to have slightly better performance
+        target.clear();
+        plan.clear();
+        for (int i = 0; i < acceptors.length; i++) {
+            EnergyAcceptorWrapper acceptor = acceptors[i];
+            if (acceptor != null) {
+                Direction opposite = EnumUtils.DIRECTIONS[i].getOpposite();
+                if (acceptor.canReceiveEnergy(opposite)) {
+                    double needed = Math.min(acceptor.getEnergyNeeded(opposite), energyToSend);
+                    if (needed > 0) {
+                        plan.add(0, target.getHandlerCount(), needed);
+                        target.addHandler(opposite, acceptor);
+                    }
+                }
+            }
+        }
+        double sent = 0;
+        if (target.getHandlerCount() > 0) {
+            sent = EmitUtils.sendPlanned(plan, targets, energyToSend);
+        }
+        target.clear();
+        return sent;
+    }
+
+    private void validate() {
+        byte sides = 0;
+        for (Direction side : EnumUtils.DIRECTIONS) {
+            if (emitter.canOutputEnergy(side)) {
+                sides |= 1 << side.ordinal();
+            }
+        }
+        if (!dirty && sides == outputSides && acceptorsValid()) {
+            return;
+        }
+        dirty = false;
+        outputSides = sides;
+        acceptorCount = 0;
+        World world = tile.getWorld();
+        BlockPos pos = tile.getPos();
+        for (Direction side : EnumUtils.DIRECTIONS) {
+            int index = side.ordinal();
+            EnergyAcceptorWrapper acceptor = null;
+            TileEntity adjacent = null;
+            if ((sides & (1 << index)) != 0) {
+                adjacent = MekanismUtils.getTileEntity(world, pos.offset(side));
+                //If it can accept energy or it is a cable
+                if (adjacent != null && (CableUtils.isValidAcceptorOnSide(tile, adjacent, side) || CableUtils.isCable(adjacent))) {
+                    //Get the opposite side as the current side is relative to us
+                    acceptor = EnergyAcceptorWrapper.get(adjacent, side.getOpposite(), acceptors[index]);
+                }
+            }
+            if (acceptor == null) {
+                acceptors[index] = null;
+                acceptorTiles[index] = null;
+            } else {
+                acceptors[index] = acceptor;
+                acceptorTiles[index] = adjacent;
+                acceptorCount++;
+                singleSide = index;
+            }
+        }
+    }
+
+    private boolean acceptorsValid() {
+        World world = tile.getWorld();
+        for (int i = 0; i < acceptors.length; i++) {
+            EnergyAcceptorWrapper acceptor = acceptors[i];
+            if (acceptor != null) {
+                TileEntity adjacent = acceptorTiles[i];
+                if (acceptor.isInvalidated() || adjacent.isRemoved() || !MekanismUtils.isBlockLoaded(world, adjacent.getPos())) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+}
\ No newline at end of file
@@ -1,5 +1,6 @@
 package mekanism.common.base;
 
+import javax.annotation.Nullable;
 import mekanism.api.energy.IStrictEnergyAcceptor;
 import mekanism.api.energy.IStrictEnergyOutputter;
 import mekanism.api.energy.IStrictEnergyStorage;
@@ -7,4 +8,13 @@ import mekanism.api.energy.IStrictEnergyStorage;
 public interface IEnergyWrapper extends IStrictEnergyStorage, IStrictEnergyAcceptor, IStrictEnergyOutputter {
 
     double getMaxOutput();
+
+    /**
+     * @return The cache {@link mekanism.common.util.CableUtils#emit(IEnergyWrapper)} keeps the acceptors next to this in between ticks, or null to look them up fresh
+     * each time.
+     */
+    @Nullable
+    default EnergyEmitterCache getEmitterCache() {
+        return null;
+    }
 }
\ No newline at end of file
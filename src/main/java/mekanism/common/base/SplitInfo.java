@@ -1,21 +1,17 @@
 package mekanism.common.base;
 
-public abstract class SplitInfo<TYPE extends Number & Comparable<TYPE>> {
+/**
+ * Keeps track of how an amount is being split between targets. The amounts are kept as primitives so that splitting never has to box them.
+ */
+public abstract class SplitInfo {
 
     protected int toSplitAmong;
-    public boolean amountPerChanged = false;
 
     private SplitInfo(int totalTargets) {
         this.toSplitAmong = totalTargets;
     }
 
-    public abstract void send(TYPE amountNeeded);
-
-    public abstract TYPE getAmountPerTarget();
-
-    public abstract TYPE getTotalSent();
-
-    public static class IntegerSplitInfo extends SplitInfo<Integer> {
+    public static class IntegerSplitInfo extends SplitInfo {
 
         private int amountToSplit;
         //AmountPer is the one that needs to be int or double
@@ -30,8 +26,7 @@ public abstract class SplitInfo<TYPE extends Number & Comparable<TYPE>> {
             sentSoFar = 0;
         }
 
-        @Override
-        public void send(Integer amountNeeded) {
+        public void send(int amountNeeded) {
             //If we are giving it, then lower the amount we are checking/splitting
             amountToSplit -= amountNeeded;
             sentSoFar += amountNeeded;
@@ -39,26 +34,30 @@ public abstract class SplitInfo<TYPE extends Number & Comparable<TYPE>> {
             //Only recalculate it if it is not willing to accept/doesn't want the
             // full per side split
             if (amountNeeded != amountPerTarget && toSplitAmong != 0) {
-                int amountPerLast = amountPerTarget;
                 amountPerTarget = amountToSplit / toSplitAmong;
-                if (!amountPerChanged && amountPerTarget != amountPerLast) {
-                    amountPerChanged = true;
-                }
             }
         }
 
-        @Override
-        public Integer getAmountPerTarget() {
+        /**
+         * Recalculates the share of what is left. {@link #send(int)} does not do this when a handler takes exactly the current share, but as the share gets rounded down
+         * it can still go up once there is one less handler to split between, which matters when the handler took the share because that is all it wanted.
+         */
+        public void updateAmountPerTarget() {
+            if (toSplitAmong != 0) {
+                amountPerTarget = amountToSplit / toSplitAmong;
+            }
+        }
+
+        public int getAmountPerTarget() {
             return amountPerTarget;
         }
 
-        @Override
-        public Integer getTotalSent() {
+        public int getTotalSent() {
             return sentSoFar;
         }
     }
 
-    public static class DoubleSplitInfo extends SplitInfo<Double> {
+    public static class DoubleSplitInfo extends SplitInfo {
 
         private double amountToSplit;
         private double amountPerTarget;
@@ -71,8 +70,7 @@ public abstract class SplitInfo<TYPE extends Number & Comparable<TYPE>> {
             sentSoFar = 0;
         }
 
-        @Override
-        public void send(Double amountNeeded) {
+        public void send(double amountNeeded) {
             //If we are giving it, then lower the amount we are checking/splitting
             amountToSplit -= amountNeeded;
             sentSoFar += amountNeeded;
@@ -80,21 +78,15 @@ public abstract class SplitInfo<TYPE extends Number & Comparable<TYPE>> {
             //Only recalculate it if it is not willing to accept/doesn't want the
             // full per side split
             if (amountNeeded != amountPerTarget && toSplitAmong != 0) {
-                double amountPerLast = amountPerTarget;
                 amountPerTarget = amountToSplit / toSplitAmong;
-                if (!amountPerChanged && amountPerTarget != amountPerLast) {
-                    amountPerChanged = true;
-                }
             }
         }
 
-        @Override
-        public Double getAmountPerTarget() {
+        public double getAmountPerTarget() {
             return amountPerTarget;
         }
 
-        @Override
-        public Double getTotalSent() {
+        public double getTotalSent() {
             return sentSoFar;
         }
     }
@@ -0,0 +1,181 @@
+package mekanism.common.base;
+
+import it.unimi.dsi.fastutil.doubles.DoubleArrays;
+import it.unimi.dsi.fastutil.ints.IntArrays;
+import it.unimi.dsi.fastutil.longs.LongArrays;
+import java.util.Arrays;
+
+/**
+ * Keeps track of how much each handler being split between wants, and the order they should be given to in. The arrays are kept between uses so that a network can
+ * plan its split each tick without allocating.
+ *
+ * Handlers are referred to by the index of their target and their index in that target, as targets have at most six handlers these get packed into a single int.
+ * Nothing in a plan refers to the handlers themselves, so once the demands are in it can be split on any thread.
+ */
+public class SplitPlan {
+
+    /**
+     * Below this many handlers an insertion sort is quicker than going over every byte of the demands.
+     */
+    private static final int INSERTION_SORT_SIZE = 32;
+
+    private int[] handlerRefs = new int[8];
+    private double[] demands = new double[8];
+    private int[] order = new int[8];
+    /**
+     * How much each handler gets, index matched with {@link #demands}. Only filled in when the split is worked out ahead of sending it.
+     */
+    private double[] planned = new double[8];
+    private int size;
+    /**
+     * Keys to sort by, index matched with {@link #demands}. As demands are never negative the bits of a demand compare in the same order as the demand does.
+     */
+    private long[] sortKeys = new long[8];
+    private int[] sortBuffer = new int[8];
+    private final int[] byteCounts = new int[256];
+
+    public void clear() {
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Adds a handler to this plan.
+     *
+     * @param targetIndex  Index of the target the handler is in.
+     * @param handlerIndex Index of the handler in its target.
+     * @param demand       How much the handler wants.
+     */
+    public void add(int targetIndex, int handlerIndex, double demand) {
+        if (size == handlerRefs.length) {
+            handlerRefs = IntArrays.grow(handlerRefs, size + 1);
+            demands = DoubleArrays.grow(demands, size + 1);
+            order = IntArrays.grow(order, size + 1);
+            planned = DoubleArrays.grow(planned, size + 1);
+            sortKeys = LongArrays.grow(sortKeys, size + 1);
+            sortBuffer = IntArrays.grow(sortBuffer, size + 1);
+        }
+        handlerRefs[size] = targetIndex << 3 | handlerIndex;
+        demands[size] = demand;
+        size++;
+    }
+
+    /**
+     * Puts the handlers back in the order they were added in.
+     */
+    public void resetOrder() {
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+    }
+
+    /**
+     * Moves the handler at one position in the order to another, earlier, position. This lets a split drop the handlers it is done with by packing the rest at the
+     * start of the order.
+     *
+     * @param from Position in the order of the handler to move.
+     * @param to   Position in the order to move it to.
+     */
+    public void move(int from, int to) {
+        order[to] = order[from];
+    }
+
+    /**
+     * Orders the first count handlers in the order from least to most wanted, handlers that want the same amount stay in the order they were in so that the result
+     * does not depend on how the sort shuffles things around.
+     *
+     * This is a least significant byte first radix sort of the bits of the demands, which keeps ties in order by itself and does not need to compare anything. Bytes
+     * that are the same for every demand are skipped, which for whole amounts is most of them.
+     *
+     * @param count How many handlers from the start of the order to sort, the rest are left where they are.
+     */
+    public void sort(int count) {
+        long allBits = -1;
+        long anyBits = 0;
+        for (int i = 0; i < count; i++) {
+            int index = order[i];
+            double demand = demands[index];
+            //Treat anything that is not positive, including negative zero, as wanting nothing
+            long key = demand > 0 ? Double.doubleToRawLongBits(demand) : 0;
+            sortKeys[index] = key;
+            allBits &= key;
+            anyBits |= key;
+        }
+        if (count < INSERTION_SORT_SIZE) {
+            for (int i = 1; i < count; i++) {
+                int index = order[i];
+                long key = sortKeys[index];
+                int j = i - 1;
+                for (; j >= 0 && sortKeys[order[j]] > key; j--) {
+                    order[j + 1] = order[j];
+                }
+                order[j + 1] = index;
+            }
+            return;
+        }
+        long differentBits = allBits ^ anyBits;
+        for (int shift = 0; shift < Long.SIZE; shift += Byte.SIZE) {
+            if ((differentBits >>> shift & 0xFF) == 0) {
+                continue;
+            }
+            Arrays.fill(byteCounts, 0);
+            for (int i = 0; i < count; i++) {
+                byteCounts[(int) (sortKeys[order[i]] >>> shift) & 0xFF]++;
+            }
+            int start = 0;
+            for (int b = 0; b < byteCounts.length; b++) {
+                int byteCount = byteCounts[b];
+                byteCounts[b] = start;
+                start += byteCount;
+            }
+            for (int i = 0; i < count; i++) {
+                int index = order[i];
+                sortBuffer[byteCounts[(int) (sortKeys[index] >>> shift) & 0xFF]++] = index;
+            }
+            int[] sorted = sortBuffer;
+            sortBuffer = order;
+            order = sorted;
+        }
+    }
+
+    /**
+     * @param index Position in the order.
+     */
+    public int getTargetIndex(int index) {
+        return handlerRefs[order[index]] >> 3;
+    }
+
+    /**
+     * @param index Position in the order.
+     */
+    public int getHandlerIndex(int index) {
+        return handlerRefs[order[index]] & 7;
+    }
+
+    /**
+     * @param index Position in the order.
+     */
+    public double getDemand(int index) {
+        return demands[order[index]];
+    }
+
+    /**
+     * Sets how much the handler at the given position in the order gets.
+     *
+     * @param index  Position in the order.
+     * @param amount Amount the handler gets.
+     */
+    public void setPlanned(int index, double amount) {
+        planned[order[index]] = amount;
+    }
+
+    /**
+     * @param index Position in the order.
+     */
+    public double getPlanned(int index) {
+        return planned[order[index]];
+    }
+}
\ No newline at end of file
@@ -0,0 +1,58 @@
+package mekanism.common.base.target;
+
+import mekanism.common.base.SplitInfo.DoubleSplitInfo;
+import net.minecraft.util.Direction;
+
+/**
+ * A {@link Target} for things that get transferred in fractional amounts, such as energy. As the amount is all there is to insert these targets do not use any extra information.
+ */
+public abstract class DoubleTarget<HANDLER> extends Target<HANDLER, Void> {
+
+    /**
+     * Simulates inserting into the handler at the given index.
+     *
+     * @param index  Index of the handler, less than {@link #getHandlerCount()}.
+     * @param toSend The amount we are inserting.
+     *
+     * @return The amount the handler was actually willing to accept.
+     */
+    public double simulate(int index, double toSend) {
+        return simulate(getHandler(index), sides[index], toSend);
+    }
+
+    /**
+     * Gives the handler at the given index the given amount.
+     *
+     * @param index     Index of the handler, less than {@link #getHandlerCount()}.
+     * @param splitInfo Information about current overall split. The given split will be increased by the actual amount accepted, in case it is less than the offered
+     *                  amount.
+     * @param amount    Amount to give.
+     */
+    public void accept(int index, DoubleSplitInfo splitInfo, double amount) {
+        acceptAmount(getHandler(index), sides[index], splitInfo, amount);
+    }
+
+    /**
+     * Gives the handler on the specified side the given amount.
+     *
+     * @param handler   Handler to give.
+     * @param side      Side of handler to give.
+     * @param splitInfo Information about current overall split. The given split will be increased by the actual amount accepted, in case it is less than the offered
+     *                  amount.
+     * @param amount    Amount to give.
+     *
+     * @implNote Must call {@link DoubleSplitInfo#send(double)} with the amount actually accepted.
+     */
+    protected abstract void acceptAmount(HANDLER handler, Direction side, DoubleSplitInfo splitInfo, double amount);
+
+    /**
+     * Simulate inserting into the handler.
+     *
+     * @param handler The handler (should correspond with the side we are simulating).
+     * @param side    The side we are simulating
+     * @param amount  The amount we are inserting.
+     *
+     * @return The amount it was actually willing to accept.
+     */
+    protected abstract double simulate(HANDLER handler, Direction side, double amount);
+}
\ No newline at end of file
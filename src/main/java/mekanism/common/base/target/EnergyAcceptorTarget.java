@@ -1,18 +1,18 @@
 package mekanism.common.base.target;
 
 import mekanism.common.base.EnergyAcceptorWrapper;
-import mekanism.common.base.SplitInfo;
+import mekanism.common.base.SplitInfo.DoubleSplitInfo;
 import net.minecraft.util.Direction;
 
-public class EnergyAcceptorTarget extends Target<EnergyAcceptorWrapper, Double, Double> {
+public class EnergyAcceptorTarget extends DoubleTarget<EnergyAcceptorWrapper> {
 
     @Override
-    protected void acceptAmount(Direction side, SplitInfo<Double> splitInfo, Double amount) {
-        splitInfo.send(handlers.get(side).acceptEnergy(side, amount, false));
+    protected void acceptAmount(EnergyAcceptorWrapper wrapper, Direction side, DoubleSplitInfo splitInfo, double amount) {
+        splitInfo.send(wrapper.acceptEnergy(side, amount, false));
     }
 
     @Override
-    protected Double simulate(EnergyAcceptorWrapper wrapper, Direction side, Double energyToSend) {
-        return wrapper.acceptEnergy(side, energyToSend, true);
+    protected double simulate(EnergyAcceptorWrapper wrapper, Direction side, double energyToSend) {
+        return Math.min(wrapper.getEnergyNeeded(side), energyToSend);
     }
 }
\ No newline at end of file
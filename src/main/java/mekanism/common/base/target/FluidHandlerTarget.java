@@ -1,25 +1,28 @@
 package mekanism.common.base.target;
 
 import mekanism.api.annotations.NonNull;
-import mekanism.common.base.SplitInfo;
+import mekanism.common.base.SplitInfo.IntegerSplitInfo;
 import net.minecraft.util.Direction;
 import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.fluids.capability.IFluidHandler;
 import net.minecraftforge.fluids.capability.IFluidHandler.FluidAction;
 
-public class FluidHandlerTarget extends Target<IFluidHandler, Integer, @NonNull FluidStack> {
+public class FluidHandlerTarget extends IntegerTarget<IFluidHandler, @NonNull FluidStack> {
+
+    public FluidHandlerTarget() {
+    }
 
     public FluidHandlerTarget(@NonNull FluidStack type) {
         this.extra = type;
     }
 
     @Override
-    protected void acceptAmount(Direction side, SplitInfo<Integer> splitInfo, Integer amount) {
-        splitInfo.send(handlers.get(side).fill(new FluidStack(extra, amount), FluidAction.EXECUTE));
+    protected void acceptAmount(IFluidHandler handler, Direction side, IntegerSplitInfo splitInfo, int amount) {
+        splitInfo.send(handler.fill(new FluidStack(extra, amount), FluidAction.EXECUTE));
     }
 
     @Override
-    protected Integer simulate(IFluidHandler handler, Direction side, @NonNull FluidStack fluidStack) {
+    protected int simulate(IFluidHandler handler, Direction side, @NonNull FluidStack fluidStack) {
         return handler.fill(fluidStack, FluidAction.SIMULATE);
     }
 }
\ No newline at end of file
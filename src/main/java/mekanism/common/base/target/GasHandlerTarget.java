@@ -4,22 +4,25 @@ import mekanism.api.Action;
 import mekanism.api.annotations.NonNull;
 import mekanism.api.chemical.gas.GasStack;
 import mekanism.api.chemical.gas.IGasHandler;
-import mekanism.common.base.SplitInfo;
+import mekanism.common.base.SplitInfo.IntegerSplitInfo;
 import net.minecraft.util.Direction;
 
-public class GasHandlerTarget extends Target<IGasHandler, Integer, @NonNull GasStack> {
+public class GasHandlerTarget extends IntegerTarget<IGasHandler, @NonNull GasStack> {
+
+    public GasHandlerTarget() {
+    }
 
     public GasHandlerTarget(@NonNull GasStack type) {
         this.extra = type;
     }
 
     @Override
-    protected void acceptAmount(Direction side, SplitInfo<Integer> splitInfo, Integer amount) {
-        splitInfo.send(amount - handlers.get(side).insertGas(new GasStack(extra, amount), Action.EXECUTE).getAmount());
+    protected void acceptAmount(IGasHandler handler, Direction side, IntegerSplitInfo splitInfo, int amount) {
+        splitInfo.send(amount - handler.insertGas(new GasStack(extra, amount), Action.EXECUTE).getAmount());
     }
 
     @Override
-    protected Integer simulate(IGasHandler handler, Direction side, @NonNull GasStack gasStack) {
+    protected int simulate(IGasHandler handler, Direction side, @NonNull GasStack gasStack) {
         return gasStack.getAmount() - handler.insertGas(gasStack, Action.SIMULATE).getAmount();
     }
 }
\ No newline at end of file
@@ -0,0 +1,58 @@
+package mekanism.common.base.target;
+
+import mekanism.common.base.SplitInfo.IntegerSplitInfo;
+import net.minecraft.util.Direction;
+
+/**
+ * A {@link Target} for things that get transferred in whole amounts, such as gases and fluids.
+ */
+public abstract class IntegerTarget<HANDLER, EXTRA> extends Target<HANDLER, EXTRA> {
+
+    /**
+     * Simulates inserting into the handler at the given index.
+     *
+     * @param index  Index of the handler, less than {@link #getHandlerCount()}.
+     * @param toSend All the information we are inserting.
+     *
+     * @return The amount the handler was actually willing to accept.
+     */
+    public int simulate(int index, EXTRA toSend) {
+        return simulate(getHandler(index), sides[index], toSend);
+    }
+
+    /**
+     * Gives the handler at the given index the given amount.
+     *
+     * @param index     Index of the handler, less than {@link #getHandlerCount()}.
+     * @param splitInfo Information about current overall split. The given split will be increased by the actual amount accepted, in case it is less than the offered
+     *                  amount.
+     * @param amount    Amount to give.
+     */
+    public void accept(int index, IntegerSplitInfo splitInfo, int amount) {
+        acceptAmount(getHandler(index), sides[index], splitInfo, amount);
+    }
+
+    /**
+     * Gives the handler on the specified side the given amount.
+     *
+     * @param handler   Handler to give.
+     * @param side      Side of handler to give.
+     * @param splitInfo Information about current overall split. The given split will be increased by the actual amount accepted, in case it is less than the offered
+     *                  amount.
+     * @param amount    Amount to give.
+     *
+     * @implNote Must call {@link IntegerSplitInfo#send(int)} with the amount actually accepted.
+     */
+    protected abstract void acceptAmount(HANDLER handler, Direction side, IntegerSplitInfo splitInfo, int amount);
+
+    /**
+     * Simulate inserting into the handler.
+     *
+     * @param handler The handler (should correspond with the side we are simulating).
+     * @param side    The side we are simulating
+     * @param extra   All the information we are inserting.
+     *
+     * @return The amount it was actually willing to accept.
+     */
+    protected abstract int simulate(HANDLER handler, Direction side, EXTRA extra);
+}
\ No newline at end of file
@@ -7,6 +7,7 @@ import mekanism.api.transmitters.IGridTransmitter;
 import mekanism.api.transmitters.TransmissionType;
 import mekanism.common.capabilities.basic.DefaultStorageHelper.NullStorage;
 import net.minecraft.util.Direction;
+import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.text.ITextComponent;
 import net.minecraft.world.World;
 import net.minecraftforge.common.capabilities.CapabilityManager;
@@ -79,6 +80,11 @@ public class DefaultGridTransmitter<A, N extends DynamicNetwork<A, N, BUFFER>, B
         return null;
     }
 
+    @Override
+    public BlockPos getPos() {
+        return null;
+    }
+
     @Override
     public Coord4D getAdjacentConnectableTransmitterCoord(Direction side) {
         return null;
@@ -1,6 +1,7 @@
 package mekanism.common.capabilities.basic;
 
 import java.util.Collection;
+import java.util.UUID;
 import javax.annotation.Nullable;
 import mekanism.api.Coord4D;
 import mekanism.api.text.EnumColor;
@@ -15,6 +16,7 @@ import mekanism.common.tile.TileEntityLogisticalSorter;
 import mekanism.common.transmitters.grid.InventoryNetwork;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.Direction;
+import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.text.ITextComponent;
 import net.minecraft.world.World;
 import net.minecraftforge.common.capabilities.CapabilityManager;
@@ -135,6 +137,16 @@ public class DefaultLogisticalTransporter implements ILogisticalTransporter {
         return null;
     }
 
+    @Override
+    public BlockPos getPos() {
+        return null;
+    }
+
+    @Override
+    public UUID getStoredNetworkID() {
+        return null;
+    }
+
     @Override
     public Coord4D getAdjacentConnectableTransmitterCoord(Direction side) {
         return null;
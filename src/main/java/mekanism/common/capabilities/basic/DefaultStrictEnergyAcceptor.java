@@ -19,6 +19,11 @@ public class DefaultStrictEnergyAcceptor implements IStrictEnergyAcceptor {
         return 0;
     }
 
+    @Override
+    public double getEnergyNeeded(Direction side) {
+        return 0;
+    }
+
     @Override
     public boolean canReceiveEnergy(Direction side) {
         return true;
@@ -1,14 +1,28 @@
 package mekanism.common.command;
 
 
+import com.mojang.brigadier.arguments.IntegerArgumentType;
 import com.mojang.brigadier.builder.ArgumentBuilder;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
 import java.util.Stack;
 import java.util.UUID;
 import mekanism.api.MekanismAPI;
+import mekanism.api.transmitters.DynamicNetwork;
+import mekanism.api.transmitters.IGridTransmitter;
+import mekanism.api.transmitters.NetworkProfile;
+import mekanism.api.transmitters.TransmitterNetworkRegistry;
+import mekanism.api.transmitters.TransmitterNetworkRegistry.TickPhase;
 import mekanism.common.MekanismLang;
+import mekanism.common.transmitters.grid.EnergyNetwork;
+import mekanism.common.transmitters.grid.FluidNetwork;
+import mekanism.common.transmitters.grid.GasNetwork;
+import mekanism.common.transmitters.grid.HeatNetwork;
 import mekanism.common.util.text.BooleanStateDisplay.OnOff;
+import mekanism.common.util.text.EnergyDisplay;
 import net.minecraft.client.entity.player.ClientPlayerEntity;
 import net.minecraft.command.CommandSource;
 import net.minecraft.command.Commands;
@@ -19,7 +33,9 @@ import net.minecraft.entity.player.ServerPlayerEntity;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Vec3d;
+import net.minecraft.util.text.ITextComponent;
 import net.minecraft.world.GameRules;
+import net.minecraft.world.dimension.DimensionType;
 
 public class CommandMek {
 
@@ -34,7 +50,8 @@ public class CommandMek {
               .then(TestRulesCommand.register())
               .then(TpCommand.register())
               .then(TppopCommand.register())
-              .then(ChunkCommand.register());
+              .then(ChunkCommand.register())
+              .then(NetworksCommand.register());
     }
 
     private static class DebugCommand {
@@ -119,6 +136,62 @@ public class CommandMek {
         }
     }
 
+    private static class NetworksCommand {
+
+        static ArgumentBuilder<CommandSource, ?> register() {
+            return Commands.literal("networks")
+                  .requires(cs -> cs.hasPermissionLevel(4))
+                  .executes(ctx -> listNetworks(ctx.getSource(), 10))
+                  .then(Commands.argument("count", IntegerArgumentType.integer(1))
+                        .executes(ctx -> listNetworks(ctx.getSource(), IntegerArgumentType.getInteger(ctx, "count"))));
+        }
+
+        private static int listNetworks(CommandSource source, int count) {
+            TransmitterNetworkRegistry registry = TransmitterNetworkRegistry.getInstance();
+            List<DynamicNetwork<?, ?, ?>> networks = new ArrayList<>();
+            int dormant = 0;
+            for (DynamicNetwork<?, ?, ?> network : registry.getNetworks()) {
+                if (network.isDormant()) {
+                    dormant++;
+                }
+                if (network.transmittersSize() > 0) {
+                    networks.add(network);
+                }
+            }
+            source.sendFeedback(MekanismLang.COMMAND_NETWORKS.translate(registry.getNetworks().size(), dormant, toMillis(registry.getPhaseNanos(TickPhase.INVALID_TRANSMITTERS)),
+                  toMillis(registry.getPhaseNanos(TickPhase.ORPHANS)), toMillis(registry.getPhaseNanos(TickPhase.COMMIT)),
+                  toMillis(registry.getPhaseNanos(TickPhase.NETWORKS))), false);
+            networks.sort(Comparator.comparingDouble((DynamicNetwork<?, ?, ?> network) -> network.getProfile().getAverageTickNanos()).reversed());
+            for (int i = 0; i < Math.min(count, networks.size()); i++) {
+                DynamicNetwork<?, ?, ?> network = networks.get(i);
+                NetworkProfile profile = network.getProfile();
+                IGridTransmitter<?, ?, ?> transmitter = network.firstTransmitter();
+                BlockPos pos = transmitter.coord().getPos();
+                source.sendFeedback(MekanismLang.COMMAND_NETWORKS_ENTRY.translate(i + 1, network.getTextComponent(), pos.getX(), pos.getY(), pos.getZ(),
+                      DimensionType.getKey(transmitter.world().getDimension().getType())), false);
+                source.sendFeedback(MekanismLang.COMMAND_NETWORKS_COST.translate(toMillis(profile.getAverageTickNanos()), getThroughput(network), profile.getCommits(),
+                      toMillis(profile.getCommitNanos()), profile.getInvalidates(), toMillis(profile.getInvalidateNanos())), false);
+            }
+            return networks.size();
+        }
+
+        private static String toMillis(double nanos) {
+            return String.format("%.3f", nanos / 1_000_000);
+        }
+
+        private static ITextComponent getThroughput(DynamicNetwork<?, ?, ?> network) {
+            double transferred = network.getProfile().getAverageTransferred();
+            if (network instanceof EnergyNetwork) {
+                return MekanismLang.GENERIC_PER_TICK.translate(EnergyDisplay.of(transferred));
+            } else if (network instanceof FluidNetwork || network instanceof GasNetwork) {
+                return MekanismLang.NETWORK_MB_PER_TICK.translate(Math.round(transferred));
+            } else if (network instanceof HeatNetwork) {
+                return MekanismLang.GENERIC_PER_TICK.translate(HeatNetwork.getHeatDisplay(transferred));
+            }
+            return MekanismLang.NETWORK_ITEMS_PER_TICK.translate(String.format("%.2f", transferred));
+        }
+    }
+
     private static void teleport(Entity player, double x, double y, double z) {
         if (player instanceof ServerPlayerEntity) {
             ServerPlayerEntity mp = (ServerPlayerEntity) player;
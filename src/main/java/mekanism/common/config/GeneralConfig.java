@@ -71,6 +71,10 @@ public class GeneralConfig extends BaseMekanismConfig {
     public final CachedDoubleValue superheatingHeatTransfer;
     public final CachedDoubleValue heatPerFuelTick;
     public final CachedBooleanValue allowTransmitterAlloyUpgrade;
+    public final CachedBooleanValue parallelNetworkPlanning;
+    public final CachedIntValue orphanTickBudget;
+    public final CachedBooleanValue asyncTransporterPathfinding;
+    public final CachedBooleanValue transporterStackMerging;
     public final CachedBooleanValue allowChunkloading;
     public final CachedBooleanValue allowProtection;
     public final CachedIntValue portableTeleporterDelay;
@@ -207,6 +211,19 @@ public class GeneralConfig extends BaseMekanismConfig {
               .define("heatPerFuelTick", 4D));
         allowTransmitterAlloyUpgrade = CachedBooleanValue.wrap(this, builder.comment("Allow right clicking on Cables/Pipes/Tubes with alloys to upgrade the tier.")
               .define("allowTransmitterAlloyUpgrade", true));
+        parallelNetworkPlanning = CachedBooleanValue.wrap(this, builder.comment("Work out how energy, gas and fluid networks split what they send between the blocks "
+                                                                                + "they are connected to on background threads. Blocks are still only asked what they "
+                                                                                + "want and sent to on the server thread.")
+              .define("parallelNetworkPlanning", false));
+        orphanTickBudget = CachedIntValue.wrap(this, builder.comment("Milliseconds per tick that can be spent connecting newly loaded or placed transmitters to networks. "
+                                                                     + "Anything left over carries on in the next tick. 0 for no limit.")
+              .defineInRange("orphanTickBudget", 10, 0, Integer.MAX_VALUE));
+        asyncTransporterPathfinding = CachedBooleanValue.wrap(this, builder.comment("Find new paths for items already travelling through logistical transporters on "
+                                                                                    + "background threads. Items wait where they are until their path is found.")
+              .define("asyncTransporterPathfinding", false));
+        transporterStackMerging = CachedBooleanValue.wrap(this, builder.comment("Combine items of the same type that are going to the same place into one stack when "
+                                                                                + "they meet in a logistical transporter, up to the amount the transporter pulls at once.")
+              .define("transporterStackMerging", false));
         allowChunkloading = CachedBooleanValue.wrap(this, builder.comment("Disable to make the anchor upgrade not do anything.")
               .define("allowChunkloading", true));
         allowProtection = CachedBooleanValue.wrap(this, builder.comment("Enable the security system for players to prevent others from accessing their machines. Does NOT affect Frequencies.")
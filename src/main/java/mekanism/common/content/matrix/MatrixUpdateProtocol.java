@@ -64,10 +64,17 @@ public class MatrixUpdateProtocol extends UpdateProtocol<SynchronizedMatrixData>
         StackUtils.merge(matrixCache.getInventorySlots(null), mergeCache.getInventorySlots(null));
     }
 
+    @Override
+    protected void onFormed() {
+        super.onFormed();
+        structureFound.linkCells();
+    }
+
     @Override
     protected void onStructureDestroyed(SynchronizedMatrixData structure) {
         //Save all energy changes before destroying the structure
         structure.tick(pointer.getWorld());
+        structure.unlinkCells(pointer.getWorld());
         super.onStructureDestroyed(structure);
     }
 
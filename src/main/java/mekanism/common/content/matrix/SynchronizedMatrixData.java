@@ -23,7 +23,19 @@ import net.minecraft.world.World;
 public class SynchronizedMatrixData extends SynchronizedData<SynchronizedMatrixData> {
 
     private Set<Coord4D> providers = new ObjectOpenHashSet<>();
-    private Set<Coord4D> cells = new ObjectOpenHashSet<>();
+    private List<Coord4D> cells = new ArrayList<>();
+    private List<TileEntityInductionCell> cellTiles = new ArrayList<>();
+    /**
+     * The cells of the matrix and the total capacity of all the cells before each one, resolved once the matrix forms. The stored energy is kept only as
+     * {@link #cachedTotal}, and is treated as filling the cells in order. This means the energy of any cell can be worked out from the total, and only the cells that
+     * the fill level moved across have to be touched when the total changes.
+     */
+    private TileEntityInductionCell[] cellArray = new TileEntityInductionCell[0];
+    private double[] capacityBefore = new double[]{0};
+    /**
+     * The cell the fill level of the matrix is currently in, all cells before it are full and all cells after it are empty.
+     */
+    private int fillCursor;
     private double queuedOutput;
     private double queuedInput;
     private double lastOutput;
@@ -73,10 +85,83 @@ public class SynchronizedMatrixData extends SynchronizedData<SynchronizedMatrixD
     public void addCell(Coord4D coord, TileEntityInductionCell cell) {
         //As we already have the two different variables just pass them instead of accessing world to get tile again
         cells.add(coord);
+        cellTiles.add(cell);
         storageCap += cell.tier.getMaxEnergy();
         cachedTotal += cell.getEnergy();
     }
 
+    /**
+     * Resolves the cells of the matrix once it has formed, and makes them get their energy from the matrix until it is destroyed.
+     */
+    public void linkCells() {
+        int count = cellTiles.size();
+        cellArray = cellTiles.toArray(new TileEntityInductionCell[0]);
+        cellTiles.clear();
+        capacityBefore = new double[count + 1];
+        for (int i = 0; i < count; i++) {
+            capacityBefore[i + 1] = capacityBefore[i] + cellArray[i].tier.getMaxEnergy();
+        }
+        for (int i = 0; i < count; i++) {
+            cellArray[i].setMatrix(this, i);
+            //Spreading the total over the cells in order changes what most of them hold, so they all need saving once when the matrix forms
+            MekanismUtils.saveChunk(cellArray[i]);
+        }
+        fillCursor = 0;
+        moveFillCursor();
+    }
+
+    /**
+     * Writes the energy each cell holds back to it and stops the cells getting their energy from the matrix.
+     */
+    public void unlinkCells(World world) {
+        for (int i = 0; i < cellArray.length; i++) {
+            TileEntityInductionCell cell = getCell(world, i);
+            if (cell != null && cell.getMatrix() == this) {
+                double energy = getCellEnergy(i);
+                cell.setMatrix(null, 0);
+                cell.setEnergy(energy);
+                //This cells data changed, so mark it for saving
+                MekanismUtils.saveChunk(cell);
+            }
+        }
+    }
+
+    /**
+     * @return The share of the matrix's stored energy the cell at the given index holds.
+     */
+    public double getCellEnergy(int index) {
+        return Math.max(0, Math.min(cachedTotal - capacityBefore[index], capacityBefore[index + 1] - capacityBefore[index]));
+    }
+
+    /**
+     * Gets the cell at the given index, looking it up again if the one we have was unloaded.
+     */
+    @Nullable
+    private TileEntityInductionCell getCell(World world, int index) {
+        TileEntityInductionCell cell = cellArray[index];
+        if (cell.isRemoved()) {
+            TileEntityInductionCell loaded = MekanismUtils.getTileEntity(TileEntityInductionCell.class, world, cells.get(index).getPos());
+            if (loaded == null) {
+                return null;
+            }
+            cellArray[index] = cell = loaded;
+            if (cell.getMatrix() == null) {
+                cell.setMatrix(this, index);
+            }
+        }
+        return cell;
+    }
+
+    private void moveFillCursor() {
+        int last = cellArray.length - 1;
+        while (fillCursor < last && cachedTotal >= capacityBefore[fillCursor + 1]) {
+            fillCursor++;
+        }
+        while (fillCursor > 0 && cachedTotal < capacityBefore[fillCursor]) {
+            fillCursor--;
+        }
+    }
+
     public void addProvider(Coord4D coord, TileEntityInductionProvider provider) {
         providers.add(coord);
         transferCap += provider.tier.getOutput();
@@ -89,14 +174,18 @@ public class SynchronizedMatrixData extends SynchronizedData<SynchronizedMatrixD
     public void tick(World world) {
         //See comment in getEnergyPostQueue for explanation of how lastChange is calculated.
         double lastChange = queuedInput - queuedOutput;
-        if (lastChange < 0) {
-            //We are removing energy
-            removeEnergy(world, -lastChange);
-        } else if (lastChange > 0) {
-            //we are adding energy
-            addEnergy(world, lastChange);
+        if (lastChange != 0) {
+            cachedTotal += lastChange;
+            if (cellArray.length > 0) {
+                //Only the cells the fill level moved across have had their energy change
+                int previousCursor = fillCursor;
+                moveFillCursor();
+                for (int i = Math.min(previousCursor, fillCursor), end = Math.max(previousCursor, fillCursor); i <= end; i++) {
+                    //This cells data changed, so mark it for saving
+                    MekanismUtils.saveChunk(getCell(world, i));
+                }
+            }
         }
-        cachedTotal += lastChange;
 
         lastInput = queuedInput;
         queuedInput = 0;
@@ -173,61 +262,6 @@ public class SynchronizedMatrixData extends SynchronizedData<SynchronizedMatrixD
         }
     }
 
-    private void addEnergy(World world, double energy) {
-        for (Coord4D coord : cells) {
-            TileEntityInductionCell cell = MekanismUtils.getTileEntity(TileEntityInductionCell.class, world, coord.getPos());
-            if (cell != null) {
-                double cellEnergy = cell.getEnergy();
-                double cellMax = cell.getMaxEnergy();
-                if (cellEnergy >= cellMax) {
-                    //Is full
-                    //Should this just be ==
-                    continue;
-                }
-                double cellSpace = cellMax - cellEnergy;
-                if (cellSpace >= energy) {
-                    //All fits
-                    cell.setEnergy(cellEnergy + energy);
-                    //This cells data changed, so mark it for saving
-                    MekanismUtils.saveChunk(cell);
-                    break;
-                } else {
-                    //We have left over so
-                    cell.setEnergy(cellMax);
-                    energy -= cellSpace;
-                    //This cells data changed, so mark it for saving
-                    MekanismUtils.saveChunk(cell);
-                }
-            }
-        }
-    }
-
-    private void removeEnergy(World world, double energy) {
-        for (Coord4D coord : cells) {
-            TileEntityInductionCell cell = MekanismUtils.getTileEntity(TileEntityInductionCell.class, world, coord.getPos());
-            if (cell != null) {
-                double cellEnergy = cell.getEnergy();
-                if (cellEnergy == 0) {
-                    //It is already empty
-                    continue;
-                }
-                if (cellEnergy >= energy) {
-                    //Can supply it all
-                    cell.setEnergy(cellEnergy - energy);
-                    //This cells data changed, so mark it for saving
-                    MekanismUtils.saveChunk(cell);
-                    break;
-                } else {
-                    //We need to keep removing from other ones
-                    cell.setEnergy(0);
-                    energy -= cellEnergy;
-                    //This cells data changed, so mark it for saving
-                    MekanismUtils.saveChunk(cell);
-                }
-            }
-        }
-    }
-
     public TileNetworkList addStructureData(TileNetworkList data) {
         data.add(cachedTotal);
         data.add(storageCap);
@@ -283,6 +317,13 @@ public class SynchronizedMatrixData extends SynchronizedData<SynchronizedMatrixD
         return transferCap - queuedInput;
     }
 
+    /**
+     * @return How much energy {@link #queueEnergyAddition(double, boolean)} would currently accept.
+     */
+    public double getEnergyNeeded() {
+        return Math.max(0, Math.min(getRemainingInput(), storageCap - getEnergyPostQueue()));
+    }
+
     public double getRemainingOutput() {
         return transferCap - queuedOutput;
     }
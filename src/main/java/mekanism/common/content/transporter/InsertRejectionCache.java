@@ -0,0 +1,89 @@
+package mekanism.common.content.transporter;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import java.util.Set;
+import mekanism.common.tile.base.TileEntityMekanism;
+import mekanism.common.util.EnumUtils;
+import mekanism.common.util.StackUtils;
+import net.minecraft.item.ItemStack;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.Direction;
+
+/**
+ * Remembers which item types the acceptors of a single {@link mekanism.common.transmitters.grid.InventoryNetwork} have no room for, so that a wall of full inventories
+ * does not have its insertion simulated for every stack that goes looking for a destination. Only rejections are remembered, so a stale entry can only make items skip
+ * an inventory that has just made room, never send them somewhere they do not fit.
+ *
+ * Entries are thrown away when the acceptor changes in the network, when the inventory of a Mekanism tile changes, and otherwise after {@link #LIFETIME} ticks, which
+ * also covers room being freed up by items that were on their way to an acceptor going somewhere else instead.
+ */
+public class InsertRejectionCache {
+
+    /**
+     * How many ticks a rejection is remembered for.
+     */
+    private static final int LIFETIME = 20;
+
+    private final Long2ObjectMap<Rejections[]> rejections = new Long2ObjectOpenHashMap<>();
+
+    /**
+     * Gets the rejections of the given acceptor on the given side, clearing them first if they are no longer valid.
+     */
+    public Rejections getRejections(TileEntity acceptor, Direction side) {
+        Rejections[] sides = rejections.computeIfAbsent(acceptor.getPos().toLong(), pos -> new Rejections[EnumUtils.DIRECTIONS.length]);
+        Rejections sideRejections = sides[side.ordinal()];
+        if (sideRejections == null) {
+            sides[side.ordinal()] = sideRejections = new Rejections();
+        }
+        long time = acceptor.getWorld().getGameTime();
+        int inventoryVersion = acceptor instanceof TileEntityMekanism ? ((TileEntityMekanism) acceptor).getInventoryVersion() : 0;
+        if (time >= sideRejections.expiry || inventoryVersion != sideRejections.inventoryVersion) {
+            sideRejections.reset(time + LIFETIME, inventoryVersion);
+        }
+        return sideRejections;
+    }
+
+    public void acceptorChanged(long acceptorPos) {
+        rejections.remove(acceptorPos);
+    }
+
+    public static class Rejections {
+
+        private final Set<HashedItem> items = new ObjectOpenHashSet<>();
+        private boolean full;
+        private long expiry;
+        private int inventoryVersion;
+
+        private void reset(long expiry, int inventoryVersion) {
+            this.expiry = expiry;
+            this.inventoryVersion = inventoryVersion;
+            items.clear();
+            full = false;
+        }
+
+        /**
+         * @return True if it is already known that nothing in the request can be inserted.
+         */
+        public boolean rejectsAll(TransitRequest request) {
+            return full || (!items.isEmpty() && items.containsAll(request.getItemMap().keySet()));
+        }
+
+        public boolean rejects(HashedItem item) {
+            return full || items.contains(item);
+        }
+
+        /**
+         * Marks that the acceptor has no room for anything, as the items already on their way to it will not all fit.
+         */
+        public void rejectAll() {
+            full = true;
+        }
+
+        public void reject(ItemStack stack) {
+            //Copy the stack as the one we are given may be the stack of an item in transit, which can still change
+            items.add(new HashedItem(StackUtils.size(stack, 1)));
+        }
+    }
+}
\ No newline at end of file
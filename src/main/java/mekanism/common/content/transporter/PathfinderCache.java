@@ -1,28 +1,60 @@
 package mekanism.common.content.transporter;
 
-import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 import mekanism.api.Coord4D;
 import net.minecraft.util.Direction;
 
+/**
+ * Caches the paths found between transporters and destinations in a single {@link mekanism.common.transmitters.grid.InventoryNetwork}. Each position on a cached path
+ * is indexed, so that when something changes at a position only the paths that go through or end at it have to be thrown away. A network only spans one dimension,
+ * so positions are indexed without their dimension. A transporter joining the network is not on any cached path but can open a shorter route, so that clears the whole
+ * cache instead.
+ */
 public class PathfinderCache {
 
-    private static Map<PathData, List<Coord4D>> cachedPaths = new Object2ObjectOpenHashMap<>();
+    /**
+     * The most paths a single network keeps cached, once it is reached the least recently used path is dropped.
+     */
+    private static final int MAX_CACHED_PATHS = 1_024;
 
-    public static void onChanged(Coord4D location) {
-        reset();
+    private final Object2ObjectLinkedOpenHashMap<PathData, List<Coord4D>> cachedPaths = new Object2ObjectLinkedOpenHashMap<>();
+    private final Long2ObjectMap<Set<PathData>> pathsByPosition = new Long2ObjectOpenHashMap<>();
+
+    /**
+     * Drops all the cached paths that go through or end at the given location.
+     */
+    public void onChanged(Coord4D location) {
+        Set<PathData> paths = pathsByPosition.remove(location.getPos().toLong());
+        if (paths != null) {
+            for (PathData data : paths) {
+                removePath(data);
+            }
+        }
     }
 
-    public static void addCachedPath(PathData data, List<Coord4D> coords) {
-        cachedPaths.put(data, coords);
+    public void addCachedPath(PathData data, List<Coord4D> coords) {
+        List<Coord4D> previous = cachedPaths.putAndMoveToLast(data, coords);
+        if (previous != null) {
+            unindex(data, previous);
+        }
+        for (Coord4D coord : coords) {
+            pathsByPosition.computeIfAbsent(coord.getPos().toLong(), pos -> new ObjectOpenHashSet<>()).add(data);
+        }
+        if (cachedPaths.size() > MAX_CACHED_PATHS) {
+            PathData eldest = cachedPaths.firstKey();
+            removePath(eldest);
+        }
     }
 
-    public static List<Coord4D> getCache(Coord4D start, Coord4D end, Set<Direction> sides) {
+    public List<Coord4D> getCache(Coord4D start, Coord4D end, Set<Direction> sides) {
         List<Coord4D> ret = null;
         for (Direction side : sides) {
-            List<Coord4D> test = cachedPaths.get(new PathData(start, end, side));
+            List<Coord4D> test = cachedPaths.getAndMoveToLast(new PathData(start, end, side));
             if (ret == null || (test != null && test.size() < ret.size())) {
                 ret = test;
             }
@@ -30,8 +62,29 @@ public class PathfinderCache {
         return ret;
     }
 
-    public static void reset() {
+    public void reset() {
         cachedPaths.clear();
+        pathsByPosition.clear();
+    }
+
+    private void removePath(PathData data) {
+        List<Coord4D> path = cachedPaths.remove(data);
+        if (path != null) {
+            unindex(data, path);
+        }
+    }
+
+    private void unindex(PathData data, List<Coord4D> path) {
+        for (Coord4D coord : path) {
+            long pos = coord.getPos().toLong();
+            Set<PathData> paths = pathsByPosition.get(pos);
+            if (paths != null) {
+                paths.remove(data);
+                if (paths.isEmpty()) {
+                    pathsByPosition.remove(pos);
+                }
+            }
+        }
     }
 
     public static class PathData {
@@ -0,0 +1,158 @@
+package mekanism.common.content.transporter;
+
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import java.util.ArrayList;
+import java.util.List;
+import mekanism.api.Coord4D;
+import mekanism.api.text.EnumColor;
+import mekanism.api.transmitters.IGridTransmitter;
+import mekanism.common.base.ILogisticalTransporter;
+import mekanism.common.transmitters.grid.InventoryNetwork;
+import mekanism.common.util.EnumUtils;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.Direction;
+import net.minecraft.util.math.BlockPos;
+
+/**
+ * A snapshot of how the transporters of an {@link InventoryNetwork} are connected to each other, so that pathfinding can walk the network using indices into flat arrays
+ * instead of looking up tiles and capabilities. Each transporter gets an index, and for each side the index of the transporter it connects to on that side is stored, or
+ * -1 if it does not connect to one. Whether a stack can actually go through a transporter still depends on the stack's color, so colors are stored alongside the
+ * connections.
+ *
+ * The snapshot is built lazily by the network and thrown away whenever a transporter joins or leaves the network, changes color, or changes which sides it connects
+ * to other transporters on.
+ *
+ * Two transporters are connected if each can connect on the side facing the other, which is what {@link TransporterStack#canInsertToTransporter} checks through
+ * {@link ILogisticalTransporter#canConnectMutual}. Only transporters in the network are included. Any two transporters a stack could go between are also able to connect
+ * as transmitters, as a stack can only be in transporters that either have no color or have its color, so they always end up in the same network.
+ */
+public class TransporterAdjacency {
+
+    private final Long2IntMap indices;
+    private final ILogisticalTransporter[] transporters;
+    private final Coord4D[] coords;
+    private final EnumColor[] colors;
+    private final double[] costs;
+    /**
+     * The transporter connected to on each side of each transporter, the ones for transporter i are in [i * 6, i * 6 + 6) ordered by {@link Direction#ordinal()}.
+     */
+    private final int[] neighbours;
+
+    /**
+     * @param connectableSides Bit mask by {@link Direction#ordinal()} of the sides each transporter can connect on.
+     */
+    private TransporterAdjacency(ILogisticalTransporter[] transporters, Coord4D[] coords, EnumColor[] colors, double[] costs, byte[] connectableSides) {
+        int count = coords.length;
+        this.transporters = transporters;
+        this.coords = coords;
+        this.colors = colors;
+        this.costs = costs;
+        indices = new Long2IntOpenHashMap(count);
+        indices.defaultReturnValue(-1);
+        for (int i = 0; i < count; i++) {
+            indices.put(coords[i].getPos().toLong(), i);
+        }
+        int sides = EnumUtils.DIRECTIONS.length;
+        neighbours = new int[count * sides];
+        for (int i = 0; i < count; i++) {
+            BlockPos pos = coords[i].getPos();
+            for (Direction side : EnumUtils.DIRECTIONS) {
+                int neighbour = -1;
+                if (canConnect(connectableSides[i], side)) {
+                    int adjacent = indices.get(pos.offset(side).toLong());
+                    if (adjacent != -1 && canConnect(connectableSides[adjacent], side.getOpposite())) {
+                        neighbour = adjacent;
+                    }
+                }
+                neighbours[i * sides + side.ordinal()] = neighbour;
+            }
+        }
+    }
+
+    private static boolean canConnect(byte connectableSides, Direction side) {
+        return (connectableSides & 1 << side.ordinal()) != 0;
+    }
+
+    /**
+     * Builds a snapshot of all the transporters in the given network.
+     */
+    public static TransporterAdjacency build(InventoryNetwork network) {
+        List<ILogisticalTransporter> transporterList = new ArrayList<>();
+        for (IGridTransmitter<TileEntity, InventoryNetwork, Void> transmitter : network.getTransmitters()) {
+            if (transmitter instanceof ILogisticalTransporter && transmitter.isValid()) {
+                transporterList.add((ILogisticalTransporter) transmitter);
+            }
+        }
+        int count = transporterList.size();
+        ILogisticalTransporter[] transporters = transporterList.toArray(new ILogisticalTransporter[0]);
+        Coord4D[] coords = new Coord4D[count];
+        EnumColor[] colors = new EnumColor[count];
+        double[] costs = new double[count];
+        byte[] connectableSides = new byte[count];
+        for (int i = 0; i < count; i++) {
+            ILogisticalTransporter transporter = transporters[i];
+            coords[i] = transporter.coord();
+            colors[i] = transporter.getColor();
+            costs[i] = transporter.getCost();
+            for (Direction side : EnumUtils.DIRECTIONS) {
+                if (transporter.canConnect(side)) {
+                    connectableSides[i] |= 1 << side.ordinal();
+                }
+            }
+        }
+        return new TransporterAdjacency(transporters, coords, colors, costs, connectableSides);
+    }
+
+    /**
+     * Builds a snapshot of transporters that only exist as the given arrays, which are index matched, so that pathfinding can be tried out without a world. {@link
+     * #getTransporter(int)} returns null for all of them.
+     *
+     * @param connectableSides Bit mask by {@link Direction#ordinal()} of the sides each transporter can connect on.
+     */
+    static TransporterAdjacency of(Coord4D[] coords, EnumColor[] colors, double[] costs, byte[] connectableSides) {
+        return new TransporterAdjacency(new ILogisticalTransporter[coords.length], coords, colors, costs, connectableSides);
+    }
+
+    public int size() {
+        return transporters.length;
+    }
+
+    /**
+     * @return The index of the transporter at the given position, or -1 if there is not one.
+     */
+    public int indexOf(BlockPos pos) {
+        return indices.get(pos.toLong());
+    }
+
+    public int indexOf(Coord4D coord) {
+        return indexOf(coord.getPos());
+    }
+
+    /**
+     * @return The index of the transporter connected to the given side of the given transporter, or -1 if there is not one.
+     */
+    public int getNeighbour(int index, Direction side) {
+        return neighbours[index * EnumUtils.DIRECTIONS.length + side.ordinal()];
+    }
+
+    public ILogisticalTransporter getTransporter(int index) {
+        return transporters[index];
+    }
+
+    public Coord4D getCoord(int index) {
+        return coords[index];
+    }
+
+    public double getCost(int index) {
+        return costs[index];
+    }
+
+    /**
+     * @return True if a stack of the given color can go through the transporter at the given index.
+     */
+    public boolean canPass(int index, EnumColor color) {
+        EnumColor transporterColor = colors[index];
+        return transporterColor == null || transporterColor == color;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,114 @@
+package mekanism.common.content.transporter;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import mekanism.common.HashList;
+import net.minecraft.block.Block;
+import net.minecraft.block.material.Material;
+import net.minecraft.item.BlockItem;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.tags.ItemTags;
+
+/**
+ * An index of a logistical sorter's filters by the items they can match, so that a stack can be checked against only the filters that may take it instead of against
+ * every filter. Every {@link Finder} only depends on the type of item it is given, so which filters match is worked out once per item type and remembered.
+ *
+ * Item stack filters are bucketed by their item and material filters by their material. Tag and mod ID filters may use wildcards so they are checked against each new
+ * item type directly. Which items have which tags can change when tags are reloaded, so the remembered matches are thrown away when that happens.
+ */
+public class TransporterFilterIndex {
+
+    private static final int[] NO_FILTERS = new int[0];
+
+    private final List<TransporterFilter<?>> filters;
+    private final Map<Item, IntList> itemFilters = new Object2ObjectOpenHashMap<>();
+    private final Map<Material, IntList> materialFilters = new Object2ObjectOpenHashMap<>();
+    private final IntList otherFilters = new IntArrayList();
+    private final Map<Item, int[]> matches = new Object2ObjectOpenHashMap<>();
+    private int tagGeneration;
+
+    public TransporterFilterIndex(HashList<TransporterFilter<?>> filterList) {
+        filters = new ArrayList<>(filterList.size());
+        for (int i = 0; i < filterList.size(); i++) {
+            TransporterFilter<?> filter = filterList.get(i);
+            filters.add(filter);
+            if (filter instanceof TItemStackFilter) {
+                itemFilters.computeIfAbsent(((TItemStackFilter) filter).getItemStack().getItem(), item -> new IntArrayList()).add(i);
+            } else if (filter instanceof TMaterialFilter) {
+                materialFilters.computeIfAbsent(((TMaterialFilter) filter).getMaterial(), material -> new IntArrayList()).add(i);
+            } else if (filter != null) {
+                otherFilters.add(i);
+            }
+        }
+        tagGeneration = ItemTags.getGeneration();
+    }
+
+    /**
+     * @return True if this index was built from the filters currently in the given list. Filters get replaced rather than changed when they are edited, so checking
+     * that the same instances are in the same order is enough.
+     */
+    public boolean isFor(HashList<TransporterFilter<?>> filterList) {
+        if (filterList.size() != filters.size()) {
+            return false;
+        }
+        for (int i = 0; i < filters.size(); i++) {
+            if (filterList.get(i) != filters.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public int size() {
+        return filters.size();
+    }
+
+    public TransporterFilter<?> getFilter(int index) {
+        return filters.get(index);
+    }
+
+    /**
+     * @return The indices of the filters whose finders match the type of the given stack, in the order the filters are in. The filters still have to be asked if they
+     * can filter the stack itself, as that may depend on its NBT or size.
+     */
+    public int[] getMatchingFilters(ItemStack stack) {
+        int generation = ItemTags.getGeneration();
+        if (generation != tagGeneration) {
+            matches.clear();
+            tagGeneration = generation;
+        }
+        return matches.computeIfAbsent(stack.getItem(), item -> findMatchingFilters(item, stack));
+    }
+
+    private int[] findMatchingFilters(Item item, ItemStack stack) {
+        IntList found = new IntArrayList();
+        IntList forItem = itemFilters.get(item);
+        if (forItem != null) {
+            found.addAll(forItem);
+        }
+        if (item instanceof BlockItem) {
+            IntList forMaterial = materialFilters.get(Block.getBlockFromItem(item).getDefaultState().getMaterial());
+            if (forMaterial != null) {
+                found.addAll(forMaterial);
+            }
+        }
+        for (int i = 0; i < otherFilters.size(); i++) {
+            int index = otherFilters.getInt(i);
+            if (filters.get(index).getFinder().modifies(stack)) {
+                found.add(index);
+            }
+        }
+        if (found.isEmpty()) {
+            return NO_FILTERS;
+        }
+        int[] indices = found.toIntArray();
+        Arrays.sort(indices);
+        return indices;
+    }
+}
\ No newline at end of file
@@ -4,17 +4,21 @@ import it.unimi.dsi.fastutil.ints.Int2IntMap;
 import it.unimi.dsi.fastutil.ints.IntArrayList;
 import it.unimi.dsi.fastutil.ints.IntList;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectLinkedOpenHashSet;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import javax.annotation.Nullable;
 import mekanism.api.Coord4D;
 import mekanism.api.RelativeSide;
 import mekanism.api.text.EnumColor;
 import mekanism.common.Mekanism;
 import mekanism.common.base.ISideConfiguration;
+import mekanism.common.content.transporter.InsertRejectionCache.Rejections;
 import mekanism.common.content.transporter.TransitRequest.TransitResponse;
 import mekanism.common.content.transporter.TransporterStack.Path;
+import mekanism.common.util.EnumUtils;
 import mekanism.common.util.InventoryUtils;
 import mekanism.common.util.StackUtils;
 import net.minecraft.item.ItemStack;
@@ -27,18 +31,49 @@ import org.apache.commons.lang3.tuple.Pair;
 public class TransporterManager {
 
     private static Map<Coord4D, Set<TransporterStack>> flowingStacks = new Object2ObjectOpenHashMap<>();
+    /**
+     * The slots the stacks flowing to each destination are expected to end up in, for each side of the destination they have been predicted from.
+     */
+    private static Map<Coord4D, ReservationLedger[]> ledgers = new Object2ObjectOpenHashMap<>();
 
     public static void reset() {
         flowingStacks.clear();
+        ledgers.clear();
     }
 
     public static void add(TransporterStack stack) {
-        flowingStacks.computeIfAbsent(stack.getDest(), k -> new ObjectOpenHashSet<>()).add(stack);
+        Coord4D dest = stack.getDest();
+        flowingStacks.computeIfAbsent(dest, k -> new ObjectOpenHashSet<>()).add(stack);
+        ReservationLedger[] sideLedgers = ledgers.get(dest);
+        if (sideLedgers != null) {
+            for (ReservationLedger ledger : sideLedgers) {
+                if (ledger != null) {
+                    ledger.queue(stack);
+                }
+            }
+        }
     }
 
     public static void remove(TransporterStack stack) {
         if (stack.hasPath() && stack.getPathType() != Path.NONE) {
-            flowingStacks.get(stack.getDest()).remove(stack);
+            Coord4D dest = stack.getDest();
+            Set<TransporterStack> stacks = flowingStacks.get(dest);
+            if (stacks != null && stacks.remove(stack)) {
+                if (stacks.isEmpty()) {
+                    //Nothing is on its way to the destination anymore so there is nothing left reserved in it
+                    flowingStacks.remove(dest);
+                    ledgers.remove(dest);
+                } else {
+                    ReservationLedger[] sideLedgers = ledgers.get(dest);
+                    if (sideLedgers != null) {
+                        for (ReservationLedger ledger : sideLedgers) {
+                            if (ledger != null) {
+                                ledger.release(stack);
+                            }
+                        }
+                    }
+                }
+            }
         }
     }
 
@@ -131,6 +166,16 @@ public class TransporterManager {
      * @return TransitResponse of expected items to use
      */
     public static TransitResponse getPredictedInsert(TileEntity tile, EnumColor color, TransitRequest request, Direction side) {
+        return getPredictedInsert(tile, color, request, side, null);
+    }
+
+    /**
+     * @param rejectionCache Cache of the item types the tile is known to not have room for, which will also be updated with any new ones that are found.
+     *
+     * @return TransitResponse of expected items to use
+     */
+    public static TransitResponse getPredictedInsert(TileEntity tile, EnumColor color, TransitRequest request, Direction side,
+          @Nullable InsertRejectionCache rejectionCache) {
         // If the TE in question implements the mekanism interface, check that the color matches and bail
         // fast if it doesn't
         if (tile instanceof ISideConfiguration) {
@@ -152,10 +197,19 @@ public class TransporterManager {
             return TransitResponse.EMPTY;
         }
 
-        // Before we see if this item can fit in the destination, we must first check the stacks that are
-        // en-route. Note that we also have to simulate the current inventory after each stack; we'll keep
-        // track of the initial size of the inventory and then simulate each in-flight addition. If any
-        // in-flight stack can't be inserted, that we can fail fast.
+        Rejections rejections = null;
+        if (rejectionCache != null) {
+            rejections = rejectionCache.getRejections(tile, side);
+            if (rejections.rejectsAll(request)) {
+                // We already know there is no room for anything in the request, so don't bother simulating it again
+                return TransitResponse.EMPTY;
+            }
+        }
+
+        // Before we see if this item can fit in the destination, we must first account for the stacks that are
+        // en-route. Each of them has a reservation of where in the inventory it is expected to go that was worked
+        // out when it was first predicted, so we only have to add the reservations on top of the current inventory.
+        // If any in-flight stack can't be inserted, that we can fail fast.
 
         //Information about the inventory, keeps track of the size of a stack a slot will have, and
         // a cache of what getStackInSlot returns (as it has to call it anyways to get the stack size).
@@ -163,17 +217,21 @@ public class TransporterManager {
         // once instead of potentially many times.
         InventoryInfo inventoryInfo = new InventoryInfo(handler);
 
-        //For each of the in-flight stacks, simulate their insert into the tile entity. Note that stackSizes
-        // for inventoryInfo is updated each time
-        Set<TransporterStack> transporterStacks = flowingStacks.get(Coord4D.get(tile));
+        Coord4D dest = Coord4D.get(tile);
+        Set<TransporterStack> transporterStacks = flowingStacks.get(dest);
         if (transporterStacks != null) {
-            for (TransporterStack stack : transporterStacks) {
-                if (stack != null && stack.getPathType() != Path.NONE) {
-                    if (simulateInsert(handler, inventoryInfo, stack.itemStack, stack.itemStack.getCount()) > 0) {
-                        // Failed to successfully insert this in-flight item; there's no room for anyone else
-                        return TransitResponse.EMPTY;
-                    }
+            ReservationLedger[] sideLedgers = ledgers.computeIfAbsent(dest, k -> new ReservationLedger[EnumUtils.DIRECTIONS.length]);
+            ReservationLedger ledger = sideLedgers[side.ordinal()];
+            if (ledger == null) {
+                sideLedgers[side.ordinal()] = ledger = new ReservationLedger();
+            }
+            //Note: stackSizes for inventoryInfo is updated to include everything that is reserved
+            if (!ledger.apply(handler, inventoryInfo, transporterStacks)) {
+                // Failed to successfully insert an in-flight item; there's no room for anyone else
+                if (rejections != null) {
+                    rejections.rejectAll();
                 }
+                return TransitResponse.EMPTY;
             }
         }
 
@@ -181,6 +239,10 @@ public class TransporterManager {
         // items to ensure we have an accurate model of what will happen in future. We try each stack in the
         // request; it might be possible to not send the first item, but the second could work, etc.
         for (Entry<HashedItem, Pair<Integer, Int2IntMap>> requestEntry : request.getItemMap().entrySet()) {
+            if (rejections != null && rejections.rejects(requestEntry.getKey())) {
+                // Not simulating a type that doesn't fit leaves the inventory info as it was, same as if it was simulated
+                continue;
+            }
             // Create a sending ItemStack with the hashed item type and total item count within the request
             ItemStack stack = requestEntry.getKey().getStack();
             int numToSend = requestEntry.getValue().getLeft();
@@ -189,6 +251,9 @@ public class TransporterManager {
 
             // If leftovers is unchanged from the simulation, there's no room at all; move on to the next stack
             if (numLeftOver == numToSend) {
+                if (rejections != null) {
+                    rejections.reject(stack);
+                }
                 continue;
             }
 
@@ -198,6 +263,118 @@ public class TransporterManager {
         return TransitResponse.EMPTY;
     }
 
+    /**
+     * Keeps track of how many items the stacks flowing to a destination are expected to add to each of its slots when looked at from one side. A stack's reservation
+     * is worked out by simulating its insert the first time a prediction is made after it starts flowing to the destination, and is then added on top of the current
+     * contents of the inventory for each later prediction, until the stack arrives or goes somewhere else.
+     */
+    private static class ReservationLedger {
+
+        private final Map<TransporterStack, Reservation> reservations = new Object2ObjectOpenHashMap<>();
+        /**
+         * Stacks that have not been simulated yet.
+         */
+        private final Set<TransporterStack> queued = new ObjectLinkedOpenHashSet<>();
+        /**
+         * Stacks that did not fit when they were simulated. They are simulated again each time as the inventory may have made room for them since.
+         */
+        private final Set<TransporterStack> overflowing = new ObjectLinkedOpenHashSet<>();
+        private int[] reserved;
+        private ItemStack[] reservedTypes;
+
+        public void queue(TransporterStack stack) {
+            queued.add(stack);
+        }
+
+        public void release(TransporterStack stack) {
+            queued.remove(stack);
+            overflowing.remove(stack);
+            Reservation reservation = reservations.remove(stack);
+            if (reservation != null) {
+                unreserve(reservation);
+            }
+        }
+
+        /**
+         * Adds everything that is reserved to the given inventory info, simulating the stacks that don't have a reservation yet.
+         *
+         * @return False if one of the stacks flowing to the destination does not fit.
+         */
+        public boolean apply(IItemHandler handler, InventoryInfo inventoryInfo, Set<TransporterStack> flowing) {
+            int slots = inventoryInfo.stackSizes.size();
+            if (reserved == null || reserved.length != slots) {
+                //First time we are being used or the size of the inventory changed, reserve everything again
+                reservations.clear();
+                overflowing.clear();
+                queued.clear();
+                queued.addAll(flowing);
+                reserved = new int[slots];
+                reservedTypes = new ItemStack[slots];
+            }
+            for (TransporterStack stack : overflowing) {
+                Reservation reservation = reservations.remove(stack);
+                if (reservation != null) {
+                    unreserve(reservation);
+                }
+                queued.add(stack);
+            }
+            overflowing.clear();
+            for (int i = 0; i < slots; i++) {
+                if (reserved[i] > 0) {
+                    //Don't let the reservations fill the slot past its limit, if the inventory changed under us the slot may not have the room it did
+                    inventoryInfo.stackSizes.set(i, Math.min(handler.getSlotLimit(i), inventoryInfo.stackSizes.getInt(i) + reserved[i]));
+                    if (inventoryInfo.inventory.get(i).isEmpty() && reservedTypes[i] != null) {
+                        inventoryInfo.inventory.set(i, reservedTypes[i]);
+                    }
+                }
+            }
+            if (!queued.isEmpty()) {
+                for (TransporterStack stack : queued) {
+                    if (!reserve(handler, inventoryInfo, stack)) {
+                        overflowing.add(stack);
+                    }
+                }
+                queued.clear();
+            }
+            return overflowing.isEmpty();
+        }
+
+        private boolean reserve(IItemHandler handler, InventoryInfo inventoryInfo, TransporterStack stack) {
+            int[] before = inventoryInfo.stackSizes.toIntArray();
+            int leftOver = simulateInsert(handler, inventoryInfo, stack.itemStack, stack.itemStack.getCount());
+            Reservation reservation = new Reservation();
+            for (int i = 0; i < before.length; i++) {
+                int added = inventoryInfo.stackSizes.getInt(i) - before[i];
+                if (added > 0) {
+                    //Remember the type even if the slot already had items in it, as the slot may be emptied before the stack arrives
+                    reservedTypes[i] = StackUtils.size(stack.itemStack, 1);
+                    reserved[i] += added;
+                    reservation.slots.add(i);
+                    reservation.counts.add(added);
+                }
+            }
+            reservations.put(stack, reservation);
+            return leftOver == 0;
+        }
+
+        private void unreserve(Reservation reservation) {
+            for (int i = 0; i < reservation.slots.size(); i++) {
+                int slot = reservation.slots.getInt(i);
+                reserved[slot] -= reservation.counts.getInt(i);
+                if (reserved[slot] <= 0) {
+                    reserved[slot] = 0;
+                    reservedTypes[slot] = null;
+                }
+            }
+        }
+    }
+
+    private static class Reservation {
+
+        private final IntList slots = new IntArrayList();
+        private final IntList counts = new IntArrayList();
+    }
+
     private static class InventoryInfo {
 
         private NonNullList<ItemStack> inventory;
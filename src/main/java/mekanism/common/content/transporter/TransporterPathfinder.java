@@ -2,19 +2,24 @@ package mekanism.common.content.transporter;
 
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
-import it.unimi.dsi.fastutil.objects.Object2DoubleOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
-import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import mekanism.api.Coord4D;
+import mekanism.api.text.EnumColor;
 import mekanism.common.base.ILogisticalTransporter;
 import mekanism.common.capabilities.Capabilities;
 import mekanism.common.content.transporter.PathfinderCache.PathData;
@@ -37,6 +42,25 @@ import org.apache.commons.lang3.tuple.Pair;
 
 public final class TransporterPathfinder {
 
+    /**
+     * The threads that paths requested by {@link #requestNewBasePath(ILogisticalTransporter, TransporterStack, TransitRequest, int)} are found on. Only a few daemon
+     * threads are used, and they stop when they have been idle for a while. If too many searches are waiting the search is run on the thread that requested it
+     * instead, so that a burst of requests slows down the server thread rather than piling up.
+     */
+    private static final Executor PATHFINDING_EXECUTOR = createExecutor();
+
+    private static Executor createExecutor() {
+        int threads = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() / 2));
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS, new ArrayBlockingQueue<>(256), runnable -> {
+            Thread thread = new Thread(runnable, "Mekanism Transporter Pathfinder #" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
     private static List<Destination> getPaths(ILogisticalTransporter start, TransporterStack stack, TransitRequest request, int min) {
         InventoryNetwork network = start.getTransmitterNetwork();
         if (network == null) {
@@ -46,7 +70,7 @@ public final class TransporterPathfinder {
         List<AcceptorData> acceptors = network.calculateAcceptors(request, stack, chunkMap);
         List<Destination> paths = new ArrayList<>();
         for (AcceptorData data : acceptors) {
-            Destination path = getPath(data, start, stack, min, chunkMap);
+            Destination path = getPath(network, data, start, stack, min, chunkMap);
             if (path != null) {
                 paths.add(path);
             }
@@ -55,45 +79,105 @@ public final class TransporterPathfinder {
         return paths;
     }
 
-    private static boolean checkPath(World world, List<Coord4D> path, TransporterStack stack, Long2ObjectMap<IChunk> chunkMap) {
+    private static boolean checkPath(TransporterAdjacency adjacency, List<Coord4D> path, TransporterStack stack) {
         for (int i = path.size() - 1; i > 0; i--) {
-            TileEntity tile = MekanismUtils.getTileEntity(world, chunkMap, path.get(i));
-            Optional<ILogisticalTransporter> capability = MekanismUtils.toOptional(CapabilityUtils.getCapability(tile, Capabilities.LOGISTICAL_TRANSPORTER_CAPABILITY, null));
-            if (capability.isPresent()) {
-                ILogisticalTransporter transporter = capability.get();
-                if (transporter.getColor() != null && transporter.getColor() != stack.color) {
-                    return false;
-                }
-            } else {
+            int index = adjacency.indexOf(path.get(i));
+            if (index == -1 || !adjacency.canPass(index, stack.color)) {
                 return false;
             }
         }
         return true;
     }
 
-    private static Destination getPath(AcceptorData data, ILogisticalTransporter start, TransporterStack stack, int min, Long2ObjectMap<IChunk> chunkMap) {
+    private static Destination getPath(InventoryNetwork network, AcceptorData data, ILogisticalTransporter start, TransporterStack stack, int min,
+          Long2ObjectMap<IChunk> chunkMap) {
         TransitResponse response = data.getResponse();
         if (response.getSendingAmount() >= min) {
             Coord4D dest = data.getLocation();
-            List<Coord4D> test = PathfinderCache.getCache(start.coord(), dest, data.getSides());
-            if (test != null && checkPath(start.world(), test, stack, chunkMap)) {
-                return new Destination(test, false, response, 0).calculateScore(start.world(), chunkMap);
+            PathfinderCache cache = network.getPathfinderCache();
+            TransporterAdjacency adjacency = network.getAdjacency();
+            List<Coord4D> test = cache.getCache(start.coord(), dest, data.getSides());
+            if (test != null && checkPath(adjacency, test, stack)) {
+                return new Destination(test, false, response, 0).calculateScore(adjacency);
             }
-            Pathfinder p = new Pathfinder(new DestChecker() {
-                @Override
-                public boolean isValid(TransporterStack stack, Direction dir, TileEntity tile) {
-                    return InventoryUtils.canInsert(tile, stack.color, response.getStack(), dir, false);
-                }
-            }, start.world(), dest, start.coord(), stack, chunkMap);
-            List<Coord4D> path = p.getPath();
-            if (path.size() >= 2) {
-                PathfinderCache.addCachedPath(new PathData(start.coord(), dest, p.getSide()), path);
-                return new Destination(path, false, response, p.finalScore);
+            Pathfinder p = Pathfinder.get();
+            if (p.find(adjacency, getInsertChecker(response), start.world(), dest, start.coord(), stack, chunkMap)) {
+                List<Coord4D> path = p.getPath();
+                cache.addCachedPath(new PathData(start.coord(), dest, p.getSide()), path);
+                return new Destination(path, false, response, p.getFinalScore());
             }
         }
         return null;
     }
 
+    private static DestChecker getInsertChecker(TransitResponse response) {
+        return new DestChecker() {
+            @Override
+            public boolean isValid(TransporterStack stack, Direction dir, TileEntity tile) {
+                return InventoryUtils.canInsert(tile, stack.color, response.getStack(), dir, false);
+            }
+        };
+    }
+
+    /**
+     * Starts looking for a new path to a destination for a stack that is already in a network. Anything that needs the world, such as finding the acceptors that
+     * can take the stack and checking which of their sides can be inserted into, is done straight away on the calling thread. Only the searches through the
+     * network's {@link TransporterAdjacency} are run in the background.
+     *
+     * @return The path being found, or null if the transporter is not in a network.
+     */
+    @Nullable
+    public static PendingPath requestNewBasePath(ILogisticalTransporter start, TransporterStack stack, TransitRequest request, int min) {
+        InventoryNetwork network = start.getTransmitterNetwork();
+        if (network == null) {
+            return null;
+        }
+        Long2ObjectMap<IChunk> chunkMap = new Long2ObjectOpenHashMap<>();
+        TransporterAdjacency adjacency = network.getAdjacency();
+        PathfinderCache cache = network.getPathfinderCache();
+        Coord4D startCoord = start.coord();
+        List<Destination> destinations = new ArrayList<>();
+        List<PathSearch> searches = new ArrayList<>();
+        Pathfinder p = Pathfinder.get();
+        for (AcceptorData data : network.calculateAcceptors(request, stack, chunkMap)) {
+            TransitResponse response = data.getResponse();
+            if (response.getSendingAmount() < min) {
+                continue;
+            }
+            Coord4D dest = data.getLocation();
+            List<Coord4D> test = cache.getCache(startCoord, dest, data.getSides());
+            if (test != null && checkPath(adjacency, test, stack)) {
+                destinations.add(new Destination(test, false, response, 0).calculateScore(adjacency));
+                continue;
+            }
+            byte validSides = p.getValidSides(adjacency, getInsertChecker(response), start.world(), dest, stack, chunkMap);
+            if (validSides != 0) {
+                searches.add(new PathSearch(dest, response, validSides));
+            }
+        }
+        int startIndex = adjacency.indexOf(startCoord);
+        CompletableFuture<List<PathSearch>> found;
+        if (searches.isEmpty() || startIndex == -1) {
+            found = CompletableFuture.completedFuture(Collections.emptyList());
+        } else {
+            EnumColor color = stack.color;
+            found = CompletableFuture.supplyAsync(() -> {
+                Pathfinder pathfinder = Pathfinder.get();
+                List<PathSearch> paths = new ArrayList<>();
+                for (PathSearch search : searches) {
+                    if (pathfinder.find(adjacency, search.destination, startIndex, color, search.validSides)) {
+                        search.path = pathfinder.getPath();
+                        search.side = pathfinder.getSide();
+                        search.score = pathfinder.getFinalScore();
+                        paths.add(search);
+                    }
+                }
+                return paths;
+            }, PATHFINDING_EXECUTOR);
+        }
+        return new PendingPath(network, startCoord, stack, request, min, destinations, found);
+    }
+
     @Nullable
     public static Destination getNewBasePath(ILogisticalTransporter start, TransporterStack stack, TransitRequest request, int min) {
         List<Destination> paths = getPaths(start, stack, request, min);
@@ -135,16 +219,17 @@ public final class TransporterPathfinder {
 
     public static Pair<List<Coord4D>, Path> getIdlePath(ILogisticalTransporter start, TransporterStack stack) {
         Long2ObjectMap<IChunk> chunkMap = new Long2ObjectOpenHashMap<>();
-        if (stack.homeLocation != null) {
-            Pathfinder p = new Pathfinder(new DestChecker() {
+        InventoryNetwork network = start.getTransmitterNetwork();
+        if (stack.homeLocation != null && network != null) {
+            Pathfinder p = Pathfinder.get();
+            boolean found = p.find(network.getAdjacency(), new DestChecker() {
                 @Override
                 public boolean isValid(TransporterStack stack, Direction side, TileEntity tile) {
                     return InventoryUtils.canInsert(tile, stack.color, stack.itemStack, side, true);
                 }
             }, start.world(), stack.homeLocation, start.coord(), stack, chunkMap);
-            List<Coord4D> path = p.getPath();
-            if (path.size() >= 2) {
-                return Pair.of(path, Path.HOME);
+            if (found) {
+                return Pair.of(p.getPath(), Path.HOME);
             }
             stack.homeLocation = null;
         }
@@ -157,6 +242,96 @@ public final class TransporterPathfinder {
         return Pair.of(dest.getPath(), dest.getPathType());
     }
 
+    /**
+     * A path that is being found in the background by {@link #requestNewBasePath(ILogisticalTransporter, TransporterStack, TransitRequest, int)}.
+     */
+    public static class PendingPath {
+
+        private final InventoryNetwork network;
+        private final int adjacencyVersion;
+        private final Coord4D start;
+        private final TransporterStack stack;
+        private final TransitRequest request;
+        private final int min;
+        private final List<Destination> destinations;
+        private final CompletableFuture<List<PathSearch>> searches;
+
+        private PendingPath(InventoryNetwork network, Coord4D start, TransporterStack stack, TransitRequest request, int min, List<Destination> destinations,
+              CompletableFuture<List<PathSearch>> searches) {
+            this.network = network;
+            this.adjacencyVersion = network.getAdjacencyVersion();
+            this.start = start;
+            this.stack = stack;
+            this.request = request;
+            this.min = min;
+            this.destinations = destinations;
+            this.searches = searches;
+        }
+
+        public boolean isDone() {
+            return searches.isDone();
+        }
+
+        /**
+         * @return True if the given transporter is still in the network the path was found in, and the network has not changed since.
+         */
+        public boolean isCurrent(ILogisticalTransporter transporter) {
+            return transporter.getTransmitterNetwork() == network && network.getAdjacencyVersion() == adjacencyVersion;
+        }
+
+        /**
+         * Gets the best destination that was found, and adds the paths that were found to the network's cache. Only call this on the server thread once the path
+         * {@link #isDone()} and {@link #isCurrent(ILogisticalTransporter)}.
+         *
+         * The destinations were picked when the path was requested, without seeing any stacks that were given a destination since, such as other stacks that asked for
+         * a path in the same tick. So how much each destination can take is predicted again, in order from the best destination, and the first one that still has
+         * room is used. The stack only reserves room in its destination once its path is set, which makes sure that each stack sees what the ones before it reserved.
+         *
+         * @return The best destination that still has room, or null if there is no destination that can be reached.
+         */
+        @Nullable
+        public Destination getDestination() {
+            PathfinderCache cache = network.getPathfinderCache();
+            for (PathSearch search : searches.join()) {
+                cache.addCachedPath(new PathData(start, search.destination, search.side), search.path);
+                destinations.add(new Destination(search.path, false, search.response, search.score));
+            }
+            Collections.sort(destinations);
+            for (Destination destination : destinations) {
+                List<Coord4D> path = destination.getPath();
+                Coord4D dest = path.get(0);
+                Direction side = dest.sideDifference(path.get(1));
+                TileEntity tile = MekanismUtils.getTileEntity(network.getWorld(), dest.getPos());
+                if (side != null && tile != null) {
+                    TransitResponse response = TransporterManager.getPredictedInsert(tile, stack.color, request, side);
+                    if (!response.isEmpty() && response.getSendingAmount() >= min) {
+                        return new Destination(path, false, response, destination.score);
+                    }
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * A search for a path to a single destination, filled in with the path once it has been found.
+     */
+    private static class PathSearch {
+
+        private final Coord4D destination;
+        private final TransitResponse response;
+        private final byte validSides;
+        private List<Coord4D> path;
+        private Direction side;
+        private double score;
+
+        private PathSearch(Coord4D destination, TransitResponse response, byte validSides) {
+            this.destination = destination;
+            this.response = response;
+            this.validSides = validSides;
+        }
+    }
+
     public static class IdlePath {
 
         private World world;
@@ -266,11 +441,13 @@ public final class TransporterPathfinder {
             return this;
         }
 
-        public Destination calculateScore(World world, Long2ObjectMap<IChunk> chunkMap) {
+        public Destination calculateScore(TransporterAdjacency adjacency) {
             score = 0;
             for (Coord4D location : path) {
-                CapabilityUtils.getCapability(MekanismUtils.getTileEntity(world, chunkMap, location.getPos()), Capabilities.LOGISTICAL_TRANSPORTER_CAPABILITY, null)
-                      .ifPresent(transporter -> score += transporter.getCost());
+                int index = adjacency.indexOf(location);
+                if (index != -1) {
+                    score += adjacency.getCost(index);
+                }
             }
             return this;
         }
@@ -310,113 +487,219 @@ public final class TransporterPathfinder {
         }
     }
 
+    /**
+     * A* search over the {@link TransporterAdjacency} of a network. All the per transporter state is kept in arrays indexed the same way as the adjacency, and the
+     * arrays are reused between searches, so a search does not allocate anything other than the path it finds. Use {@link #get()} to get the pathfinder for the
+     * current thread.
+     */
     public static class Pathfinder {
 
-        private final Set<Coord4D> openSet, closedSet;
-        private final Map<Coord4D, Coord4D> navMap;
-        private final Object2DoubleOpenHashMap<Coord4D> gScore, fScore;
-        private final Coord4D start;
-        private final Coord4D finalNode;
-        private final TransporterStack transportStack;
-        private final DestChecker destChecker;
+        private static final ThreadLocal<Pathfinder> PATHFINDERS = ThreadLocal.withInitial(Pathfinder::new);
+        private static final byte ALL_SIDES = (byte) ((1 << EnumUtils.DIRECTIONS.length) - 1);
+
+        /**
+         * The search each transporter's state was last written by, state for a transporter is only valid if its stamp matches {@link #currentStamp}.
+         */
+        private int[] stamps = new int[0];
+        private int currentStamp;
+        private double[] gScore = new double[0];
+        private double[] hScore = new double[0];
+        private int[] parents = new int[0];
+        /**
+         * The open set, as a binary min heap of transporters ordered by their f score. When a transporter's score improves it is just added again, and the outdated
+         * entry is skipped once it gets to the top.
+         */
+        private int[] heapNodes = new int[16];
+        private double[] heapScores = new double[16];
+        private int heapSize;
+        /**
+         * The transporters next to the destination and the side the destination is on from them.
+         */
+        private final int[] destNodes = new int[EnumUtils.DIRECTIONS.length];
+        private final Direction[] destSides = new Direction[EnumUtils.DIRECTIONS.length];
+        private int destCount;
+        /**
+         * Bit masks by {@link Direction#ordinal()} of the sides of the destination that have been checked for whether they can be inserted into, and of the ones that
+         * can be.
+         */
+        private byte checkedSides;
+        private byte validSides;
+
+        private TransporterAdjacency adjacency;
+        private DestChecker destChecker;
+        private World world;
+        private Long2ObjectMap<IChunk> chunkMap;
+        private TransporterStack transportStack;
+        private EnumColor color;
+        private Coord4D finalNode;
+        @Nullable
+        private TileEntity finalTile;
 
         private double finalScore;
         private Direction side;
-        private List<Coord4D> results;
-        private World world;
+        private List<Coord4D> path;
 
-        public Pathfinder(DestChecker checker, World world, Coord4D finishObj, Coord4D startObj, TransporterStack stack, Long2ObjectMap<IChunk> chunkMap) {
-            destChecker = checker;
-            this.world = world;
+        private Pathfinder() {
+        }
 
-            finalNode = finishObj;
-            start = startObj;
+        public static Pathfinder get() {
+            return PATHFINDERS.get();
+        }
 
-            transportStack = stack;
+        /**
+         * Searches for the cheapest path from the start transporter to the destination.
+         *
+         * @return True if a path was found, in which case it can be retrieved with {@link #getPath()}.
+         */
+        public boolean find(TransporterAdjacency adjacency, DestChecker checker, World world, Coord4D finishObj, Coord4D startObj, TransporterStack stack,
+              Long2ObjectMap<IChunk> chunkMap) {
+            setup(adjacency, checker, world, finishObj, stack, chunkMap);
+            checkedSides = 0;
+            validSides = 0;
+            try {
+                return search(adjacency.indexOf(startObj));
+            } finally {
+                clear();
+            }
+        }
 
-            openSet = new ObjectOpenHashSet<>();
-            closedSet = new ObjectOpenHashSet<>();
+        /**
+         * Searches for the cheapest path from the start transporter to the destination, only using the adjacency and the given sides of the destination. This does
+         * not touch the world, so it is safe to call off of the server thread as long as nothing else is changing the adjacency.
+         *
+         * @param validSides Bit mask by {@link Direction#ordinal()} of the sides of the destination that can be inserted into, see {@link #getValidSides}.
+         *
+         * @return True if a path was found, in which case it can be retrieved with {@link #getPath()}.
+         */
+        public boolean find(TransporterAdjacency adjacency, Coord4D finishObj, int start, EnumColor color, byte validSides) {
+            this.adjacency = adjacency;
+            this.color = color;
+            finalNode = finishObj;
+            checkedSides = ALL_SIDES;
+            this.validSides = validSides;
+            try {
+                return search(start);
+            } finally {
+                clear();
+            }
+        }
 
-            navMap = new Object2ObjectOpenHashMap<>();
+        /**
+         * Checks each side of the destination for whether a stack can be inserted into it from the transporter on that side, so that the search itself can be done
+         * later without touching the world.
+         *
+         * @return Bit mask by {@link Direction#ordinal()} of the sides of the destination that can be inserted into.
+         */
+        public byte getValidSides(TransporterAdjacency adjacency, DestChecker checker, World world, Coord4D finishObj, TransporterStack stack,
+              Long2ObjectMap<IChunk> chunkMap) {
+            setup(adjacency, checker, world, finishObj, stack, chunkMap);
+            try {
+                byte sides = 0;
+                BlockPos finalPos = finalNode.getPos();
+                for (Direction direction : EnumUtils.DIRECTIONS) {
+                    int node = adjacency.indexOf(finalPos.offset(direction.getOpposite()));
+                    if (node != -1 && canInsert(node, direction)) {
+                        sides |= 1 << direction.ordinal();
+                    }
+                }
+                return sides;
+            } finally {
+                clear();
+            }
+        }
 
-            gScore = new Object2DoubleOpenHashMap<>();
-            fScore = new Object2DoubleOpenHashMap<>();
+        private void setup(TransporterAdjacency adjacency, DestChecker checker, World world, Coord4D finishObj, TransporterStack stack,
+              Long2ObjectMap<IChunk> chunkMap) {
+            this.adjacency = adjacency;
+            destChecker = checker;
+            this.world = world;
+            this.chunkMap = chunkMap;
+            transportStack = stack;
+            color = stack.color;
+            finalNode = finishObj;
+            finalTile = null;
+        }
 
-            results = new ArrayList<>();
+        private void clear() {
+            //Don't hold onto the world or network between searches
+            adjacency = null;
+            world = null;
+            chunkMap = null;
+            destChecker = null;
+            transportStack = null;
+            finalTile = null;
+        }
 
-            find(chunkMap, start);
+        private boolean search(int start) {
+            side = null;
+            finalScore = 0;
+            path = null;
+            if (start == -1 || !searchFrom(start)) {
+                path = new ArrayList<>();
+                path.add(finalNode);
+                return false;
+            }
+            return true;
         }
 
-        public boolean find(Long2ObjectMap<IChunk> chunkMap, Coord4D start) {
-            openSet.add(start);
-            gScore.put(start, 0D);
-            //Note: This is gScore + estimate, but given our gScore starts at zero we just skip getting it back out
-            fScore.put(start, start.distanceTo(finalNode));
+        private boolean searchFrom(int start) {
+            prepare(adjacency.size());
+            destCount = 0;
+            BlockPos finalPos = finalNode.getPos();
+            for (Direction direction : EnumUtils.DIRECTIONS) {
+                int node = adjacency.indexOf(finalPos.offset(direction.getOpposite()));
+                if (node != -1) {
+                    destNodes[destCount] = node;
+                    destSides[destCount] = direction;
+                    destCount++;
+                }
+            }
             boolean hasValidDirection = false;
-            TileEntity startTile = MekanismUtils.getTileEntity(world, chunkMap, start);
             for (Direction direction : EnumUtils.DIRECTIONS) {
-                Coord4D neighbor = start.offset(direction);
-                TileEntity neighborTile = MekanismUtils.getTileEntity(world, chunkMap, neighbor);
-                if (transportStack.canInsertToTransporter(neighborTile, direction, startTile)) {
+                int neighbor = adjacency.getNeighbour(start, direction);
+                if (neighbor != -1 && adjacency.canPass(neighbor, color)) {
                     //If we can insert into the transporter, mark that we have a valid path we can take
                     hasValidDirection = true;
                     break;
-                } else if (isValidDestination(start, startTile, direction, neighbor, neighborTile)) {
-                    //Otherwise if we are neighboring our destination, and we can emit to the location or it is going back
-                    // to its home location and can connect to it just exit early and return that this is the best path
-                    return true;
                 }
             }
+            visit(start, 0, -1);
             if (!hasValidDirection) {
-                //If there is no valid direction that the stack can go just exit
-                return false;
-            }
-            double maxSearchDistance = 2 * start.distanceTo(finalNode);
-            while (!openSet.isEmpty()) {
-                Coord4D currentNode = null;
-                double lowestFScore = 0;
-                for (Coord4D node : openSet) {
-                    if (currentNode == null || fScore.getDouble(node) < lowestFScore) {
-                        currentNode = node;
-                        lowestFScore = fScore.getDouble(node);
+                //If there is no valid direction that the stack can go, the only place we can go is the destination if we are next to it
+                for (Direction direction : EnumUtils.DIRECTIONS) {
+                    if (isValidDestination(start, direction)) {
+                        return true;
                     }
                 }
-                if (currentNode == null) {
-                    //If we have no current node, then exit
-                    break;
+                return false;
+            }
+            Coord4D startCoord = adjacency.getCoord(start);
+            double maxSearchDistance = 2 * startCoord.distanceTo(finalNode);
+            push(start, hScore[start]);
+            while (heapSize > 0) {
+                double fScore = heapScores[0];
+                int currentNode = pop();
+                if (fScore > gScore[currentNode] + hScore[currentNode]) {
+                    //The score of this transporter improved after this entry was added, so it has already been looked at with its better score
+                    continue;
                 }
-                //Remove the current node from unchecked and add it to checked
-                openSet.remove(currentNode);
-                closedSet.add(currentNode);
-                if (start.distanceTo(currentNode) > maxSearchDistance) {
+                if (startCoord.distanceTo(adjacency.getCoord(currentNode)) > maxSearchDistance) {
                     //If it is too far away for us to keep considering then continue on and see if we have another path that may be valid
                     // Even if it currently has a bit higher of a score
                     continue;
                 }
-                TileEntity currentNodeTile = MekanismUtils.getTileEntity(world, chunkMap, currentNode);
-                double currentScore = gScore.getDouble(currentNode);
+                double currentScore = gScore[currentNode];
                 for (Direction direction : EnumUtils.DIRECTIONS) {
-                    Coord4D neighbor = currentNode.offset(direction);
-                    TileEntity neighborEntity = MekanismUtils.getTileEntity(world, chunkMap, neighbor);
-                    if (transportStack.canInsertToTransporter(neighborEntity, direction, currentNodeTile)) {
+                    int neighbor = adjacency.getNeighbour(currentNode, direction);
+                    if (neighbor != -1 && adjacency.canPass(neighbor, color)) {
                         //If the neighbor is a transporter and the stack is valid for it
-                        double tentativeG = currentScore;
-                        Optional<ILogisticalTransporter> capability = MekanismUtils.toOptional(CapabilityUtils.getCapability(neighborEntity,
-                              Capabilities.LOGISTICAL_TRANSPORTER_CAPABILITY, direction.getOpposite()));
-                        if (capability.isPresent()) {
-                            tentativeG += capability.get().getCost();
-                        }
-                        if (closedSet.contains(neighbor) && tentativeG >= gScore.getDouble(neighbor)) {
-                            continue;
-                        }
-                        if (!openSet.contains(neighbor) || tentativeG < gScore.getDouble(neighbor)) {
-                            navMap.put(neighbor, currentNode);
-                            gScore.put(neighbor, tentativeG);
+                        double tentativeG = currentScore + adjacency.getCost(neighbor);
+                        if (stamps[neighbor] != currentStamp || tentativeG < gScore[neighbor]) {
+                            visit(neighbor, tentativeG, currentNode);
                             //Put the gScore plus estimate in the final score
-                            fScore.put(neighbor, tentativeG + neighbor.distanceTo(finalNode));
-                            openSet.add(neighbor);
+                            push(neighbor, tentativeG + hScore[neighbor]);
                         }
-                    } else if (isValidDestination(currentNode, currentNodeTile, direction, neighbor, neighborEntity)) {
+                    } else if (isValidDestination(currentNode, direction)) {
                         //Else if the neighbor is the destination and we can send to it
                         return true;
                     }
@@ -425,46 +708,136 @@ public final class TransporterPathfinder {
             return false;
         }
 
+        private void prepare(int size) {
+            if (stamps.length < size) {
+                stamps = new int[size];
+                gScore = new double[size];
+                hScore = new double[size];
+                parents = new int[size];
+                currentStamp = 0;
+            }
+            if (currentStamp == Integer.MAX_VALUE) {
+                Arrays.fill(stamps, 0);
+                currentStamp = 0;
+            }
+            currentStamp++;
+            heapSize = 0;
+        }
+
+        private void visit(int node, double score, int parent) {
+            if (stamps[node] != currentStamp) {
+                stamps[node] = currentStamp;
+                hScore[node] = adjacency.getCoord(node).distanceTo(finalNode);
+            }
+            gScore[node] = score;
+            parents[node] = parent;
+        }
+
+        private void push(int node, double fScore) {
+            if (heapSize == heapNodes.length) {
+                heapNodes = Arrays.copyOf(heapNodes, heapSize * 2);
+                heapScores = Arrays.copyOf(heapScores, heapSize * 2);
+            }
+            int index = heapSize++;
+            while (index > 0) {
+                int parent = (index - 1) >> 1;
+                if (heapScores[parent] <= fScore) {
+                    break;
+                }
+                heapNodes[index] = heapNodes[parent];
+                heapScores[index] = heapScores[parent];
+                index = parent;
+            }
+            heapNodes[index] = node;
+            heapScores[index] = fScore;
+        }
+
+        private int pop() {
+            int top = heapNodes[0];
+            heapSize--;
+            if (heapSize > 0) {
+                int node = heapNodes[heapSize];
+                double fScore = heapScores[heapSize];
+                int index = 0;
+                int half = heapSize >> 1;
+                while (index < half) {
+                    int child = 2 * index + 1;
+                    if (child + 1 < heapSize && heapScores[child + 1] < heapScores[child]) {
+                        child++;
+                    }
+                    if (fScore <= heapScores[child]) {
+                        break;
+                    }
+                    heapNodes[index] = heapNodes[child];
+                    heapScores[index] = heapScores[child];
+                    index = child;
+                }
+                heapNodes[index] = node;
+                heapScores[index] = fScore;
+            }
+            return top;
+        }
+
         /**
-         * Checks if we have a valid connection to the destination and are able to emit to it. If we are this updates the side and results to the proper values.
+         * Checks if we have a valid connection to the destination and are able to emit to it. If we are this updates the side and path to the proper values.
          *
          * @return True if we found a valid connection to the destination and can insert into it, false otherwise
          */
-        private boolean isValidDestination(Coord4D start, TileEntity startTile, Direction direction, Coord4D neighbor, TileEntity neighborTile) {
+        private boolean isValidDestination(int node, Direction direction) {
             //Check to make sure that it is the destination
-            if (neighbor.equals(finalNode) && destChecker.isValid(transportStack, direction, neighborTile)) {
-                Optional<ILogisticalTransporter> startTransporter = MekanismUtils.toOptional(CapabilityUtils.getCapability(startTile,
-                      Capabilities.LOGISTICAL_TRANSPORTER_CAPABILITY, null));
-                if (startTransporter.isPresent()) {
-                    ILogisticalTransporter transporter = startTransporter.get();
-                    if (transporter.canEmitTo(neighborTile, direction) || (finalNode.equals(transportStack.homeLocation) && transporter.canConnect(direction))) {
-                        //If it is and we can emit to it (normal or push mode),
-                        // or it is the home location of the stack (it is returning back due to not having been able to get to its destination)
-                        // and we can connect to it (normal, push, or pull (should always be pull as otherwise canEmitTo would have been true)),
-                        // then this is the proper path so we mark it as so and return true indicating that we found and marked the ideal path
-                        side = direction;
-                        results = reconstructPath(navMap, start);
-                        return true;
-                    }
+            boolean isDestination = false;
+            for (int i = 0; i < destCount; i++) {
+                if (destNodes[i] == node && destSides[i] == direction) {
+                    isDestination = true;
+                    break;
+                }
+            }
+            if (!isDestination) {
+                return false;
+            }
+            int bit = 1 << direction.ordinal();
+            if ((checkedSides & bit) == 0) {
+                checkedSides |= bit;
+                if (canInsert(node, direction)) {
+                    validSides |= bit;
+                }
+            }
+            if ((validSides & bit) != 0) {
+                //This is the proper path so we mark it as so and return true indicating that we found and marked the ideal path
+                side = direction;
+                path = new ArrayList<>();
+                path.add(finalNode);
+                for (int current = node; current != -1; current = parents[current]) {
+                    path.add(adjacency.getCoord(current));
                 }
+                finalScore = gScore[node] + hScore[node];
+                return true;
             }
             return false;
         }
 
-        private List<Coord4D> reconstructPath(Map<Coord4D, Coord4D> naviMap, Coord4D currentNode) {
-            List<Coord4D> path = new ArrayList<>();
-            path.add(currentNode);
-            if (naviMap.containsKey(currentNode)) {
-                path.addAll(reconstructPath(naviMap, naviMap.get(currentNode)));
+        /**
+         * Checks if the transporter at the given index is able to insert the stack into the destination on the given side.
+         */
+        private boolean canInsert(int node, Direction direction) {
+            if (finalTile == null) {
+                finalTile = MekanismUtils.getTileEntity(world, chunkMap, finalNode);
             }
-            finalScore = gScore.getDouble(currentNode) + currentNode.distanceTo(finalNode);
-            return path;
+            if (destChecker.isValid(transportStack, direction, finalTile)) {
+                ILogisticalTransporter transporter = adjacency.getTransporter(node);
+                //If we can emit to it (normal or push mode),
+                // or it is the home location of the stack (it is returning back due to not having been able to get to its destination)
+                // and we can connect to it (normal, push, or pull (should always be pull as otherwise canEmitTo would have been true))
+                return transporter.canEmitTo(finalTile, direction) || (finalNode.equals(transportStack.homeLocation) && transporter.canConnect(direction));
+            }
+            return false;
         }
 
+        /**
+         * Gets the path found by the last search, starting with the destination and ending with the start transporter. If no path was found this only contains the
+         * destination.
+         */
         public List<Coord4D> getPath() {
-            List<Coord4D> path = new ArrayList<>();
-            path.add(finalNode);
-            path.addAll(results);
             return path;
         }
 
@@ -472,6 +845,10 @@ public final class TransporterPathfinder {
             return side;
         }
 
+        public double getFinalScore() {
+            return finalScore;
+        }
+
         public static class DestChecker {
 
             public boolean isValid(TransporterStack stack, Direction side, TileEntity tile) {
@@ -2,6 +2,7 @@ package mekanism.common.content.transporter;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import javax.annotation.Nullable;
 import mekanism.api.Coord4D;
@@ -12,15 +13,20 @@ import mekanism.common.base.ILogisticalTransporter;
 import mekanism.common.capabilities.Capabilities;
 import mekanism.common.content.transporter.TransitRequest.TransitResponse;
 import mekanism.common.content.transporter.TransporterPathfinder.Destination;
+import mekanism.common.content.transporter.TransporterPathfinder.PendingPath;
 import mekanism.common.tile.TileEntityLogisticalSorter;
 import mekanism.common.util.CapabilityUtils;
+import mekanism.common.util.InventoryUtils;
 import mekanism.common.util.MekanismUtils;
+import mekanism.common.util.StackUtils;
 import mekanism.common.util.TransporterUtils;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.network.PacketBuffer;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.Direction;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.IWorldReader;
 import org.apache.commons.lang3.tuple.Pair;
 
 public class TransporterStack {
@@ -40,6 +46,8 @@ public class TransporterStack {
     private Coord4D clientPrev;
     private Path pathType;
     private List<Coord4D> pathToTarget = new ArrayList<>();
+    @Nullable
+    private PendingPath pendingPath;
 
     public static TransporterStack readFromNBT(CompoundNBT nbtTags) {
         TransporterStack stack = new TransporterStack();
@@ -53,6 +61,24 @@ public class TransporterStack {
         return stack;
     }
 
+    /**
+     * Creates a stack from what the server sent about it in a {@link mekanism.common.network.PacketTransporterBatch}.
+     */
+    public static TransporterStack createClientStack(@Nullable EnumColor color, int progress, BlockPos originalLocation, Path pathType, @Nullable BlockPos next,
+          BlockPos prev, ItemStack itemStack, IWorldReader world) {
+        TransporterStack stack = new TransporterStack();
+        stack.color = color;
+        stack.progress = progress;
+        stack.originalLocation = new Coord4D(originalLocation, world);
+        stack.pathType = pathType;
+        if (next != null) {
+            stack.clientNext = new Coord4D(next, world);
+        }
+        stack.clientPrev = new Coord4D(prev, world);
+        stack.itemStack = itemStack;
+        return stack;
+    }
+
     public void write(ILogisticalTransporter transporter, TileNetworkList data) {
         if (color != null) {
             data.add(TransporterUtils.colors.indexOf(color));
@@ -165,6 +191,48 @@ public class TransporterStack {
         return newPath.getResponse();
     }
 
+    /**
+     * Starts finding a new path to a destination in the background, the stack should wait where it is until {@link #pollPath(ILogisticalTransporter)} says the path
+     * is ready.
+     *
+     * @return False if the path could not be requested, as the transporter is not in a network.
+     */
+    public boolean requestPath(TransitRequest request, ILogisticalTransporter transporter, int min) {
+        pendingPath = TransporterPathfinder.requestNewBasePath(transporter, this, request, min);
+        return pendingPath != null;
+    }
+
+    public boolean isAwaitingPath() {
+        return pendingPath != null;
+    }
+
+    /**
+     * Checks if the path requested by {@link #requestPath(TransitRequest, ILogisticalTransporter, int)} is ready, and if it is switches the stack over to it. If the
+     * network changed while the path was being found, a new path is requested instead.
+     *
+     * @return The response of the new path, {@link TransitResponse#EMPTY} if there is no destination that can be reached, or null if the stack is still waiting
+     * for its path.
+     */
+    @Nullable
+    public TransitResponse pollPath(ILogisticalTransporter transporter) {
+        if (pendingPath == null || !pendingPath.isDone()) {
+            return null;
+        }
+        PendingPath pending = pendingPath;
+        pendingPath = null;
+        if (!pending.isCurrent(transporter)) {
+            return requestPath(TransitRequest.getFromTransport(this), transporter, 0) ? null : TransitResponse.EMPTY;
+        }
+        Destination newPath = pending.getDestination();
+        if (newPath == null) {
+            return TransitResponse.EMPTY;
+        }
+        idleDir = null;
+        setPath(newPath.getPath(), Path.DEST);
+        initiatedPath = true;
+        return newPath.getResponse();
+    }
+
     public TransitResponse recalculateRRPath(TransitRequest request, TileEntityLogisticalSorter outputter, ILogisticalTransporter transporter, int min) {
         Destination newPath = TransporterPathfinder.getNewRRPath(transporter, this, request, outputter, min);
         if (newPath == null) {
@@ -256,6 +324,27 @@ public class TransporterStack {
         return (transporter.getColor() == color || transporter.getColor() == null) && transporter.canConnectMutual(side, tileFrom);
     }
 
+    /**
+     * @return True if this stack and the given one are the same item going the same way, so that they can be combined into one stack.
+     */
+    public boolean canMergeWith(TransporterStack other) {
+        return pathType != Path.NONE && pathType == other.pathType && color == other.color && !isAwaitingPath() && !other.isAwaitingPath()
+               && Objects.equals(homeLocation, other.homeLocation) && InventoryUtils.areItemsStackable(itemStack, other.itemStack)
+               && pathToTarget.equals(other.pathToTarget);
+    }
+
+    /**
+     * Adds the items of the given stack to this stack. The given stack should no longer be used afterwards.
+     */
+    public void mergeWith(TransporterStack other) {
+        TransporterManager.remove(other);
+        //Remove and add ourselves again so that what is reserved for us at the destination includes the extra items
+        TransporterManager.remove(this);
+        //Don't grow the stack in place, as it may be the same stack that was in the response when the stack was inserted
+        itemStack = StackUtils.size(itemStack, itemStack.getCount() + other.itemStack.getCount());
+        TransporterManager.add(this);
+    }
+
     public Coord4D getDest() {
         return pathToTarget.get(0);
     }
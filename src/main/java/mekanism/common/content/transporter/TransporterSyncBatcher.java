@@ -0,0 +1,149 @@
+package mekanism.common.content.transporter;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntIterator;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.ints.IntSet;
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import javax.annotation.Nullable;
+import mekanism.common.Mekanism;
+import mekanism.common.network.PacketTransporterBatch;
+import mekanism.common.network.PacketTransporterBatch.ChunkUpdates;
+import mekanism.common.network.PacketTransporterBatch.StackData;
+import mekanism.common.network.PacketTransporterBatch.TransporterUpdate;
+import mekanism.common.tile.transmitter.TileEntityLogisticalTransporter;
+import net.minecraft.entity.player.ServerPlayerEntity;
+import net.minecraft.item.Item;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.IWorld;
+import net.minecraft.world.World;
+import net.minecraft.world.dimension.DimensionType;
+import net.minecraft.world.server.ServerWorld;
+
+/**
+ * Collects the changes to the stacks in logistical transporters during a tick, and sends each player a single {@link PacketTransporterBatch} with the changes in all
+ * the chunks they are tracking at the end of the tick. Busy transporter networks would otherwise send a packet per transporter per tick to every player tracking it.
+ *
+ * The items of the stacks are sent as indices into a palette that is kept per player for as long as they are logged in, so each item only gets written in full the
+ * first time it is sent to a player.
+ */
+public class TransporterSyncBatcher {
+
+    /**
+     * The pending changes of each dimension, by chunk and then by position.
+     */
+    private static final Map<DimensionType, Long2ObjectMap<Long2ObjectMap<TransporterUpdate>>> pendingUpdates = new Object2ObjectOpenHashMap<>();
+    private static final Map<UUID, Object2IntMap<Item>> palettes = new Object2ObjectOpenHashMap<>();
+
+    /**
+     * Queues the changes to the given transporter's stacks to be sent at the end of the tick. What is sent about each stack is taken now, so the stacks are free to keep
+     * changing.
+     */
+    public static void queue(TileEntityLogisticalTransporter tile, Int2ObjectMap<TransporterStack> updates, IntSet deletes) {
+        TransporterUpdate update = getUpdate(tile);
+        if (update != null) {
+            for (Int2ObjectMap.Entry<TransporterStack> entry : updates.int2ObjectEntrySet()) {
+                update.update(tile.getTransmitter(), entry.getIntKey(), entry.getValue());
+            }
+            IntIterator iterator = deletes.iterator();
+            while (iterator.hasNext()) {
+                update.delete(iterator.nextInt());
+            }
+        }
+    }
+
+    public static void queue(TileEntityLogisticalTransporter tile, int stackId, TransporterStack stack) {
+        TransporterUpdate update = getUpdate(tile);
+        if (update != null) {
+            update.update(tile.getTransmitter(), stackId, stack);
+        }
+    }
+
+    @Nullable
+    private static TransporterUpdate getUpdate(TileEntityLogisticalTransporter tile) {
+        World world = tile.getWorld();
+        if (world == null || world.isRemote()) {
+            return null;
+        }
+        BlockPos pos = tile.getPos();
+        return pendingUpdates.computeIfAbsent(world.getDimension().getType(), type -> new Long2ObjectLinkedOpenHashMap<>())
+              .computeIfAbsent(ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4), chunk -> new Long2ObjectLinkedOpenHashMap<>())
+              .computeIfAbsent(pos.toLong(), p -> new TransporterUpdate(pos));
+    }
+
+    /**
+     * Sends all the changes that were queued in the given world this tick to the players tracking the chunks they happened in.
+     */
+    public static void flush(World world) {
+        Long2ObjectMap<Long2ObjectMap<TransporterUpdate>> chunks = pendingUpdates.get(world.getDimension().getType());
+        if (chunks == null || chunks.isEmpty() || !(world instanceof ServerWorld)) {
+            return;
+        }
+        Map<ServerPlayerEntity, List<ChunkUpdates>> playerUpdates = new Object2ObjectLinkedOpenHashMap<>();
+        for (Long2ObjectMap.Entry<Long2ObjectMap<TransporterUpdate>> entry : chunks.long2ObjectEntrySet()) {
+            long chunkPos = entry.getLongKey();
+            ChunkUpdates chunkUpdates = new ChunkUpdates(chunkPos);
+            for (TransporterUpdate update : entry.getValue().values()) {
+                chunkUpdates.add(update);
+            }
+            ((ServerWorld) world).getChunkProvider().chunkManager.getTrackingPlayers(new ChunkPos(chunkPos), false)
+                  .forEach(player -> playerUpdates.computeIfAbsent(player, p -> new ArrayList<>()).add(chunkUpdates));
+        }
+        chunks.clear();
+        for (Map.Entry<ServerPlayerEntity, List<ChunkUpdates>> entry : playerUpdates.entrySet()) {
+            ServerPlayerEntity player = entry.getKey();
+            Mekanism.packetHandler.sendTo(createPacket(player.getUniqueID(), entry.getValue()), player);
+        }
+    }
+
+    private static PacketTransporterBatch createPacket(UUID player, List<ChunkUpdates> chunks) {
+        Object2IntMap<Item> palette = palettes.get(player);
+        boolean resetPalette = palette == null;
+        if (resetPalette) {
+            palette = new Object2IntOpenHashMap<>();
+            palette.defaultReturnValue(-1);
+            palettes.put(player, palette);
+        }
+        List<Item> newItems = new ArrayList<>();
+        IntList itemIndices = new IntArrayList();
+        for (ChunkUpdates chunk : chunks) {
+            for (TransporterUpdate update : chunk.getTransporters()) {
+                for (StackData stack : update.getStacks().values()) {
+                    Item item = stack.getItem();
+                    int index = palette.getInt(item);
+                    if (index == -1) {
+                        index = palette.size();
+                        palette.put(item, index);
+                        newItems.add(item);
+                    }
+                    itemIndices.add(index);
+                }
+            }
+        }
+        return new PacketTransporterBatch(resetPalette, newItems, chunks, itemIndices);
+    }
+
+    public static void playerLoggedOut(UUID player) {
+        palettes.remove(player);
+    }
+
+    public static void worldUnloaded(IWorld world) {
+        pendingUpdates.remove(world.getDimension().getType());
+    }
+
+    public static void reset() {
+        pendingUpdates.clear();
+        palettes.clear();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,298 @@
+package mekanism.common.network;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import javax.annotation.Nullable;
+import mekanism.common.PacketHandler;
+import mekanism.common.base.ILogisticalTransporter;
+import mekanism.common.content.transporter.TransporterStack;
+import mekanism.common.content.transporter.TransporterStack.Path;
+import mekanism.common.tile.transmitter.TileEntityLogisticalTransporter;
+import mekanism.common.util.EnumUtils;
+import mekanism.common.util.MekanismUtils;
+import mekanism.common.util.TransporterUtils;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.Items;
+import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.network.PacketBuffer;
+import net.minecraft.util.Direction;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraftforge.fml.network.NetworkEvent.Context;
+import net.minecraftforge.registries.ForgeRegistries;
+
+/**
+ * All the changes to the stacks in the logistical transporters a player is tracking that happened during a tick, see
+ * {@link mekanism.common.content.transporter.TransporterSyncBatcher}. Transporters are grouped by chunk so that their positions can be sent relative to the chunk, and
+ * items are sent as indices into a palette of items that is kept for the whole connection and only has the items it did not already contain added to it.
+ */
+public class PacketTransporterBatch {
+
+    /**
+     * Written instead of a side for positions that are not next to the transporter they are relative to.
+     */
+    private static final byte NOT_ADJACENT = -1;
+    /**
+     * The client's copy of the palette of the connection to the server. Only accessed while decoding packets, which is done in order on the network thread.
+     */
+    private static final List<Item> clientPalette = new ArrayList<>();
+
+    private final boolean resetPalette;
+    private final List<Item> newItems;
+    private final List<ChunkUpdates> chunks;
+    /**
+     * The palette index of the item of each stack, in the order the stacks get written. Only used on the server.
+     */
+    private final IntList itemIndices;
+
+    public PacketTransporterBatch(boolean resetPalette, List<Item> newItems, List<ChunkUpdates> chunks, IntList itemIndices) {
+        this.resetPalette = resetPalette;
+        this.newItems = newItems;
+        this.chunks = chunks;
+        this.itemIndices = itemIndices;
+    }
+
+    public static void handle(PacketTransporterBatch message, Supplier<Context> context) {
+        PlayerEntity player = PacketHandler.getPlayer(context);
+        if (player == null) {
+            return;
+        }
+        context.get().enqueueWork(() -> {
+            for (ChunkUpdates chunk : message.chunks) {
+                for (TransporterUpdate update : chunk.transporters) {
+                    TileEntityLogisticalTransporter tile = MekanismUtils.getTileEntity(TileEntityLogisticalTransporter.class, player.world, update.pos);
+                    if (tile != null) {
+                        tile.handleStackUpdates(update.stacks, update.deletes);
+                    }
+                }
+            }
+        });
+        context.get().setPacketHandled(true);
+    }
+
+    public static void encode(PacketTransporterBatch pkt, PacketBuffer buf) {
+        buf.writeBoolean(pkt.resetPalette);
+        buf.writeVarInt(pkt.newItems.size());
+        for (Item item : pkt.newItems) {
+            buf.writeRegistryIdUnsafe(ForgeRegistries.ITEMS, item);
+        }
+        int stackIndex = 0;
+        buf.writeVarInt(pkt.chunks.size());
+        for (ChunkUpdates chunk : pkt.chunks) {
+            buf.writeInt(chunk.chunkX);
+            buf.writeInt(chunk.chunkZ);
+            buf.writeVarInt(chunk.transporters.size());
+            for (TransporterUpdate update : chunk.transporters) {
+                BlockPos pos = update.pos;
+                buf.writeShort((pos.getY() << 8) | ((pos.getZ() & 15) << 4) | (pos.getX() & 15));
+                buf.writeVarInt(update.stacks.size());
+                for (Int2ObjectMap.Entry<StackData> entry : update.stacks.int2ObjectEntrySet()) {
+                    buf.writeVarInt(entry.getIntKey());
+                    entry.getValue().write(buf, pos, pkt.itemIndices.getInt(stackIndex++));
+                }
+                buf.writeVarInt(update.deletes.size());
+                for (int i = 0; i < update.deletes.size(); i++) {
+                    buf.writeVarInt(update.deletes.getInt(i));
+                }
+            }
+        }
+    }
+
+    public static PacketTransporterBatch decode(PacketBuffer buf) {
+        boolean resetPalette = buf.readBoolean();
+        if (resetPalette) {
+            clientPalette.clear();
+        }
+        int newItems = buf.readVarInt();
+        for (int i = 0; i < newItems; i++) {
+            clientPalette.add(buf.readRegistryIdUnsafe(ForgeRegistries.ITEMS));
+        }
+        int chunkCount = buf.readVarInt();
+        List<ChunkUpdates> chunks = new ArrayList<>(chunkCount);
+        for (int i = 0; i < chunkCount; i++) {
+            ChunkUpdates chunk = new ChunkUpdates(buf.readInt(), buf.readInt());
+            int transporterCount = buf.readVarInt();
+            for (int j = 0; j < transporterCount; j++) {
+                int local = buf.readUnsignedShort();
+                TransporterUpdate update = new TransporterUpdate(new BlockPos((chunk.chunkX << 4) | (local & 15), local >> 8, (chunk.chunkZ << 4) | ((local >> 4) & 15)));
+                int stackCount = buf.readVarInt();
+                for (int k = 0; k < stackCount; k++) {
+                    update.stacks.put(buf.readVarInt(), StackData.read(buf, update.pos));
+                }
+                int deleteCount = buf.readVarInt();
+                for (int k = 0; k < deleteCount; k++) {
+                    update.deletes.add(buf.readVarInt());
+                }
+                chunk.transporters.add(update);
+            }
+            chunks.add(chunk);
+        }
+        return new PacketTransporterBatch(resetPalette, new ArrayList<>(), chunks, new IntArrayList());
+    }
+
+    private static void writeRelative(PacketBuffer buf, BlockPos origin, BlockPos pos) {
+        int xOffset = pos.getX() - origin.getX();
+        int yOffset = pos.getY() - origin.getY();
+        int zOffset = pos.getZ() - origin.getZ();
+        if (Math.abs(xOffset) + Math.abs(yOffset) + Math.abs(zOffset) == 1) {
+            for (Direction side : EnumUtils.DIRECTIONS) {
+                if (side.getXOffset() == xOffset && side.getYOffset() == yOffset && side.getZOffset() == zOffset) {
+                    buf.writeByte(side.ordinal());
+                    return;
+                }
+            }
+        }
+        buf.writeByte(NOT_ADJACENT);
+        buf.writeBlockPos(pos);
+    }
+
+    private static BlockPos readRelative(PacketBuffer buf, BlockPos origin) {
+        byte side = buf.readByte();
+        return side == NOT_ADJACENT ? buf.readBlockPos() : origin.offset(EnumUtils.DIRECTIONS[side]);
+    }
+
+    /**
+     * The transporters in a single chunk that have changes to send.
+     */
+    public static class ChunkUpdates {
+
+        private final int chunkX;
+        private final int chunkZ;
+        private final List<TransporterUpdate> transporters = new ArrayList<>();
+
+        public ChunkUpdates(long chunkPos) {
+            this(ChunkPos.getX(chunkPos), ChunkPos.getZ(chunkPos));
+        }
+
+        private ChunkUpdates(int chunkX, int chunkZ) {
+            this.chunkX = chunkX;
+            this.chunkZ = chunkZ;
+        }
+
+        public void add(TransporterUpdate update) {
+            transporters.add(update);
+        }
+
+        public List<TransporterUpdate> getTransporters() {
+            return transporters;
+        }
+    }
+
+    /**
+     * The stacks that were added or changed in a single transporter, and the IDs of the ones that were removed from it.
+     */
+    public static class TransporterUpdate {
+
+        private final BlockPos pos;
+        private final Int2ObjectMap<StackData> stacks = new Int2ObjectLinkedOpenHashMap<>();
+        private final IntList deletes = new IntArrayList();
+
+        public TransporterUpdate(BlockPos pos) {
+            this.pos = pos;
+        }
+
+        public void update(ILogisticalTransporter transporter, int stackId, TransporterStack stack) {
+            stacks.put(stackId, new StackData(transporter, stack));
+        }
+
+        public void delete(int stackId) {
+            deletes.add(stackId);
+        }
+
+        public Int2ObjectMap<StackData> getStacks() {
+            return stacks;
+        }
+    }
+
+    /**
+     * What the client needs to know about a stack, taken when the stack changed as the stack itself may keep changing before the end of the tick.
+     */
+    public static class StackData {
+
+        @Nullable
+        private final BlockPos next;
+        private final BlockPos prev;
+        private final BlockPos originalLocation;
+        private final Path pathType;
+        private final int color;
+        private final int progress;
+        private final ItemStack itemStack;
+        /**
+         * The size of the stack when the data was taken, as stacks in transit get resized when they are merged.
+         */
+        private final int count;
+
+        private StackData(ILogisticalTransporter transporter, TransporterStack stack) {
+            color = stack.color == null ? -1 : TransporterUtils.colors.indexOf(stack.color);
+            progress = stack.progress;
+            originalLocation = stack.originalLocation.getPos();
+            pathType = stack.getPathType();
+            next = stack.getPath().indexOf(transporter.coord()) > 0 ? stack.getNext(transporter).getPos() : null;
+            prev = stack.getPrev(transporter).getPos();
+            itemStack = stack.itemStack;
+            count = itemStack.getCount();
+        }
+
+        private StackData(int color, int progress, BlockPos originalLocation, Path pathType, @Nullable BlockPos next, BlockPos prev, ItemStack itemStack) {
+            this.color = color;
+            this.progress = progress;
+            this.originalLocation = originalLocation;
+            this.pathType = pathType;
+            this.next = next;
+            this.prev = prev;
+            this.itemStack = itemStack;
+            count = itemStack.getCount();
+        }
+
+        public Item getItem() {
+            return itemStack.getItem();
+        }
+
+        private void write(PacketBuffer buf, BlockPos transporterPos, int itemIndex) {
+            buf.writeByte(color);
+            buf.writeByte(progress);
+            buf.writeEnumValue(pathType);
+            writeRelative(buf, transporterPos, originalLocation);
+            buf.writeBoolean(next != null);
+            if (next != null) {
+                writeRelative(buf, transporterPos, next);
+            }
+            writeRelative(buf, transporterPos, prev);
+            buf.writeVarInt(itemIndex);
+            buf.writeVarInt(count);
+            Item item = itemStack.getItem();
+            buf.writeCompoundTag(item.isDamageable() || item.shouldSyncTag() ? itemStack.getShareTag() : null);
+        }
+
+        private static StackData read(PacketBuffer buf, BlockPos transporterPos) {
+            int color = buf.readByte();
+            int progress = buf.readUnsignedByte();
+            Path pathType = buf.readEnumValue(Path.class);
+            BlockPos originalLocation = readRelative(buf, transporterPos);
+            BlockPos next = buf.readBoolean() ? readRelative(buf, transporterPos) : null;
+            BlockPos prev = readRelative(buf, transporterPos);
+            int itemIndex = buf.readVarInt();
+            ItemStack itemStack = new ItemStack(itemIndex < clientPalette.size() ? clientPalette.get(itemIndex) : Items.AIR, buf.readVarInt());
+            CompoundNBT tag = buf.readCompoundTag();
+            if (!itemStack.isEmpty()) {
+                itemStack.readShareTag(tag);
+            }
+            return new StackData(color, progress, originalLocation, pathType, next, prev, itemStack);
+        }
+
+        /**
+         * Creates the client's version of the stack in the given transporter.
+         */
+        public TransporterStack createStack(TileEntityLogisticalTransporter tile) {
+            return TransporterStack.createClientStack(color == -1 ? null : TransporterUtils.colors.get(color), progress, originalLocation, pathType, next, prev,
+                  itemStack, tile.getWorld());
+        }
+    }
+}
\ No newline at end of file
@@ -33,6 +33,15 @@ public class TileEntityAdvancedBoundingBlock extends TileEntityBoundingBlock imp
         return inv.acceptEnergy(side, amount, simulate);
     }
 
+    @Override
+    public double getEnergyNeeded(Direction side) {
+        IAdvancedBoundingBlock inv = getInv();
+        if (inv == null || !canReceiveEnergy(side)) {
+            return 0;
+        }
+        return inv.getEnergyNeeded(side);
+    }
+
     @Override
     public boolean canReceiveEnergy(Direction side) {
         IAdvancedBoundingBlock inv = getInv();
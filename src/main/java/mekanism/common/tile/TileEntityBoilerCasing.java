@@ -85,6 +85,7 @@ public class TileEntityBoilerCasing extends TileEntityMultiblock<SynchronizedBoi
                         structure.clientHot = newHot;
                     }
 
+                    double prevTemperature = structure.temperature;
                     double[] d = structure.simulateHeat();
                     structure.applyTemperatureChange();
                     structure.lastEnvironmentLoss = d[1];
@@ -114,9 +115,14 @@ public class TileEntityBoilerCasing extends TileEntityMultiblock<SynchronizedBoi
                     if (needsValveUpdate || structure.needsRenderUpdate() || needsHotUpdate) {
                         sendPacketToRenderer();
                     }
+                    //Only mark the chunk for saving if something that gets saved changed
+                    boolean changed = structure.temperature != prevTemperature || !structure.waterTank.getFluid().isFluidStackIdentical(structure.prevWater) ||
+                                      !structure.steamTank.getFluid().isFluidStackIdentical(structure.prevSteam);
                     structure.prevWater = structure.waterTank.isEmpty() ? FluidStack.EMPTY : structure.waterTank.getFluid().copy();
                     structure.prevSteam = structure.steamTank.isEmpty() ? FluidStack.EMPTY : structure.steamTank.getFluid().copy();
-                    MekanismUtils.saveChunk(this);
+                    if (changed) {
+                        MekanismUtils.saveChunk(this);
+                    }
                 }
             }
         }
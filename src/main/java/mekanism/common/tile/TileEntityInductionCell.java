@@ -1,8 +1,10 @@
 package mekanism.common.tile;
 
+import javax.annotation.Nullable;
 import mekanism.api.energy.IStrictEnergyStorage;
 import mekanism.api.providers.IBlockProvider;
 import mekanism.common.block.basic.BlockInductionCell;
+import mekanism.common.content.matrix.SynchronizedMatrixData;
 import mekanism.common.tier.InductionCellTier;
 import mekanism.common.tile.base.TileEntityMekanism;
 import net.minecraft.util.Direction;
@@ -10,6 +12,12 @@ import net.minecraft.util.Direction;
 public class TileEntityInductionCell extends TileEntityMekanism implements IStrictEnergyStorage {
 
     public InductionCellTier tier;
+    /**
+     * The matrix this cell is part of, while this is set the energy of the cell is kept by the matrix.
+     */
+    @Nullable
+    private SynchronizedMatrixData matrix;
+    private int matrixIndex;
 
     public TileEntityInductionCell(IBlockProvider blockProvider) {
         super(blockProvider);
@@ -24,6 +32,21 @@ public class TileEntityInductionCell extends TileEntityMekanism implements IStri
     public void onUpdate() {
     }
 
+    @Nullable
+    public SynchronizedMatrixData getMatrix() {
+        return matrix;
+    }
+
+    public void setMatrix(@Nullable SynchronizedMatrixData matrix, int index) {
+        this.matrix = matrix;
+        matrixIndex = index;
+    }
+
+    @Override
+    public double getEnergy() {
+        return matrix == null ? super.getEnergy() : matrix.getCellEnergy(matrixIndex);
+    }
+
     @Override
     public boolean canReceiveEnergy(Direction side) {
         return false;
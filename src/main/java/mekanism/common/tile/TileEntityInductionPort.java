@@ -65,6 +65,11 @@ public class TileEntityInductionPort extends TileEntityInductionCasing implement
         return side == null || canReceiveEnergy(side) ? addEnergy(amount, simulate) : 0;
     }
 
+    @Override
+    public double getEnergyNeeded(Direction side) {
+        return structure != null && (side == null || canReceiveEnergy(side)) ? structure.getEnergyNeeded() : 0;
+    }
+
     @Override
     public double pullEnergy(Direction side, double amount, boolean simulate) {
         return side == null || canOutputEnergy(side) ? removeEnergy(amount, simulate) : 0;
@@ -1,5 +1,7 @@
 package mekanism.common.tile;
 
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import java.util.Iterator;
 import java.util.Map;
@@ -24,6 +26,7 @@ import mekanism.common.content.transporter.TTagFilter;
 import mekanism.common.content.transporter.TransitRequest;
 import mekanism.common.content.transporter.TransitRequest.TransitResponse;
 import mekanism.common.content.transporter.TransporterFilter;
+import mekanism.common.content.transporter.TransporterFilterIndex;
 import mekanism.common.integration.computer.IComputerIntegration;
 import mekanism.common.inventory.container.MekanismContainer;
 import mekanism.common.inventory.container.sync.SyncableBoolean;
@@ -48,11 +51,14 @@ import net.minecraft.util.Direction;
 import net.minecraftforge.common.capabilities.Capability;
 import net.minecraftforge.common.util.Constants.NBT;
 import net.minecraftforge.common.util.LazyOptional;
+import net.minecraftforge.items.IItemHandler;
 
 public class TileEntityLogisticalSorter extends TileEntityMekanism implements ISpecialConfigData, ISustainedData, IComputerIntegration,
       ITileFilterHolder<TransporterFilter<?>> {
 
     private HashList<TransporterFilter<?>> filters = new HashList<>();
+    @Nullable
+    private TransporterFilterIndex filterIndex;
     public EnumColor color;
     public boolean autoEject;
     public boolean roundRobin;
@@ -88,37 +94,7 @@ public class TileEntityLogisticalSorter extends TileEntityMekanism implements IS
                 TileEntity front = MekanismUtils.getTileEntity(getWorld(), pos.offset(getDirection()));
                 //If there is no tile to pull from or the push to, skip doing any checks
                 if (InventoryUtils.isItemHandler(back, getDirection()) && front != null) {
-                    boolean sentItems = false;
-                    int min = 0;
-
-                    outer:
-                    for (TransporterFilter<?> filter : filters) {
-                        for (StackSearcher search = new StackSearcher(back, getOppositeDirection()); search.getSlotCount() >= 0; ) {
-                            InvStack invStack = filter.getStackFromInventory(search, singleItem);
-                            if (invStack == null) {
-                                break;
-                            }
-                            ItemStack itemStack = invStack.getStack();
-                            if (filter.canFilter(itemStack, !singleItem)) {
-                                if (!singleItem && filter instanceof TItemStackFilter) {
-                                    TItemStackFilter itemFilter = (TItemStackFilter) filter;
-                                    if (itemFilter.sizeMode) {
-                                        min = itemFilter.min;
-                                    }
-                                }
-
-                                TransitRequest request = TransitRequest.getFromStack(itemStack);
-                                TransitResponse response = emitItemToTransporter(front, request, filter.color, min);
-                                if (!response.isEmpty()) {
-                                    invStack.use(response.getSendingAmount());
-                                    back.markDirty();
-                                    setActive(true);
-                                    sentItems = true;
-                                    break outer;
-                                }
-                            }
-                        }
-                    }
+                    boolean sentItems = !filters.isEmpty() && emitFiltered(back, front);
 
                     if (!sentItems && autoEject) {
                         TransitRequest request = TransitRequest.buildInventoryMap(back, getOppositeDirection(), singleItem ? 1 : 64, new StrictFilterFinder());
@@ -137,6 +113,90 @@ public class TileEntityLogisticalSorter extends TileEntityMekanism implements IS
         }
     }
 
+    /**
+     * Sends on the first stack in the back inventory that a filter lets through, going through the filters in order. The back inventory is scanned once, looking up
+     * which filters each stack matches in the filter index, instead of being searched again for each filter.
+     *
+     * @return True if anything was sent.
+     */
+    private boolean emitFiltered(TileEntity back, TileEntity front) {
+        TransporterFilterIndex index = getFilterIndex();
+        IItemHandler inventory = InventoryUtils.getItemHandler(back, getDirection());
+        int amount = singleItem ? 1 : 64;
+        ItemStack[] slotStacks = new ItemStack[inventory.getSlots()];
+        //The slots each filter can take a stack from, from the top of the inventory down
+        IntList[] filterSlots = new IntList[index.size()];
+        for (int slot = slotStacks.length - 1; slot >= 0; slot--) {
+            ItemStack stack = inventory.extractItem(slot, amount, true);
+            if (!stack.isEmpty()) {
+                slotStacks[slot] = stack;
+                for (int matchIndex : index.getMatchingFilters(stack)) {
+                    TransporterFilter<?> filter = index.getFilter(matchIndex);
+                    if (!isSizeModeFilter(filter) && filter.canFilter(stack, !singleItem)) {
+                        if (filterSlots[matchIndex] == null) {
+                            filterSlots[matchIndex] = new IntArrayList();
+                        }
+                        filterSlots[matchIndex].add(slot);
+                    }
+                }
+            }
+        }
+        for (int i = 0; i < filterSlots.length; i++) {
+            TransporterFilter<?> filter = index.getFilter(i);
+            if (isSizeModeFilter(filter)) {
+                if (emitDefinedItem((TItemStackFilter) filter, back, front)) {
+                    return true;
+                }
+            } else if (filterSlots[i] != null) {
+                for (int slot : filterSlots[i]) {
+                    ItemStack stack = slotStacks[slot];
+                    TransitResponse response = emitItemToTransporter(front, TransitRequest.getFromStack(stack), filter.color, 0);
+                    if (!response.isEmpty()) {
+                        new InvStack(back, slot, stack, getDirection()).use(response.getSendingAmount());
+                        back.markDirty();
+                        setActive(true);
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Size mode filters gather their stack from several slots, so they can not be matched against a single slot and search the inventory themselves instead.
+     */
+    private boolean isSizeModeFilter(TransporterFilter<?> filter) {
+        return !singleItem && filter instanceof TItemStackFilter && ((TItemStackFilter) filter).sizeMode;
+    }
+
+    private boolean emitDefinedItem(TItemStackFilter filter, TileEntity back, TileEntity front) {
+        for (StackSearcher search = new StackSearcher(back, getOppositeDirection()); search.getSlotCount() >= 0; ) {
+            InvStack invStack = filter.getStackFromInventory(search, singleItem);
+            if (invStack == null) {
+                break;
+            }
+            ItemStack itemStack = invStack.getStack();
+            if (filter.canFilter(itemStack, true)) {
+                TransitResponse response = emitItemToTransporter(front, TransitRequest.getFromStack(itemStack), filter.color, filter.min);
+                if (!response.isEmpty()) {
+                    invStack.use(response.getSendingAmount());
+                    back.markDirty();
+                    setActive(true);
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private TransporterFilterIndex getFilterIndex() {
+        if (filterIndex == null || !filterIndex.isFor(filters)) {
+            filterIndex = new TransporterFilterIndex(filters);
+        }
+        return filterIndex;
+    }
+
     public TransitResponse emitItemToTransporter(TileEntity front, TransitRequest request, EnumColor filterColor, int min) {
         Optional<ILogisticalTransporter> capability = MekanismUtils.toOptional(CapabilityUtils.getCapability(front, Capabilities.LOGISTICAL_TRANSPORTER_CAPABILITY, getOppositeDirection()));
         if (capability.isPresent()) {
@@ -557,7 +617,9 @@ public class TileEntityLogisticalSorter extends TileEntityMekanism implements IS
 
         @Override
         public boolean modifies(ItemStack stack) {
-            for (TransporterFilter<?> filter : filters) {
+            TransporterFilterIndex index = getFilterIndex();
+            for (int matchIndex : index.getMatchingFilters(stack)) {
+                TransporterFilter<?> filter = index.getFilter(matchIndex);
                 if (filter.canFilter(stack, false) && !filter.allowDefault) {
                     return false;
                 }
@@ -39,6 +39,7 @@ import mekanism.api.providers.IBlockProvider;
 import mekanism.api.sustained.ISustainedInventory;
 import mekanism.client.sound.SoundHandler;
 import mekanism.common.Mekanism;
+import mekanism.common.base.EnergyEmitterCache;
 import mekanism.common.base.IComparatorSupport;
 import mekanism.common.base.IEnergyWrapper;
 import mekanism.common.base.ITileComponent;
@@ -87,6 +88,7 @@ import mekanism.common.util.CapabilityUtils;
 import mekanism.common.util.MekanismUtils;
 import mekanism.common.util.SecurityUtils;
 import mekanism.common.util.text.TextComponentUtil;
+import mekanism.common.world.DirtyChunkTracker;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
 import net.minecraft.client.Minecraft;
@@ -153,6 +155,7 @@ public abstract class TileEntityMekanism extends TileEntity implements ITileNetw
     private boolean isDirectional;
     private boolean isActivatable;
     private boolean hasInventory;
+    private int inventoryVersion;
     private boolean hasSecurity;
     private boolean isElectric;
     private boolean hasSound;
@@ -213,6 +216,8 @@ public abstract class TileEntityMekanism extends TileEntity implements ITileNetw
     private double maxEnergy;
     private double energyPerTick;
     private double lastEnergyReceived;
+    @Nullable
+    private EnergyEmitterCache emitterCache;
     //End variables ITileElectric
 
     //Variables for handling ITileSecurity
@@ -403,7 +408,7 @@ public abstract class TileEntityMekanism extends TileEntity implements ITileNetw
         if (world != null) {
             //TODO: Do we even really need to be updating the cachedBlockState?
             cachedBlockState = world.getBlockState(pos);
-            world.markChunkDirty(pos, this);
+            DirtyChunkTracker.markDirty(this);
             //Only update the comparator state if we are on the server and support comparators
             if (!isRemote() && supportsComparator() && !cachedBlockState.isAir(world, pos)) {
                 int newRedstoneLevel = getRedstoneLevel();
@@ -764,6 +769,9 @@ public abstract class TileEntityMekanism extends TileEntity implements ITileNetw
     }
 
     public void onNeighborChange(Block block) {
+        if (emitterCache != null) {
+            emitterCache.markDirty();
+        }
         if (!isRemote() && supportsRedstone()) {
             updatePower();
         }
@@ -951,9 +959,18 @@ public abstract class TileEntityMekanism extends TileEntity implements ITileNetw
 
     @Override
     public void onContentsChanged() {
+        inventoryVersion++;
         markDirty();
     }
 
+    /**
+     * Gets a number that changes each time the contents of this tile's inventory change, so that anything caching information about the inventory can tell when it
+     * is out of date.
+     */
+    public int getInventoryVersion() {
+        return inventoryVersion;
+    }
+
     @Override
     public void setInventory(ListNBT nbtTags, Object... data) {
         if (nbtTags == null || nbtTags.isEmpty() || !handleInventory()) {
@@ -1132,6 +1149,14 @@ public abstract class TileEntityMekanism extends TileEntity implements ITileNetw
         return 0;
     }
 
+    @Override
+    public EnergyEmitterCache getEmitterCache() {
+        if (emitterCache == null) {
+            emitterCache = new EnergyEmitterCache(this);
+        }
+        return emitterCache;
+    }
+
     @Override
     public double getEnergy() {
         return isElectric() ? electricityStored : 0;
@@ -1198,6 +1223,15 @@ public abstract class TileEntityMekanism extends TileEntity implements ITileNetw
         return toUse;
     }
 
+    @Override
+    public double getEnergyNeeded(Direction side) {
+        if (!isElectric() || (side != null && !canReceiveEnergy(side))) {
+            return 0;
+        }
+        double needed = getNeededEnergy();
+        return needed < 0.0001 ? 0 : needed;
+    }
+
     @Override
     public double pullEnergy(Direction side, double amount, boolean simulate) {
         if (!isElectric()) {
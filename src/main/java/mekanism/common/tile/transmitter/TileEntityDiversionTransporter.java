@@ -1,7 +1,5 @@
 package mekanism.common.tile.transmitter;
 
-import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
-import it.unimi.dsi.fastutil.ints.IntSet;
 import javax.annotation.Nonnull;
 import mekanism.api.TileNetworkList;
 import mekanism.api.text.EnumColor;
@@ -11,7 +9,6 @@ import mekanism.common.Mekanism;
 import mekanism.common.MekanismLang;
 import mekanism.common.base.ILangEntry;
 import mekanism.common.block.states.TransmitterType;
-import mekanism.common.content.transporter.TransporterStack;
 import mekanism.common.registries.MekanismBlocks;
 import mekanism.common.util.MekanismUtils;
 import net.minecraft.entity.player.PlayerEntity;
@@ -67,16 +64,6 @@ public class TileEntityDiversionTransporter extends TileEntityLogisticalTranspor
         return addModes(super.getNetworkedData(data));
     }
 
-    @Override
-    public TileNetworkList makeSyncPacket(int stackId, TransporterStack stack) {
-        return addModes(super.makeSyncPacket(stackId, stack));
-    }
-
-    @Override
-    public TileNetworkList makeBatchPacket(Int2ObjectMap<TransporterStack> updates, IntSet deletes) {
-        return addModes(super.makeBatchPacket(updates, deletes));
-    }
-
     private TileNetworkList addModes(TileNetworkList data) {
         data.add(modes[0]);
         data.add(modes[1]);
@@ -1,7 +1,7 @@
 package mekanism.common.tile.transmitter;
 
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
-import it.unimi.dsi.fastutil.ints.IntSet;
+import it.unimi.dsi.fastutil.ints.IntList;
 import java.util.Collection;
 import java.util.Optional;
 import javax.annotation.Nonnull;
@@ -22,10 +22,11 @@ import mekanism.common.block.states.BlockStateHelper;
 import mekanism.common.block.states.TransmitterType;
 import mekanism.common.block.transmitter.BlockLogisticalTransporter;
 import mekanism.common.capabilities.Capabilities;
-import mekanism.common.content.transporter.PathfinderCache;
 import mekanism.common.content.transporter.TransitRequest;
 import mekanism.common.content.transporter.TransitRequest.TransitResponse;
 import mekanism.common.content.transporter.TransporterStack;
+import mekanism.common.network.PacketTransporterBatch;
+import mekanism.common.network.PacketTransporterBatch.StackData;
 import mekanism.common.registries.MekanismBlocks;
 import mekanism.common.tier.TransporterTier;
 import mekanism.common.transmitters.TransporterImpl;
@@ -50,9 +51,6 @@ import net.minecraftforge.fml.loading.FMLEnvironment;
 
 public class TileEntityLogisticalTransporter extends TileEntityTransmitter<TileEntity, InventoryNetwork, Void> {
 
-    private final int SYNC_PACKET = 1;
-    private final int BATCH_PACKET = 2;
-
     public final TransporterTier tier;
 
     private int delay = 0;
@@ -84,7 +82,7 @@ public class TileEntityLogisticalTransporter extends TileEntityTransmitter<TileE
     public void onWorldSeparate() {
         super.onWorldSeparate();
         if (!isRemote()) {
-            PathfinderCache.onChanged(new Coord4D(getPos(), getWorld()));
+            onPathsChanged();
         }
     }
 
@@ -105,6 +103,12 @@ public class TileEntityLogisticalTransporter extends TileEntityTransmitter<TileE
         return false;
     }
 
+    @Nullable
+    @Override
+    public Object getCompatibilityKey() {
+        return getTransmitter().getColor();
+    }
+
     @Override
     public boolean isValidAcceptor(TileEntity tile, Direction side) {
         return TransporterUtils.isValidAcceptorOnSide(tile, side);
@@ -160,7 +164,24 @@ public class TileEntityLogisticalTransporter extends TileEntityTransmitter<TileE
     @Override
     public void onWorldJoin() {
         super.onWorldJoin();
-        PathfinderCache.onChanged(new Coord4D(getPos(), getWorld()));
+        onPathsChanged();
+    }
+
+    @Override
+    protected void onTransmitterConnectionsChanged() {
+        super.onTransmitterConnectionsChanged();
+        //Covers diversion transporters closing or opening a side from redstone or their mode, and sides being disabled
+        onPathsChanged();
+    }
+
+    /**
+     * Drops any paths the network has cached that go through this transporter, and what the network knows about how its transporters connect.
+     */
+    private void onPathsChanged() {
+        InventoryNetwork network = getTransmitter().getTransmitterNetwork();
+        if (network != null) {
+            network.transporterChanged(new Coord4D(getPos(), getWorld()));
+        }
     }
 
     @Override
@@ -194,17 +215,6 @@ public class TileEntityLogisticalTransporter extends TileEntityTransmitter<TileE
                     MekanismUtils.updateBlock(getWorld(), pos);
                 }
                 getTransmitter().readFromPacket(dataStream);
-            } else if (type == SYNC_PACKET) {
-                readStack(dataStream);
-            } else if (type == BATCH_PACKET) {
-                int updates = dataStream.readInt();
-                for (int i = 0; i < updates; i++) {
-                    readStack(dataStream);
-                }
-                int deletes = dataStream.readInt();
-                for (int i = 0; i < deletes; i++) {
-                    getTransmitter().deleteStack(dataStream.readInt());
-                }
             }
         }
     }
@@ -224,38 +234,22 @@ public class TileEntityLogisticalTransporter extends TileEntityTransmitter<TileE
         return data;
     }
 
-    public TileNetworkList makeSyncPacket(int stackId, TransporterStack stack) {
-        TileNetworkList data = new TileNetworkList();
-        data.add(SYNC_PACKET);
-        data.add(stackId);
-        stack.write(getTransmitter(), data);
-        return data;
-    }
-
-    public TileNetworkList makeBatchPacket(Int2ObjectMap<TransporterStack> updates, IntSet deletes) {
-        TileNetworkList data = new TileNetworkList();
-        data.add(BATCH_PACKET);
-        data.add(updates.size());
-        for (Int2ObjectMap.Entry<TransporterStack> entry : updates.int2ObjectEntrySet()) {
-            data.add(entry.getIntKey());
-            entry.getValue().write(getTransmitter(), data);
+    /**
+     * Applies the changes to the stacks in this transporter that the server sent in a {@link PacketTransporterBatch}.
+     */
+    public void handleStackUpdates(Int2ObjectMap<StackData> updates, IntList deletes) {
+        for (Int2ObjectMap.Entry<StackData> entry : updates.int2ObjectEntrySet()) {
+            TransporterStack stack = entry.getValue().createStack(this);
+            if (stack.progress == 0) {
+                stack.progress = 5;
+            }
+            getTransmitter().addStack(entry.getIntKey(), stack);
         }
-        data.add(deletes.size());
-        data.addAll(deletes);
-        return data;
-    }
-
-
-    private void readStack(PacketBuffer dataStream) {
-        int id = dataStream.readInt();
-        TransporterStack stack = TransporterStack.readFromPacket(dataStream);
-        if (stack.progress == 0) {
-            stack.progress = 5;
+        for (int i = 0; i < deletes.size(); i++) {
+            getTransmitter().deleteStack(deletes.getInt(i));
         }
-        getTransmitter().addStack(id, stack);
     }
 
-
     @Override
     public void read(CompoundNBT nbtTags) {
         super.read(nbtTags);
@@ -284,7 +278,7 @@ public class TileEntityLogisticalTransporter extends TileEntityTransmitter<TileE
     @Override
     protected ActionResultType onConfigure(PlayerEntity player, int part, Direction side) {
         TransporterUtils.incrementColor(getTransmitter());
-        PathfinderCache.onChanged(new Coord4D(getPos(), getWorld()));
+        onPathsChanged();
         Mekanism.packetHandler.sendUpdatePacket(this);
         EnumColor color = getTransmitter().getColor();
         player.sendMessage(MekanismLang.LOG_FORMAT.translateColored(EnumColor.DARK_BLUE, MekanismLang.MEKANISM,
@@ -179,6 +179,14 @@ public class TileEntityMechanicalPipe extends TileEntityTransmitter<IFluidHandle
         return buffer.isEmpty() || otherBuffer.isEmpty() || buffer.isFluidEqual(otherBuffer);
     }
 
+    @Nullable
+    @Override
+    public Object getCompatibilityKey() {
+        FluidStack buffer = getBufferWithFallback();
+        //FluidStack equality is the same as isFluidEqual
+        return buffer.isEmpty() ? null : new FluidStack(buffer, 1);
+    }
+
     @Override
     public FluidNetwork createNewNetwork() {
         return new FluidNetwork();
@@ -233,6 +233,13 @@ public class TileEntityPressurizedTube extends TileEntityTransmitter<IGasHandler
         return buffer.isEmpty() || otherBuffer.isEmpty() || buffer.isTypeEqual(otherBuffer);
     }
 
+    @Nullable
+    @Override
+    public Object getCompatibilityKey() {
+        GasStack buffer = getBufferWithFallback();
+        return buffer.isEmpty() ? null : buffer.getType();
+    }
+
     @Override
     public GasNetwork createNewNetwork() {
         return new GasNetwork();
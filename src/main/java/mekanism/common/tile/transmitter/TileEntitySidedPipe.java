@@ -33,6 +33,7 @@ import mekanism.common.util.MekanismUtils;
 import mekanism.common.util.MultipartUtils;
 import mekanism.common.util.MultipartUtils.AdvancedRayTraceResult;
 import mekanism.common.util.text.BooleanStateDisplay.OnOff;
+import mekanism.common.world.DirtyChunkTracker;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.network.PacketBuffer;
@@ -107,7 +108,7 @@ public abstract class TileEntitySidedPipe extends TileEntity implements ITileNet
         if (world != null) {
             //TODO: Do we even really need to be updating the cachedBlockState?
             cachedBlockState = world.getBlockState(pos);
-            world.markChunkDirty(pos, this);
+            DirtyChunkTracker.markDirty(this);
             //TODO: Test if this majorly breaks things
         }
     }
@@ -227,6 +228,14 @@ public abstract class TileEntitySidedPipe extends TileEntity implements ITileNet
         return true;
     }
 
+    /**
+     * @return A key where two transmitters are valid for each other if either key is null or the keys are equal, matching {@link #isValidTransmitter(TileEntity)}.
+     */
+    @Nullable
+    public Object getCompatibilityKey() {
+        return null;
+    }
+
     public List<AxisAlignedBB> getCollisionBoxes() {
         List<AxisAlignedBB> list = new ArrayList<>();
         byte connections = getAllCurrentConnections();
@@ -360,8 +369,12 @@ public abstract class TileEntitySidedPipe extends TileEntity implements ITileNet
                 }
             }
 
+            boolean transmittersChanged = possibleTransmitters != currentTransmitterConnections;
             currentTransmitterConnections = possibleTransmitters;
             currentAcceptorConnections = possibleAcceptors;
+            if (transmittersChanged) {
+                onTransmitterConnectionsChanged();
+            }
             if (newlyEnabledTransmitters != 0) {
                 //If any sides are now valid transmitters that were not before recheck the connection
                 recheckConnections(newlyEnabledTransmitters);
@@ -383,8 +396,12 @@ public abstract class TileEntitySidedPipe extends TileEntity implements ITileNet
                 }
             }
 
+            byte previousTransmitters = currentTransmitterConnections;
             currentTransmitterConnections = setConnectionBit(currentTransmitterConnections, possibleTransmitter, side);
             currentAcceptorConnections = setConnectionBit(currentAcceptorConnections, possibleAcceptor, side);
+            if (previousTransmitters != currentTransmitterConnections) {
+                onTransmitterConnectionsChanged();
+            }
             if (transmitterChanged) {
                 //If this side is now a valid transmitter and it wasn't before recheck the connection
                 recheckConnection(side);
@@ -392,6 +409,13 @@ public abstract class TileEntitySidedPipe extends TileEntity implements ITileNet
         }
     }
 
+    /**
+     * Called on the server when the sides this pipe connects to other transmitters on change, including when a side gets disabled without the network being
+     * rebuilt.
+     */
+    protected void onTransmitterConnectionsChanged() {
+    }
+
     /**
      * Only call this from server side
      *
@@ -98,7 +98,7 @@ public class TileEntityThermodynamicConductor extends TileEntityTransmitter<IHea
     @Override
     public CompoundNBT write(CompoundNBT nbtTags) {
         super.write(nbtTags);
-        nbtTags.putDouble("temperature", temperature);
+        nbtTags.putDouble("temperature", getTemp());
         return nbtTags;
     }
 
@@ -120,7 +120,7 @@ public class TileEntityThermodynamicConductor extends TileEntityTransmitter<IHea
     @Override
     public TileNetworkList getNetworkedData(TileNetworkList data) {
         super.getNetworkedData(data);
-        data.add(temperature);
+        data.add(getTemp());
         return data;
     }
 
@@ -130,6 +130,13 @@ public class TileEntityThermodynamicConductor extends TileEntityTransmitter<IHea
 
     @Override
     public double getTemp() {
+        if (!isRemote()) {
+            //While in a network the network keeps track of the temperature
+            HeatNetwork network = getTransmitter().getTransmitterNetwork();
+            if (network != null) {
+                return network.getTemperature(this);
+            }
+        }
         return temperature;
     }
 
@@ -210,7 +217,7 @@ public class TileEntityThermodynamicConductor extends TileEntityTransmitter<IHea
     @Nullable
     @Override
     protected ThermodynamicConductorUpgradeData getUpgradeData() {
-        return new ThermodynamicConductorUpgradeData(redstoneReactive, connectionTypes, temperature);
+        return new ThermodynamicConductorUpgradeData(redstoneReactive, connectionTypes, getTemp());
     }
 
     @Override
@@ -3,6 +3,7 @@ package mekanism.common.tile.transmitter;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.UUID;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import mekanism.api.IAlloyInteraction;
@@ -21,6 +22,7 @@ import mekanism.common.util.MekanismUtils;
 import net.minecraft.block.BlockState;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.tileentity.TileEntityType;
 import net.minecraft.util.Direction;
@@ -40,6 +42,11 @@ public abstract class TileEntityTransmitter<A, N extends DynamicNetwork<A, N, BU
     public boolean delayedRefresh = false;
 
     private N lastClientNetwork = null;
+    /**
+     * ID of the network this transmitter was part of when it was saved, so that it can go straight back into that network when it is loaded.
+     */
+    @Nullable
+    private UUID storedNetworkID;
 
     public TileEntityTransmitter(TileEntityType<? extends TileEntityTransmitter> type) {
         super(type);
@@ -65,6 +72,35 @@ public abstract class TileEntityTransmitter<A, N extends DynamicNetwork<A, N, BU
         unloaded = false;
     }
 
+    @Override
+    public void read(CompoundNBT nbtTags) {
+        super.read(nbtTags);
+        storedNetworkID = nbtTags.hasUniqueId("network") ? nbtTags.getUniqueId("network") : null;
+    }
+
+    @Nonnull
+    @Override
+    public CompoundNBT write(CompoundNBT nbtTags) {
+        super.write(nbtTags);
+        UUID networkID = storedNetworkID;
+        if (!isRemote() && getTransmitter().hasTransmitterNetwork()) {
+            networkID = getTransmitter().getTransmitterNetwork().getNetworkID();
+        }
+        if (networkID != null) {
+            nbtTags.putUniqueId("network", networkID);
+        }
+        return nbtTags;
+    }
+
+    @Nullable
+    public UUID getStoredNetworkID() {
+        return storedNetworkID;
+    }
+
+    public void clearStoredNetworkID() {
+        storedNetworkID = null;
+    }
+
     @Override
     public void tick() {
         super.tick();
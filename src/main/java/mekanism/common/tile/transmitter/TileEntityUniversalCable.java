@@ -28,6 +28,7 @@ import mekanism.common.upgrade.transmitter.TransmitterUpgradeData;
 import mekanism.common.upgrade.transmitter.UniversalCableUpgradeData;
 import mekanism.common.util.CableUtils;
 import mekanism.common.util.CapabilityUtils;
+import mekanism.common.util.EnumUtils;
 import mekanism.common.util.MekanismUtils;
 import net.minecraft.block.BlockState;
 import net.minecraft.nbt.CompoundNBT;
@@ -49,6 +50,7 @@ public class TileEntityUniversalCable extends TileEntityTransmitter<EnergyAccept
     public EnergyStack buffer = new EnergyStack(0);
     private CapabilityWrapperManager<TileEntityUniversalCable, ForgeEnergyCableIntegration> forgeEnergyManager =
           new CapabilityWrapperManager<>(TileEntityUniversalCable.class, ForgeEnergyCableIntegration.class);
+    private final EnergyAcceptorWrapper[] acceptorWrappers = new EnergyAcceptorWrapper[EnumUtils.DIRECTIONS.length];
 
     public TileEntityUniversalCable(IBlockProvider blockProvider) {
         super(((IHasTileEntity<TileEntityUniversalCable>) blockProvider.getBlock()).getTileType());
@@ -214,6 +216,12 @@ public class TileEntityUniversalCable extends TileEntityTransmitter<EnergyAccept
         return toUse;
     }
 
+    @Override
+    public double getEnergyNeeded(Direction side) {
+        double needed = getMaxEnergy() - getEnergy();
+        return needed < 0.0001 || (side != null && !canReceiveEnergy(side)) ? 0 : needed;
+    }
+
     @Override
     public boolean canReceiveEnergy(Direction side) {
         if (side == null) {
@@ -241,7 +249,9 @@ public class TileEntityUniversalCable extends TileEntityTransmitter<EnergyAccept
     @Override
     public void setEnergy(double energy) {
         if (getTransmitter().hasTransmitterNetwork()) {
-            getTransmitter().getTransmitterNetwork().buffer.amount = energy;
+            EnergyNetwork network = getTransmitter().getTransmitterNetwork();
+            network.buffer.amount = energy;
+            network.wake();
         } else {
             buffer.amount = energy;
         }
@@ -264,7 +274,9 @@ public class TileEntityUniversalCable extends TileEntityTransmitter<EnergyAccept
 
     @Override
     public EnergyAcceptorWrapper getCachedAcceptor(Direction side) {
-        return EnergyAcceptorWrapper.get(getCachedTile(side), side.getOpposite());
+        EnergyAcceptorWrapper wrapper = EnergyAcceptorWrapper.get(getCachedTile(side), side.getOpposite(), acceptorWrappers[side.ordinal()]);
+        acceptorWrappers[side.ordinal()] = wrapper;
+        return wrapper;
     }
 
     @Override
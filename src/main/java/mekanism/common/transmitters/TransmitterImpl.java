@@ -2,6 +2,7 @@ package mekanism.common.transmitters;
 
 import java.util.Collection;
 import java.util.Optional;
+import java.util.UUID;
 import javax.annotation.Nullable;
 import mekanism.api.Coord4D;
 import mekanism.api.transmitters.DynamicNetwork;
@@ -13,6 +14,7 @@ import mekanism.common.util.CapabilityUtils;
 import mekanism.common.util.MekanismUtils;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.Direction;
+import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 
 public class TransmitterImpl<ACCEPTOR, NETWORK extends DynamicNetwork<ACCEPTOR, NETWORK, BUFFER>, BUFFER> extends Transmitter<ACCEPTOR, NETWORK, BUFFER> {
@@ -38,6 +40,22 @@ public class TransmitterImpl<ACCEPTOR, NETWORK extends DynamicNetwork<ACCEPTOR,
         return new Coord4D(getTileEntity().getPos(), world());
     }
 
+    @Override
+    public BlockPos getPos() {
+        return getTileEntity().getPos();
+    }
+
+    @Nullable
+    @Override
+    public UUID getStoredNetworkID() {
+        return getTileEntity().getStoredNetworkID();
+    }
+
+    @Override
+    public void clearStoredNetworkID() {
+        getTileEntity().clearStoredNetworkID();
+    }
+
     @Override
     public Coord4D getAdjacentConnectableTransmitterCoord(Direction side) {
         Coord4D sideCoord = coord().offset(side);
@@ -62,6 +80,12 @@ public class TransmitterImpl<ACCEPTOR, NETWORK extends DynamicNetwork<ACCEPTOR,
         return true;//allow non-Transmitter impls to connect?
     }
 
+    @Nullable
+    @Override
+    public Object getCompatibilityKey() {
+        return containingTile.getCompatibilityKey();
+    }
+
     @Override
     public void connectionFailed() {
         containingTile.delayedRefresh = true;
@@ -88,12 +112,19 @@ public class TransmitterImpl<ACCEPTOR, NETWORK extends DynamicNetwork<ACCEPTOR,
 
     @Override
     public NETWORK getExternalNetwork(Coord4D from) {
+        IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> transmitter = getExternalTransmitter(from);
+        return transmitter == null ? null : transmitter.getTransmitterNetwork();
+    }
+
+    @Nullable
+    @Override
+    public IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> getExternalTransmitter(Coord4D from) {
         Optional<IGridTransmitter<?, ?, ?>> gridTransmitter = MekanismUtils.toOptional(CapabilityUtils.getCapability(MekanismUtils.getTileEntity(world(), from.getPos()),
               Capabilities.GRID_TRANSMITTER_CAPABILITY, null));
         if (gridTransmitter.isPresent()) {
             IGridTransmitter<?, ?, ?> transmitter = gridTransmitter.get();
             if (TransmissionType.checkTransmissionType(transmitter, getTransmissionType())) {
-                return ((IGridTransmitter<ACCEPTOR, NETWORK, BUFFER>) transmitter).getTransmitterNetwork();
+                return (IGridTransmitter<ACCEPTOR, NETWORK, BUFFER>) transmitter;
             }
         }
         return null;
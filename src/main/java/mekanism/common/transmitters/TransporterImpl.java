@@ -12,15 +12,15 @@ import javax.annotation.Nullable;
 import mekanism.api.Coord4D;
 import mekanism.api.TileNetworkList;
 import mekanism.api.text.EnumColor;
-import mekanism.common.Mekanism;
 import mekanism.common.base.ILogisticalTransporter;
 import mekanism.common.capabilities.Capabilities;
+import mekanism.common.config.MekanismConfig;
 import mekanism.common.content.transporter.TransitRequest;
 import mekanism.common.content.transporter.TransitRequest.TransitResponse;
 import mekanism.common.content.transporter.TransporterManager;
 import mekanism.common.content.transporter.TransporterStack;
 import mekanism.common.content.transporter.TransporterStack.Path;
-import mekanism.common.network.PacketTileEntity;
+import mekanism.common.content.transporter.TransporterSyncBatcher;
 import mekanism.common.tile.TileEntityLogisticalSorter;
 import mekanism.common.tile.transmitter.TileEntityLogisticalTransporter;
 import mekanism.common.tile.transmitter.TileEntitySidedPipe.ConnectionType;
@@ -109,10 +109,19 @@ public class TransporterImpl extends TransmitterImpl<TileEntity, InventoryNetwor
             for (Int2ObjectMap.Entry<TransporterStack> entry : transit.int2ObjectEntrySet()) {
                 int stackId = entry.getIntKey();
                 TransporterStack stack = entry.getValue();
+                if (stack.isAwaitingPath()) {
+                    //Wait at this transporter until the stack's new path has been found
+                    if (!pollPath(stackId, stack)) {
+                        deletes.add(stackId);
+                    }
+                    continue;
+                }
                 if (!stack.initiatedPath) {
                     if (stack.itemStack.isEmpty() || !recalculate(stackId, stack, null)) {
                         deletes.add(stackId);
                         continue;
+                    } else if (stack.isAwaitingPath()) {
+                        continue;
                     }
                 }
 
@@ -147,6 +156,7 @@ public class TransporterImpl extends TransmitterImpl<TileEntity, InventoryNetwor
                                     // Nothing was rejected; remove the stack from the prediction tracker and
                                     // schedule this stack for deletion. Continue the loop thereafter
                                     ItemStack rejected = response.getRejected(stack.itemStack);
+                                    getTransmitterNetwork().getProfile().addTransferred(stack.itemStack.getCount() - rejected.getCount());
                                     if (rejected.isEmpty()) {
                                         TransporterManager.remove(stack);
                                         deletes.add(stackId);
@@ -181,16 +191,15 @@ public class TransporterImpl extends TransmitterImpl<TileEntity, InventoryNetwor
             }
 
             if (!deletes.isEmpty() || !needsSync.isEmpty()) {
-                PacketTileEntity msg = new PacketTileEntity(coord, getTileEntity().makeBatchPacket(needsSync, deletes));
+                // Queue the changes to be sent to clients along with those of the other transporters at the end of the tick
+                TransporterSyncBatcher.queue(getTileEntity(), needsSync, deletes);
                 // Now remove any entries from transit that have been deleted
                 deletes.forEach((IntConsumer) (id -> transit.remove(id)));
 
                 // Clear the pending sync packets
                 needsSync.clear();
 
-                // Finally, notify clients and mark chunk for save
-                //TODO: Check
-                Mekanism.packetHandler.sendToAllTracking(msg, world(), coord.getPos());
+                // Finally, mark chunk for save
                 MekanismUtils.saveChunk(getTileEntity());
             }
         }
@@ -209,8 +218,29 @@ public class TransporterImpl extends TransmitterImpl<TileEntity, InventoryNetwor
     private boolean recalculate(int stackId, TransporterStack stack, Coord4D from) {
         boolean noPath = stack.getPathType() == Path.NONE;
         if (!noPath) {
+            if (MekanismConfig.general.asyncTransporterPathfinding.get() && stack.requestPath(TransitRequest.getFromTransport(stack), this, 0)) {
+                //The stack waits here until the path is found, and is synced once it has its new path
+                if (from != null) {
+                    stack.originalLocation = from;
+                }
+                return true;
+            }
             noPath = stack.recalculatePath(TransitRequest.getFromTransport(stack), this, 0).isEmpty();
         }
+        return onRecalculated(stackId, stack, noPath, from);
+    }
+
+    /**
+     * Switches the stack over to the path that was being found for it if it is ready.
+     *
+     * @return False if the stack had nowhere to go and got dropped.
+     */
+    private boolean pollPath(int stackId, TransporterStack stack) {
+        TransitResponse response = stack.pollPath(this);
+        return response == null || onRecalculated(stackId, stack, response.isEmpty(), null);
+    }
+
+    private boolean onRecalculated(int stackId, TransporterStack stack, boolean noPath, Coord4D from) {
         if (noPath && !stack.calculateIdle(this)) {
             TransporterUtils.drop(this, stack);
             return false;
@@ -247,7 +277,7 @@ public class TransporterImpl extends TransmitterImpl<TileEntity, InventoryNetwor
                 int stackId = nextId++;
                 transit.put(stackId, stack);
                 TileEntityLogisticalTransporter tile = getTileEntity();
-                Mekanism.packetHandler.sendToAllTracking(new PacketTileEntity(tile, tile.makeSyncPacket(stackId, stack)), tile);
+                TransporterSyncBatcher.queue(tile, stackId, stack);
                 MekanismUtils.saveChunk(tile);
             }
             return response;
@@ -271,6 +301,9 @@ public class TransporterImpl extends TransmitterImpl<TileEntity, InventoryNetwor
 
     @Override
     public void entityEntering(TransporterStack stack, int progress) {
+        if (MekanismConfig.general.transporterStackMerging.get() && mergeIntoExisting(stack)) {
+            return;
+        }
         // Update the progress of the stack and add it as something that's both
         // in transit and needs sync down to the client.
         //
@@ -288,6 +321,29 @@ public class TransporterImpl extends TransmitterImpl<TileEntity, InventoryNetwor
         // a tick).
     }
 
+    /**
+     * Tries to merge a stack that is entering this transporter into a stack that is already in it and going the same way, as long as the one that is already here has
+     * not gotten past the middle of the transporter yet.
+     *
+     * @return True if the stack got merged into another one.
+     */
+    private boolean mergeIntoExisting(TransporterStack stack) {
+        int limit = Math.min(stack.itemStack.getMaxStackSize(), getTileEntity().tier.getPullAmount());
+        int count = stack.itemStack.getCount();
+        if (count >= limit) {
+            return false;
+        }
+        for (Int2ObjectMap.Entry<TransporterStack> entry : transit.int2ObjectEntrySet()) {
+            TransporterStack existing = entry.getValue();
+            if (existing.progress < 50 && existing.itemStack.getCount() + count <= limit && existing.canMergeWith(stack)) {
+                existing.mergeWith(stack);
+                needsSync.put(entry.getIntKey(), existing);
+                return true;
+            }
+        }
+        return false;
+    }
+
     @Override
     public EnumColor getColor() {
         return color;
@@ -0,0 +1,203 @@
+package mekanism.common.transmitters.grid;
+
+import it.unimi.dsi.fastutil.longs.Long2ByteMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
+import javax.annotation.Nullable;
+import mekanism.api.transmitters.DynamicNetwork;
+import mekanism.common.base.target.Target;
+import mekanism.common.util.EnumUtils;
+import mekanism.common.util.MekanismUtils;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.Direction;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraftforge.common.util.LazyOptional;
+
+/**
+ * Keeps track of the resolved handlers for the acceptors of a network so that emitting does not have to look up the tile and capabilities of every acceptor each tick.
+ * An acceptor only gets resolved again when the sides the network is connected to it on change, when the tile its handlers came from is no longer valid, or when one
+ * of the capabilities its handlers came from gets invalidated.
+ *
+ * @param <HANDLER> The type of handler acceptors get resolved to.
+ * @param <TARGET>  The emitter target that gets reused by each acceptor.
+ */
+public class AcceptorCache<HANDLER, TARGET extends Target<HANDLER, ?>> {
+
+    private final Long2ObjectMap<CachedAcceptor<HANDLER, TARGET>> cachedAcceptors = new Long2ObjectOpenHashMap<>();
+    private final LongSet changedAcceptors = new LongOpenHashSet();
+    private final HandlerResolver<HANDLER> handlerResolver;
+    private final Supplier<TARGET> targetSupplier;
+    private final Runnable invalidationListener;
+
+    /**
+     * @param handlerResolver      Gets the capability for the handler of a tile for a given side.
+     * @param targetSupplier       Creates the target that an acceptor reuses each time it is emitted to.
+     * @param invalidationListener Called when a capability one of the acceptors took a handler from gets invalidated.
+     */
+    public AcceptorCache(HandlerResolver<HANDLER> handlerResolver, Supplier<TARGET> targetSupplier, Runnable invalidationListener) {
+        this.handlerResolver = handlerResolver;
+        this.targetSupplier = targetSupplier;
+        this.invalidationListener = invalidationListener;
+    }
+
+    /**
+     * Marks the acceptor at the given packed position as needing to be looked at again the next time the acceptors are retrieved.
+     */
+    public void acceptorChanged(long pos) {
+        changedAcceptors.add(pos);
+    }
+
+    /**
+     * Gets all the acceptors of the network, updating any that have changed since the last time this was called.
+     *
+     * @param acceptorDirections The network's current acceptors and the sides they are connected on.
+     */
+    public Collection<CachedAcceptor<HANDLER, TARGET>> getAcceptors(Long2ByteMap acceptorDirections) {
+        if (!changedAcceptors.isEmpty()) {
+            LongIterator iterator = changedAcceptors.iterator();
+            while (iterator.hasNext()) {
+                long pos = iterator.nextLong();
+                byte sides = acceptorDirections.get(pos);
+                if (sides == 0) {
+                    cachedAcceptors.remove(pos);
+                } else {
+                    CachedAcceptor<HANDLER, TARGET> cachedAcceptor = cachedAcceptors.get(pos);
+                    if (cachedAcceptor == null) {
+                        cachedAcceptors.put(pos, new CachedAcceptor<>(this, pos, sides));
+                    } else {
+                        cachedAcceptor.setSides(sides);
+                    }
+                }
+            }
+            changedAcceptors.clear();
+        }
+        return cachedAcceptors.values();
+    }
+
+    @FunctionalInterface
+    public interface HandlerResolver<HANDLER> {
+
+        /**
+         * Gets the capability for the handler of a tile for a given side.
+         *
+         * @param previous The handler that was resolved for this side last time, if any. Resolvers that wrap the tile's handler should hand back the same optional as
+         *                 last time if the wrapper still wraps what the tile gives out, so that no new listener needs to be registered for it.
+         */
+        LazyOptional<HANDLER> resolve(TileEntity tile, Direction side, @Nullable HANDLER previous);
+    }
+
+    public static class CachedAcceptor<HANDLER, TARGET extends Target<HANDLER, ?>> {
+
+        private final AcceptorCache<HANDLER, TARGET> cache;
+        private final BlockPos pos;
+        private final List<Direction> sides = new ArrayList<>();
+        private final List<HANDLER> handlers = new ArrayList<>();
+        private final List<Direction> handlerSides = new ArrayList<>();
+        /**
+         * The handler that was last resolved on each side and the capability it came from, indexed by side. The capabilities are only listened to when they are not the
+         * same as the ones already listened to, so that resolving an unchanged acceptor again does not keep adding listeners to a capability the tile holds onto.
+         */
+        private final Object[] sideHandlers = new Object[EnumUtils.DIRECTIONS.length];
+        private final LazyOptional<?>[] sideCapabilities = new LazyOptional<?>[EnumUtils.DIRECTIONS.length];
+        @Nullable
+        private TileEntity tile;
+        @Nullable
+        private TARGET target;
+        /**
+         * Set when one of the capabilities the handlers came from gets invalidated, so that they get looked up again.
+         */
+        private boolean invalidated;
+
+        private CachedAcceptor(AcceptorCache<HANDLER, TARGET> cache, long pos, byte sides) {
+            this.cache = cache;
+            this.pos = BlockPos.fromLong(pos);
+            setSides(sides);
+        }
+
+        private void setSides(byte sides) {
+            this.sides.clear();
+            for (Direction side : EnumUtils.DIRECTIONS) {
+                if (DynamicNetwork.hasSide(sides, side)) {
+                    this.sides.add(side);
+                } else {
+                    sideHandlers[side.ordinal()] = null;
+                    sideCapabilities[side.ordinal()] = null;
+                }
+            }
+            //Force the handlers to be looked up again
+            tile = null;
+        }
+
+        /**
+         * Makes sure the handlers of this acceptor are up to date, looking them up again if the tile or any of the capabilities they came from are no longer valid.
+         *
+         * @return True if the acceptor is loaded and has at least one handler.
+         */
+        @SuppressWarnings("unchecked")
+        public boolean validate(@Nullable World world) {
+            if (tile != null && !invalidated && !tile.isRemoved() && MekanismUtils.isBlockLoaded(world, pos)) {
+                return !handlers.isEmpty();
+            }
+            handlers.clear();
+            handlerSides.clear();
+            invalidated = false;
+            tile = MekanismUtils.getTileEntity(world, pos);
+            if (tile == null) {
+                return false;
+            }
+            for (Direction side : sides) {
+                int index = side.ordinal();
+                LazyOptional<HANDLER> capability = cache.handlerResolver.resolve(tile, side, (HANDLER) sideHandlers[index]);
+                if (capability.isPresent()) {
+                    HANDLER handler = capability.orElseThrow(() -> new RuntimeException("Failed to retrieve value of lazy optional when it claimed it was present."));
+                    handlers.add(handler);
+                    handlerSides.add(side);
+                    sideHandlers[index] = handler;
+                    if (sideCapabilities[index] != capability) {
+                        sideCapabilities[index] = capability;
+                        capability.addListener(optional -> {
+                            invalidated = true;
+                            cache.invalidationListener.run();
+                        });
+                    }
+                } else {
+                    sideHandlers[index] = null;
+                    sideCapabilities[index] = null;
+                }
+            }
+            return !handlers.isEmpty();
+        }
+
+        public int getHandlerCount() {
+            return handlers.size();
+        }
+
+        public HANDLER getHandler(int index) {
+            return handlers.get(index);
+        }
+
+        public Direction getSide(int index) {
+            return handlerSides.get(index);
+        }
+
+        /**
+         * @return The target for this acceptor, cleared so that it can be filled again.
+         */
+        public TARGET getTarget() {
+            if (target == null) {
+                target = cache.targetSupplier.get();
+            } else {
+                target.clear();
+            }
+            return target;
+        }
+    }
+}
\ No newline at end of file
@@ -1,26 +1,21 @@
 package mekanism.common.transmitters.grid;
 
-import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
-import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
-import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.EnumSet;
-import java.util.Set;
+import java.util.List;
 import javax.annotation.Nonnull;
-import mekanism.api.Coord4D;
 import mekanism.api.energy.EnergyStack;
 import mekanism.api.transmitters.DynamicNetwork;
 import mekanism.api.transmitters.IGridTransmitter;
 import mekanism.common.MekanismLang;
 import mekanism.common.base.EnergyAcceptorWrapper;
+import mekanism.common.base.SplitPlan;
 import mekanism.common.base.target.EnergyAcceptorTarget;
+import mekanism.common.transmitters.grid.AcceptorCache.CachedAcceptor;
 import mekanism.common.util.EmitUtils;
-import mekanism.common.util.MekanismUtils;
 import mekanism.common.util.text.EnergyDisplay;
-import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.Direction;
 import net.minecraft.util.text.ITextComponent;
-import net.minecraft.world.chunk.IChunk;
 import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.eventbus.api.Event;
 
@@ -31,6 +26,15 @@ public class EnergyNetwork extends DynamicNetwork<EnergyAcceptorWrapper, EnergyN
     private double lastPowerScale = 0;
     private double joulesTransmitted = 0;
     private double jouleBufferLastTick = 0;
+    private final AcceptorCache<EnergyAcceptorWrapper, EnergyAcceptorTarget> acceptorCache = new AcceptorCache<>(EnergyAcceptorWrapper::getOptional, EnergyAcceptorTarget::new,
+          this::wake);
+    private final List<EnergyAcceptorTarget> targets = new ArrayList<>();
+    private final SplitPlan splitPlan = new SplitPlan();
+    private double energyToEmit;
+    /**
+     * Whether {@link #planTick()} already split what was gathered for this tick.
+     */
+    private boolean planned;
 
     public EnergyNetwork() {
     }
@@ -91,46 +95,78 @@ public class EnergyNetwork extends DynamicNetwork<EnergyAcceptorWrapper, EnergyN
         return getCapacityAsDouble() - buffer.amount;
     }
 
-    private double tickEmit(double energyToSend) {
-        Set<EnergyAcceptorTarget> targets = new ObjectOpenHashSet<>();
-        int totalHandlers = 0;
-        Long2ObjectMap<IChunk> chunkMap = new Long2ObjectOpenHashMap<>();
-        for (Coord4D coord : possibleAcceptors) {
-            EnumSet<Direction> sides = acceptorDirections.get(coord);
-            if (sides == null || sides.isEmpty()) {
-                continue;
-            }
-            TileEntity tile = MekanismUtils.getTileEntity(getWorld(), chunkMap, coord);
-            if (tile == null) {
-                continue;
-            }
-            EnergyAcceptorTarget target = new EnergyAcceptorTarget();
-            for (Direction side : sides) {
-                EnergyAcceptorWrapper acceptor = EnergyAcceptorWrapper.get(tile, side);
-                if (acceptor != null && acceptor.canReceiveEnergy(side) && acceptor.needsEnergy(side)) {
-                    target.addHandler(side, acceptor);
+    @Override
+    protected void onAcceptorUpdated(long acceptorPos) {
+        acceptorCache.acceptorChanged(acceptorPos);
+    }
+
+    private void gatherEmit() {
+        targets.clear();
+        splitPlan.clear();
+        energyToEmit = buffer.amount;
+        if (energyToEmit > 0) {
+            for (CachedAcceptor<EnergyAcceptorWrapper, EnergyAcceptorTarget> acceptor : acceptorCache.getAcceptors(acceptorDirections)) {
+                if (!acceptor.validate(getWorld())) {
+                    continue;
+                }
+                EnergyAcceptorTarget target = acceptor.getTarget();
+                for (int i = 0; i < acceptor.getHandlerCount(); i++) {
+                    Direction side = acceptor.getSide(i);
+                    EnergyAcceptorWrapper handler = acceptor.getHandler(i);
+                    if (handler.canReceiveEnergy(side)) {
+                        //Ask each handler what it needs once, which both filters out the ones that are full and sizes the split
+                        double needed = handler.getEnergyNeeded(side);
+                        if (needed > 0) {
+                            target.addHandler(side, handler);
+                            splitPlan.add(targets.size(), target.getHandlerCount() - 1, Math.min(needed, energyToEmit));
+                        }
+                    }
+                }
+                if (target.getHandlerCount() > 0) {
+                    targets.add(target);
                 }
-            }
-            int curHandlers = target.getHandlers().size();
-            if (curHandlers > 0) {
-                targets.add(target);
-                totalHandlers += curHandlers;
             }
         }
-        return EmitUtils.sendToAcceptors(targets, totalHandlers, energyToSend);
+    }
+
+    @Override
+    public boolean canPlanTick() {
+        return true;
+    }
+
+    @Override
+    public void gatherTick() {
+        planned = false;
+        gatherEmit();
+    }
+
+    @Override
+    public void planTick() {
+        EmitUtils.planSplit(splitPlan, energyToEmit);
+        planned = true;
+    }
+
+    private double tickEmit() {
+        if (planned) {
+            planned = false;
+            return EmitUtils.sendSplit(splitPlan, targets, energyToEmit);
+        }
+        gatherEmit();
+        return EmitUtils.sendPlanned(splitPlan, targets, energyToEmit);
     }
 
     public double emit(double energyToSend, boolean doEmit) {
         double toUse = Math.min(getEnergyNeeded(), energyToSend);
-        if (doEmit) {
+        if (doEmit && toUse > 0) {
             buffer.amount += toUse;
+            wake();
         }
         return energyToSend - toUse;
     }
 
     @Override
     public String toString() {
-        return "[EnergyNetwork] " + transmitters.size() + " transmitters, " + possibleAcceptors.size() + " acceptors.";
+        return "[EnergyNetwork] " + transmitters.size() + " transmitters, " + getAcceptorSize() + " acceptors.";
     }
 
     @Override
@@ -148,9 +184,17 @@ public class EnergyNetwork extends DynamicNetwork<EnergyAcceptorWrapper, EnergyN
                 lastPowerScale = currentPowerScale;
                 needsUpdate = false;
             }
-            if (buffer.amount > 0) {
-                joulesTransmitted = tickEmit(buffer.amount);
-                buffer.amount -= joulesTransmitted;
+            joulesTransmitted = tickEmit();
+            buffer.amount -= joulesTransmitted;
+            getProfile().addTransferred(joulesTransmitted);
+            if (joulesTransmitted == 0 && jouleBufferLastTick == buffer.amount && canSleep()) {
+                //Nothing changed this tick so there is no point ticking again until something gets inserted,
+                // or until enough time has passed that one of our acceptors may want energy again
+                if (buffer.amount == 0) {
+                    sleepUntilWoken();
+                } else {
+                    sleep(IDLE_SLEEP_TICKS);
+                }
             }
         }
     }
@@ -185,7 +229,7 @@ public class EnergyNetwork extends DynamicNetwork<EnergyAcceptorWrapper, EnergyN
 
     @Override
     public ITextComponent getTextComponent() {
-        return MekanismLang.NETWORK_DESCRIPTION.translate(MekanismLang.ENERGY_NETWORK, transmitters.size(), possibleAcceptors.size());
+        return MekanismLang.NETWORK_DESCRIPTION.translate(MekanismLang.ENERGY_NETWORK, transmitters.size(), getAcceptorSize());
     }
 
     public static class EnergyTransferEvent extends Event {
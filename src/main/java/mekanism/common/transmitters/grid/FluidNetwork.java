@@ -1,25 +1,19 @@
 package mekanism.common.transmitters.grid;
 
-import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
-import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
-import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.EnumSet;
-import java.util.Set;
+import java.util.List;
 import javax.annotation.Nonnull;
-import mekanism.api.Coord4D;
 import mekanism.api.transmitters.DynamicNetwork;
 import mekanism.api.transmitters.IGridTransmitter;
 import mekanism.common.MekanismLang;
+import mekanism.common.base.SplitPlan;
 import mekanism.common.base.target.FluidHandlerTarget;
+import mekanism.common.transmitters.grid.AcceptorCache.CachedAcceptor;
 import mekanism.common.util.CapabilityUtils;
 import mekanism.common.util.EmitUtils;
-import mekanism.common.util.MekanismUtils;
 import mekanism.common.util.PipeUtils;
-import net.minecraft.tileentity.TileEntity;
-import net.minecraft.util.Direction;
 import net.minecraft.util.text.ITextComponent;
-import net.minecraft.world.chunk.IChunk;
 import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.eventbus.api.Event;
 import net.minecraftforge.fluids.FluidStack;
@@ -29,6 +23,16 @@ import net.minecraftforge.fluids.capability.IFluidHandler.FluidAction;
 
 public class FluidNetwork extends DynamicNetwork<IFluidHandler, FluidNetwork, FluidStack> {
 
+    private final AcceptorCache<IFluidHandler, FluidHandlerTarget> acceptorCache = new AcceptorCache<>((tile, side, previous) ->
+          CapabilityUtils.getCapability(tile, CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY, side), FluidHandlerTarget::new, this::wake);
+    private final List<FluidHandlerTarget> targets = new ArrayList<>();
+    private final SplitPlan splitPlan = new SplitPlan();
+    private int fluidToEmit;
+    /**
+     * Whether {@link #planTick()} already split what was gathered for this tick.
+     */
+    private boolean planned;
+
     public int transferDelay = 0;
 
     public boolean didTransfer;
@@ -107,34 +111,60 @@ public class FluidNetwork extends DynamicNetwork<IFluidHandler, FluidNetwork, Fl
         return getCapacity() - buffer.getAmount();
     }
 
-    private int tickEmit(@Nonnull FluidStack fluidToSend) {
-        Set<FluidHandlerTarget> availableAcceptors = new ObjectOpenHashSet<>();
-        int totalHandlers = 0;
-        Long2ObjectMap<IChunk> chunkMap = new Long2ObjectOpenHashMap<>();
-        for (Coord4D coord : possibleAcceptors) {
-            EnumSet<Direction> sides = acceptorDirections.get(coord);
-            if (sides == null || sides.isEmpty()) {
-                continue;
-            }
-            TileEntity tile = MekanismUtils.getTileEntity(getWorld(), chunkMap, coord);
-            if (tile == null) {
-                continue;
-            }
-            FluidHandlerTarget target = new FluidHandlerTarget(fluidToSend);
-            for (Direction side : sides) {
-                CapabilityUtils.getCapability(tile, CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY, side).ifPresent(acceptor -> {
-                    if (PipeUtils.canFill(acceptor, fluidToSend)) {
-                        target.addHandler(side, acceptor);
+    @Override
+    protected void onAcceptorUpdated(long acceptorPos) {
+        acceptorCache.acceptorChanged(acceptorPos);
+    }
+
+    private void gatherEmit() {
+        targets.clear();
+        FluidStack fluidToSend = buffer;
+        fluidToEmit = fluidToSend.getAmount();
+        if (!fluidToSend.isEmpty()) {
+            for (CachedAcceptor<IFluidHandler, FluidHandlerTarget> acceptor : acceptorCache.getAcceptors(acceptorDirections)) {
+                if (!acceptor.validate(getWorld())) {
+                    continue;
+                }
+                FluidHandlerTarget target = acceptor.getTarget();
+                target.setExtra(fluidToSend);
+                for (int i = 0; i < acceptor.getHandlerCount(); i++) {
+                    IFluidHandler handler = acceptor.getHandler(i);
+                    if (PipeUtils.canFill(handler, fluidToSend)) {
+                        target.addHandler(acceptor.getSide(i), handler);
                     }
-                });
-            }
-            int curHandlers = target.getHandlers().size();
-            if (curHandlers > 0) {
-                availableAcceptors.add(target);
-                totalHandlers += curHandlers;
+                }
+                if (target.getHandlerCount() > 0) {
+                    targets.add(target);
+                }
             }
         }
-        return EmitUtils.sendToAcceptors(availableAcceptors, totalHandlers, fluidToSend.getAmount(), fluidToSend);
+        EmitUtils.simulateSplit(splitPlan, targets, fluidToSend);
+    }
+
+    @Override
+    public boolean canPlanTick() {
+        return true;
+    }
+
+    @Override
+    public void gatherTick() {
+        planned = false;
+        gatherEmit();
+    }
+
+    @Override
+    public void planTick() {
+        EmitUtils.planSplit(splitPlan, fluidToEmit);
+        planned = true;
+    }
+
+    private int tickEmit() {
+        if (planned) {
+            planned = false;
+            return EmitUtils.sendSplit(splitPlan, targets, fluidToEmit);
+        }
+        gatherEmit();
+        return EmitUtils.sendPlanned(splitPlan, targets, fluidToEmit);
     }
 
     public int emit(@Nonnull FluidStack fluidToSend, FluidAction fluidAction) {
@@ -142,7 +172,8 @@ public class FluidNetwork extends DynamicNetwork<IFluidHandler, FluidNetwork, Fl
             return 0;
         }
         int toUse = Math.min(getFluidNeeded(), fluidToSend.getAmount());
-        if (fluidAction.execute()) {
+        if (fluidAction.execute() && toUse > 0) {
+            wake();
             if (buffer.isEmpty()) {
                 buffer = fluidToSend.copy();
                 buffer.setAmount(toUse);
@@ -173,18 +204,25 @@ public class FluidNetwork extends DynamicNetwork<IFluidHandler, FluidNetwork, Fl
                 needsUpdate = false;
             }
             prevTransfer = didTransfer;
-            if (!buffer.isEmpty()) {
-                prevTransferAmount = tickEmit(buffer);
-                if (prevTransferAmount > 0) {
-                    didTransfer = true;
-                    transferDelay = 2;
-                }
+            prevTransferAmount = tickEmit();
+            if (prevTransferAmount > 0) {
+                getProfile().addTransferred(prevTransferAmount);
+                didTransfer = true;
+                transferDelay = 2;
                 if (!buffer.isEmpty()) {
                     buffer.setAmount(buffer.getAmount() - prevTransferAmount);
                     if (buffer.getAmount() <= 0) {
                         buffer = FluidStack.EMPTY;
                     }
                 }
+            } else if (!didTransfer && !prevTransfer && canSleep()) {
+                //Nothing changed this tick so there is no point ticking again until something gets inserted,
+                // or until enough time has passed that one of our acceptors may want fluid again
+                if (buffer.isEmpty()) {
+                    sleepUntilWoken();
+                } else {
+                    sleep(IDLE_SLEEP_TICKS);
+                }
             }
         }
     }
@@ -209,7 +247,7 @@ public class FluidNetwork extends DynamicNetwork<IFluidHandler, FluidNetwork, Fl
 
     @Override
     public String toString() {
-        return "[FluidNetwork] " + transmitters.size() + " transmitters, " + possibleAcceptors.size() + " acceptors.";
+        return "[FluidNetwork] " + transmitters.size() + " transmitters, " + getAcceptorSize() + " acceptors.";
     }
 
     @Override
@@ -242,7 +280,7 @@ public class FluidNetwork extends DynamicNetwork<IFluidHandler, FluidNetwork, Fl
 
     @Override
     public ITextComponent getTextComponent() {
-        return MekanismLang.NETWORK_DESCRIPTION.translate(MekanismLang.FLUID_NETWORK, transmitters.size(), possibleAcceptors.size());
+        return MekanismLang.NETWORK_DESCRIPTION.translate(MekanismLang.FLUID_NETWORK, transmitters.size(), getAcceptorSize());
     }
 
     public static class FluidTransferEvent extends Event {
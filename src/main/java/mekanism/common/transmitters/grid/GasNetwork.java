@@ -1,17 +1,12 @@
 package mekanism.common.transmitters.grid;
 
-import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
-import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
-import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.EnumSet;
 import java.util.List;
-import java.util.Set;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import mekanism.api.Action;
-import mekanism.api.Coord4D;
 import mekanism.api.chemical.IChemicalTank;
 import mekanism.api.chemical.gas.BasicGasTank;
 import mekanism.api.chemical.gas.Gas;
@@ -21,17 +16,16 @@ import mekanism.api.chemical.gas.IMekanismGasHandler;
 import mekanism.api.transmitters.DynamicNetwork;
 import mekanism.api.transmitters.IGridTransmitter;
 import mekanism.common.MekanismLang;
+import mekanism.common.base.SplitPlan;
 import mekanism.common.base.target.GasHandlerTarget;
 import mekanism.common.capabilities.Capabilities;
+import mekanism.common.transmitters.grid.AcceptorCache.CachedAcceptor;
 import mekanism.common.util.CapabilityUtils;
 import mekanism.common.util.EmitUtils;
 import mekanism.common.util.GasUtils;
-import mekanism.common.util.MekanismUtils;
 import mekanism.common.util.text.TextComponentUtil;
-import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.Direction;
 import net.minecraft.util.text.ITextComponent;
-import net.minecraft.world.chunk.IChunk;
 import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.eventbus.api.Event;
 
@@ -47,6 +41,16 @@ public class GasNetwork extends DynamicNetwork<IGasHandler, GasNetwork, GasStack
     private final List<? extends IChemicalTank<Gas, GasStack>> gasTanks;
     public final NetworkTank gasTank;
 
+    private final AcceptorCache<IGasHandler, GasHandlerTarget> acceptorCache = new AcceptorCache<>((tile, side, previous) ->
+          CapabilityUtils.getCapability(tile, Capabilities.GAS_HANDLER_CAPABILITY, side), GasHandlerTarget::new, this::wake);
+    private final List<GasHandlerTarget> targets = new ArrayList<>();
+    private final SplitPlan splitPlan = new SplitPlan();
+    private int gasToEmit;
+    /**
+     * Whether {@link #planTick()} already split what was gathered for this tick.
+     */
+    private boolean planned;
+
     private int transferDelay = 0;
 
     public boolean didTransfer;
@@ -138,35 +142,61 @@ public class GasNetwork extends DynamicNetwork<IGasHandler, GasNetwork, GasStack
         }
     }
 
-    private int tickEmit(@Nonnull GasStack stack) {
-        Set<GasHandlerTarget> availableAcceptors = new ObjectOpenHashSet<>();
-        int totalHandlers = 0;
-        GasStack unitStack = new GasStack(stack, 1);
-        Long2ObjectMap<IChunk> chunkMap = new Long2ObjectOpenHashMap<>();
-        for (Coord4D coord : possibleAcceptors) {
-            EnumSet<Direction> sides = acceptorDirections.get(coord);
-            if (sides == null || sides.isEmpty()) {
-                continue;
-            }
-            TileEntity tile = MekanismUtils.getTileEntity(getWorld(), chunkMap, coord);
-            if (tile == null) {
-                continue;
-            }
-            GasHandlerTarget target = new GasHandlerTarget(stack);
-            for (Direction side : sides) {
-                CapabilityUtils.getCapability(tile, Capabilities.GAS_HANDLER_CAPABILITY, side).ifPresent(acceptor -> {
-                    if (GasUtils.canInsert(acceptor, unitStack)) {
-                        target.addHandler(side, acceptor);
+    @Override
+    protected void onAcceptorUpdated(long acceptorPos) {
+        acceptorCache.acceptorChanged(acceptorPos);
+    }
+
+    private void gatherEmit() {
+        targets.clear();
+        GasStack stack = gasTank.getStack();
+        gasToEmit = stack.getAmount();
+        if (!stack.isEmpty()) {
+            GasStack unitStack = new GasStack(stack, 1);
+            for (CachedAcceptor<IGasHandler, GasHandlerTarget> acceptor : acceptorCache.getAcceptors(acceptorDirections)) {
+                if (!acceptor.validate(getWorld())) {
+                    continue;
+                }
+                GasHandlerTarget target = acceptor.getTarget();
+                target.setExtra(stack);
+                for (int i = 0; i < acceptor.getHandlerCount(); i++) {
+                    IGasHandler handler = acceptor.getHandler(i);
+                    if (GasUtils.canInsert(handler, unitStack)) {
+                        target.addHandler(acceptor.getSide(i), handler);
                     }
-                });
-            }
-            int curHandlers = target.getHandlers().size();
-            if (curHandlers > 0) {
-                availableAcceptors.add(target);
-                totalHandlers += curHandlers;
+                }
+                if (target.getHandlerCount() > 0) {
+                    targets.add(target);
+                }
             }
         }
-        return EmitUtils.sendToAcceptors(availableAcceptors, totalHandlers, stack.getAmount(), stack);
+        EmitUtils.simulateSplit(splitPlan, targets, stack);
+    }
+
+    @Override
+    public boolean canPlanTick() {
+        return true;
+    }
+
+    @Override
+    public void gatherTick() {
+        planned = false;
+        gatherEmit();
+    }
+
+    @Override
+    public void planTick() {
+        EmitUtils.planSplit(splitPlan, gasToEmit);
+        planned = true;
+    }
+
+    private int tickEmit() {
+        if (planned) {
+            planned = false;
+            return EmitUtils.sendSplit(splitPlan, targets, gasToEmit);
+        }
+        gatherEmit();
+        return EmitUtils.sendPlanned(splitPlan, targets, gasToEmit);
     }
 
     /**
@@ -214,15 +244,22 @@ public class GasNetwork extends DynamicNetwork<IGasHandler, GasNetwork, GasStack
             }
 
             prevTransfer = didTransfer;
-            if (!gasTank.isEmpty()) {
-                prevTransferAmount = tickEmit(gasTank.getStack());
-                if (prevTransferAmount > 0) {
-                    didTransfer = true;
-                    transferDelay = 2;
-                }
+            prevTransferAmount = tickEmit();
+            if (prevTransferAmount > 0) {
+                getProfile().addTransferred(prevTransferAmount);
+                didTransfer = true;
+                transferDelay = 2;
                 if (gasTank.shrinkStack(prevTransferAmount, Action.EXECUTE) != prevTransferAmount) {
                     //TODO: Print warning/error
                 }
+            } else if (!didTransfer && !prevTransfer && canSleep()) {
+                //Nothing changed this tick so there is no point ticking again until something gets inserted,
+                // or until enough time has passed that one of our acceptors may want gas again
+                if (gasTank.isEmpty()) {
+                    sleepUntilWoken();
+                } else {
+                    sleep(IDLE_SLEEP_TICKS);
+                }
             }
         }
     }
@@ -247,7 +284,7 @@ public class GasNetwork extends DynamicNetwork<IGasHandler, GasNetwork, GasStack
 
     @Override
     public String toString() {
-        return "[GasNetwork] " + transmitters.size() + " transmitters, " + possibleAcceptors.size() + " acceptors.";
+        return "[GasNetwork] " + transmitters.size() + " transmitters, " + getAcceptorSize() + " acceptors.";
     }
 
     @Override
@@ -280,7 +317,7 @@ public class GasNetwork extends DynamicNetwork<IGasHandler, GasNetwork, GasStack
 
     @Override
     public ITextComponent getTextComponent() {
-        return MekanismLang.NETWORK_DESCRIPTION.translate(MekanismLang.GAS_NETWORK, transmitters.size(), possibleAcceptors.size());
+        return MekanismLang.NETWORK_DESCRIPTION.translate(MekanismLang.GAS_NETWORK, transmitters.size(), getAcceptorSize());
     }
 
     @Nonnull
@@ -292,6 +329,7 @@ public class GasNetwork extends DynamicNetwork<IGasHandler, GasNetwork, GasStack
     @Override
     public void onContentsChanged() {
         //TODO: Do we want to mark the network as dirty
+        wake();
     }
 
     public class NetworkTank extends BasicGasTank {
@@ -1,14 +1,15 @@
 package mekanism.common.transmitters.grid;
 
 import java.util.Collection;
-import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import javax.annotation.Nullable;
 import mekanism.api.IHeatTransfer;
 import mekanism.api.transmitters.DynamicNetwork;
 import mekanism.api.transmitters.IGridTransmitter;
 import mekanism.common.MekanismLang;
-import mekanism.common.capabilities.Capabilities;
+import mekanism.common.tile.transmitter.TileEntityThermodynamicConductor;
 import mekanism.common.transmitters.TransmitterImpl;
-import mekanism.common.util.CapabilityUtils;
 import mekanism.common.util.MekanismUtils;
 import mekanism.common.util.UnitDisplayUtils.TemperatureUnit;
 import net.minecraft.util.text.ITextComponent;
@@ -20,6 +21,12 @@ public class HeatNetwork extends DynamicNetwork<IHeatTransfer, HeatNetwork, Void
     public double heatLost = 0;
     public double heatTransferred = 0;
 
+    /**
+     * Holds the temperatures of the conductors while the network is not changing, null until the next update if the network has changed.
+     */
+    @Nullable
+    private HeatSolver solver;
+
     public HeatNetwork() {
     }
 
@@ -45,12 +52,19 @@ public class HeatNetwork extends DynamicNetwork<IHeatTransfer, HeatNetwork, Void
 
     @Override
     public ITextComponent getFlowInfo() {
-        ITextComponent transferred = MekanismUtils.getTemperatureDisplay(heatTransferred, TemperatureUnit.KELVIN);
-        ITextComponent lost = MekanismUtils.getTemperatureDisplay(heatLost, TemperatureUnit.KELVIN);
+        ITextComponent transferred = getHeatDisplay(heatTransferred);
+        ITextComponent lost = getHeatDisplay(heatLost);
         return heatTransferred + heatLost == 0 ? MekanismLang.HEAT_NETWORK_FLOW.translate(transferred, lost)
                                                : MekanismLang.HEAT_NETWORK_FLOW_EFFICIENCY.translate(transferred, lost, heatTransferred / (heatTransferred + heatLost) * 100);
     }
 
+    /**
+     * Gets the display of an amount of heat moved by a heat network.
+     */
+    public static ITextComponent getHeatDisplay(double heat) {
+        return MekanismUtils.getTemperatureDisplay(heat, TemperatureUnit.KELVIN, false);
+    }
+
     @Override
     public void absorbBuffer(IGridTransmitter<IHeatTransfer, HeatNetwork, Void> transmitter) {
     }
@@ -67,38 +81,85 @@ public class HeatNetwork extends DynamicNetwork<IHeatTransfer, HeatNetwork, Void
     @Override
     public void onUpdate() {
         super.onUpdate();
+        if (!isRemote()) {
+            if (solver == null) {
+                solver = HeatSolver.build(this);
+            }
+            solver.tick();
+            heatLost = solver.getHeatLost();
+            heatTransferred = solver.getHeatTransferred();
+            meanTemp = solver.getMeanTemp();
+            getProfile().addTransferred(heatTransferred);
+        } else {
+            heatLost = 0;
+            heatTransferred = 0;
+            meanTemp = 0;
+        }
+    }
 
-        double newSumTemp = 0;
-        double newHeatLost = 0;
-        double newHeatTransferred = 0;
+    @Override
+    public void commit() {
+        releaseSolver();
+        super.commit();
+    }
 
-        if (!isRemote()) {
-            for (IGridTransmitter<IHeatTransfer, HeatNetwork, Void> transmitter : transmitters) {
-                if (transmitter instanceof TransmitterImpl) {
-                    Optional<IHeatTransfer> capability = MekanismUtils.toOptional(CapabilityUtils.getCapability(((TransmitterImpl<?, ?, ?>) transmitter).getTileEntity(),
-                          Capabilities.HEAT_TRANSFER_CAPABILITY, null));
-                    if (capability.isPresent()) {
-                        IHeatTransfer heatTransmitter = capability.get();
-                        double[] d = heatTransmitter.simulateHeat();
-                        newHeatTransferred += d[0];
-                        newHeatLost += d[1];
-                        newSumTemp += heatTransmitter.applyTemperatureChange();
-                    }
-                }
+    @Override
+    public void split(Set<IGridTransmitter<IHeatTransfer, HeatNetwork, Void>> removed) {
+        releaseSolver();
+        super.split(removed);
+    }
+
+    @Override
+    public void adoptTransmittersAndAcceptorsFrom(HeatNetwork net) {
+        net.releaseSolver();
+        releaseSolver();
+        super.adoptTransmittersAndAcceptorsFrom(net);
+    }
+
+    @Override
+    public void invalidate() {
+        releaseSolver();
+        super.invalidate();
+    }
+
+    @Override
+    public void deregister() {
+        releaseSolver();
+        super.deregister();
+    }
+
+    /**
+     * Writes the temperatures held by the solver back into the conductors, and gets rid of the solver so that it is rebuilt for the new layout of the network.
+     */
+    private void releaseSolver() {
+        if (solver != null) {
+            solver.writeBack();
+            solver = null;
+        }
+    }
+
+    /**
+     * @return The current temperature of the given conductor, which while the network is ticking may be newer than the one stored in the conductor.
+     */
+    public double getTemperature(TileEntityThermodynamicConductor conductor) {
+        return solver == null ? conductor.temperature : solver.getTemperature(conductor);
+    }
+
+    void forEachConductor(Consumer<TileEntityThermodynamicConductor> consumer) {
+        for (IGridTransmitter<IHeatTransfer, HeatNetwork, Void> transmitter : transmitters) {
+            if (transmitter instanceof TransmitterImpl && ((TransmitterImpl<?, ?, ?>) transmitter).getTileEntity() instanceof TileEntityThermodynamicConductor) {
+                consumer.accept((TileEntityThermodynamicConductor) ((TransmitterImpl<?, ?, ?>) transmitter).getTileEntity());
             }
         }
-        heatLost = newHeatLost;
-        heatTransferred = newHeatTransferred;
-        meanTemp = newSumTemp / transmitters.size();
     }
 
     @Override
     public String toString() {
-        return "[HeatNetwork] " + transmitters.size() + " transmitters, " + possibleAcceptors.size() + " acceptors.";
+        return "[HeatNetwork] " + transmitters.size() + " transmitters, " + getAcceptorSize() + " acceptors.";
     }
 
     @Override
     public ITextComponent getTextComponent() {
-        return MekanismLang.NETWORK_DESCRIPTION.translate(MekanismLang.HEAT_NETWORK, transmitters.size(), possibleAcceptors.size());
+        return MekanismLang.NETWORK_DESCRIPTION.translate(MekanismLang.HEAT_NETWORK, transmitters.size(), getAcceptorSize());
     }
 }
\ No newline at end of file
@@ -0,0 +1,234 @@
+package mekanism.common.transmitters.grid;
+
+import it.unimi.dsi.fastutil.doubles.DoubleArrayList;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import java.util.ArrayList;
+import java.util.List;
+import mekanism.api.IHeatTransfer;
+import mekanism.common.capabilities.Capabilities;
+import mekanism.common.tile.transmitter.TileEntitySidedPipe;
+import mekanism.common.tile.transmitter.TileEntityThermodynamicConductor;
+import mekanism.common.util.CapabilityUtils;
+import mekanism.common.util.EnumUtils;
+import mekanism.common.util.MekanismUtils;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.Direction;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+
+/**
+ * Simulates heat conduction for all the conductors of a {@link HeatNetwork} using flat arrays, so that a tick does not have to look up any capabilities or allocate
+ * anything. The layout only changes when the network does, so it is built once and thrown away whenever the network changes.
+ *
+ * While a solver exists it holds the real temperature of each conductor, and only writes it back to the conductor when the conductor is saved, synced to the client,
+ * or the solver is released.
+ */
+public class HeatSolver {
+
+    private final TileEntityThermodynamicConductor[] conductors;
+    private final Object2IntMap<TileEntityThermodynamicConductor> indices;
+    private final double[] temperatures;
+    private final double[] heatToAbsorb;
+    private final double[] inverseConduction;
+    private final double[] inverseHeatCapacity;
+    /**
+     * Inverse conduction to the air of each side of a conductor that is not connected to anything.
+     */
+    private final double[] airInverseConduction;
+    private final int[] airSides;
+    /**
+     * Conductors in the network that each conductor is connected to, the ones for conductor i are in [neighbourStart[i], neighbourStart[i + 1]).
+     */
+    private final int[] neighbourStart;
+    private final int[] neighbours;
+    private final double[] neighbourInverseConduction;
+    /**
+     * Anything else that each conductor is connected to, the ones for conductor i are in [sinkStart[i], sinkStart[i + 1]).
+     */
+    private final int[] sinkStart;
+    private final Sink[] sinks;
+
+    private double heatTransferred;
+    private double heatLost;
+    private double meanTemp;
+
+    private HeatSolver(List<TileEntityThermodynamicConductor> conductorList) {
+        int count = conductorList.size();
+        conductors = conductorList.toArray(new TileEntityThermodynamicConductor[0]);
+        indices = new Object2IntOpenHashMap<>(count);
+        indices.defaultReturnValue(-1);
+        temperatures = new double[count];
+        heatToAbsorb = new double[count];
+        inverseConduction = new double[count];
+        inverseHeatCapacity = new double[count];
+        airInverseConduction = new double[count];
+        airSides = new int[count];
+        for (int i = 0; i < count; i++) {
+            TileEntityThermodynamicConductor conductor = conductors[i];
+            indices.put(conductor, i);
+            temperatures[i] = conductor.temperature;
+            inverseConduction[i] = conductor.tier.getInverseConduction();
+            inverseHeatCapacity[i] = conductor.tier.getInverseHeatCapacity();
+            airInverseConduction[i] = IHeatTransfer.AIR_INVERSE_COEFFICIENT + conductor.tier.getInverseConductionInsulation() + inverseConduction[i];
+        }
+
+        neighbourStart = new int[count + 1];
+        sinkStart = new int[count + 1];
+        IntArrayList neighbourList = new IntArrayList();
+        DoubleArrayList neighbourInverseList = new DoubleArrayList();
+        List<Sink> sinkList = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            TileEntityThermodynamicConductor conductor = conductors[i];
+            World world = conductor.getWorld();
+            BlockPos pos = conductor.getPos();
+            byte connections = conductor.getAllCurrentConnections();
+            for (Direction side : EnumUtils.DIRECTIONS) {
+                if (TileEntitySidedPipe.connectionMapContainsSide(connections, side)) {
+                    BlockPos adjacentPos = pos.offset(side);
+                    TileEntity adjacent = MekanismUtils.getTileEntity(world, adjacentPos);
+                    int neighbour = adjacent instanceof TileEntityThermodynamicConductor ? indices.getInt(adjacent) : -1;
+                    if (neighbour != -1) {
+                        neighbourList.add(neighbour);
+                        neighbourInverseList.add(inverseConduction[i] + inverseConduction[neighbour]);
+                        continue;
+                    }
+                    IHeatTransfer sink = MekanismUtils.toOptional(CapabilityUtils.getCapability(adjacent, Capabilities.HEAT_TRANSFER_CAPABILITY, side.getOpposite())).orElse(null);
+                    if (sink != null) {
+                        //Heat sent to other transmitters is not counted as transferred
+                        boolean transmitter = CapabilityUtils.getCapability(adjacent, Capabilities.GRID_TRANSMITTER_CAPABILITY, side.getOpposite()).isPresent();
+                        sinkList.add(new Sink(adjacent, adjacentPos, sink, !transmitter));
+                        continue;
+                    }
+                }
+                airSides[i]++;
+            }
+            neighbourStart[i + 1] = neighbourList.size();
+            sinkStart[i + 1] = sinkList.size();
+        }
+        neighbours = neighbourList.toIntArray();
+        neighbourInverseConduction = neighbourInverseList.toDoubleArray();
+        sinks = sinkList.toArray(new Sink[0]);
+    }
+
+    /**
+     * Builds a solver for all the conductors in the given network.
+     */
+    public static HeatSolver build(HeatNetwork network) {
+        List<TileEntityThermodynamicConductor> conductors = new ArrayList<>();
+        network.forEachConductor(conductors::add);
+        return new HeatSolver(conductors);
+    }
+
+    public void tick() {
+        int count = conductors.length;
+        double newHeatTransferred = 0;
+        double newHeatLost = 0;
+        //Pick up any heat that got inserted into the conductors since the last tick
+        for (int i = 0; i < count; i++) {
+            TileEntityThermodynamicConductor conductor = conductors[i];
+            heatToAbsorb[i] += conductor.heatToAbsorb;
+            conductor.heatToAbsorb = 0;
+        }
+        //Work out all the transfers from the temperatures at the start of the tick
+        for (int i = 0; i < count; i++) {
+            double temp = temperatures[i];
+            if (temp == 0) {
+                continue;
+            }
+            for (int j = neighbourStart[i], end = neighbourStart[i + 1]; j < end; j++) {
+                double heat = temp / neighbourInverseConduction[j];
+                heatToAbsorb[i] -= heat;
+                heatToAbsorb[neighbours[j]] += heat;
+            }
+            int air = airSides[i];
+            for (int j = sinkStart[i], end = sinkStart[i + 1]; j < end; j++) {
+                Sink sink = sinks[j];
+                if (sink.isValid()) {
+                    double heat = temp / (sink.handler.getInverseConductionCoefficient() + inverseConduction[i]);
+                    sink.handler.transferHeatTo(heat);
+                    heatToAbsorb[i] -= heat;
+                    if (sink.countTransferred) {
+                        newHeatTransferred += heat;
+                    }
+                } else {
+                    //If what we were connected to is gone, transfer to the air instead
+                    air++;
+                }
+            }
+            if (air > 0) {
+                double heat = air * temp / airInverseConduction[i];
+                heatToAbsorb[i] -= heat;
+                newHeatLost += heat;
+            }
+        }
+        double sumTemp = 0;
+        for (int i = 0; i < count; i++) {
+            double temp = temperatures[i] + inverseHeatCapacity[i] * heatToAbsorb[i];
+            temperatures[i] = temp;
+            heatToAbsorb[i] = 0;
+            sumTemp += temp;
+            TileEntityThermodynamicConductor conductor = conductors[i];
+            if (Math.abs(temp - conductor.clientTemperature) > (temp / 20)) {
+                conductor.temperature = temp;
+                conductor.clientTemperature = temp;
+                conductor.sendTemp();
+            }
+        }
+        heatTransferred = newHeatTransferred;
+        heatLost = newHeatLost;
+        meanTemp = count == 0 ? 0 : sumTemp / count;
+    }
+
+    /**
+     * @return The temperature of the given conductor, or the temperature stored in the conductor if it is not part of this solver.
+     */
+    public double getTemperature(TileEntityThermodynamicConductor conductor) {
+        int index = indices.getInt(conductor);
+        return index == -1 ? conductor.temperature : temperatures[index];
+    }
+
+    /**
+     * Writes the temperatures back to the conductors, and gives them back any heat that has not been absorbed yet.
+     */
+    public void writeBack() {
+        for (int i = 0; i < conductors.length; i++) {
+            TileEntityThermodynamicConductor conductor = conductors[i];
+            conductor.temperature = temperatures[i];
+            conductor.heatToAbsorb += heatToAbsorb[i];
+            heatToAbsorb[i] = 0;
+        }
+    }
+
+    public double getHeatTransferred() {
+        return heatTransferred;
+    }
+
+    public double getHeatLost() {
+        return heatLost;
+    }
+
+    public double getMeanTemp() {
+        return meanTemp;
+    }
+
+    private static class Sink {
+
+        private final TileEntity tile;
+        private final BlockPos pos;
+        private final IHeatTransfer handler;
+        private final boolean countTransferred;
+
+        private Sink(TileEntity tile, BlockPos pos, IHeatTransfer handler, boolean countTransferred) {
+            this.tile = tile;
+            this.pos = pos;
+            this.handler = handler;
+            this.countTransferred = countTransferred;
+        }
+
+        private boolean isValid() {
+            return !tile.isRemoved() && MekanismUtils.isBlockLoaded(tile.getWorld(), pos);
+        }
+    }
+}
\ No newline at end of file
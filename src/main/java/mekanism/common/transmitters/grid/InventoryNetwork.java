@@ -1,27 +1,43 @@
 package mekanism.common.transmitters.grid;
 
+import it.unimi.dsi.fastutil.longs.Long2ByteMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Set;
+import javax.annotation.Nullable;
 import mekanism.api.Coord4D;
 import mekanism.api.transmitters.DynamicNetwork;
 import mekanism.api.transmitters.IGridTransmitter;
 import mekanism.common.MekanismLang;
+import mekanism.common.content.transporter.InsertRejectionCache;
+import mekanism.common.content.transporter.PathfinderCache;
 import mekanism.common.content.transporter.TransitRequest;
 import mekanism.common.content.transporter.TransitRequest.TransitResponse;
+import mekanism.common.content.transporter.TransporterAdjacency;
 import mekanism.common.content.transporter.TransporterManager;
 import mekanism.common.content.transporter.TransporterStack;
+import mekanism.common.util.EnumUtils;
 import mekanism.common.util.MekanismUtils;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.Direction;
+import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.text.ITextComponent;
 import net.minecraft.world.chunk.IChunk;
 
 public class InventoryNetwork extends DynamicNetwork<TileEntity, InventoryNetwork, Void> {
 
+    private final PathfinderCache pathfinderCache = new PathfinderCache();
+    private final InsertRejectionCache rejectionCache = new InsertRejectionCache();
+    @Nullable
+    private TransporterAdjacency adjacency;
+    /**
+     * Increased each time the adjacency is thrown away, so that paths found against an older adjacency can tell that they may no longer be valid.
+     */
+    private int adjacencyVersion;
+
     public InventoryNetwork() {
     }
 
@@ -35,28 +51,89 @@ public class InventoryNetwork extends DynamicNetwork<TileEntity, InventoryNetwor
         register();
     }
 
+    public PathfinderCache getPathfinderCache() {
+        return pathfinderCache;
+    }
+
+    /**
+     * Gets how the transporters in this network are connected, building it if something changed since it was last built.
+     */
+    public TransporterAdjacency getAdjacency() {
+        if (adjacency == null) {
+            adjacency = TransporterAdjacency.build(this);
+        }
+        return adjacency;
+    }
+
+    public int getAdjacencyVersion() {
+        return adjacencyVersion;
+    }
+
+    private void invalidateAdjacency() {
+        adjacency = null;
+        adjacencyVersion++;
+    }
+
+    /**
+     * Called when something about the transporter at the given location that affects pathfinding changed, such as its color or the sides it connects on.
+     */
+    public void transporterChanged(Coord4D location) {
+        invalidateAdjacency();
+        pathfinderCache.onChanged(location);
+    }
+
+    @Override
+    protected void onAcceptorUpdated(long acceptorPos) {
+        rejectionCache.acceptorChanged(acceptorPos);
+    }
+
+    @Override
+    public void adoptTransmittersAndAcceptorsFrom(InventoryNetwork net) {
+        super.adoptTransmittersAndAcceptorsFrom(net);
+        invalidateAdjacency();
+        pathfinderCache.reset();
+    }
+
+    @Override
+    protected void onTransmitterAdded(IGridTransmitter<TileEntity, InventoryNetwork, Void> transmitter) {
+        super.onTransmitterAdded(transmitter);
+        invalidateAdjacency();
+        //A new transporter is on none of the cached paths but may make a shorter route to any of them, so none of them can be trusted anymore
+        pathfinderCache.reset();
+    }
+
+    @Override
+    protected void onTransmitterRemoved(IGridTransmitter<TileEntity, InventoryNetwork, Void> transmitter) {
+        super.onTransmitterRemoved(transmitter);
+        invalidateAdjacency();
+    }
+
     public List<AcceptorData> calculateAcceptors(TransitRequest request, TransporterStack stack, Long2ObjectMap<IChunk> chunkMap) {
         List<AcceptorData> toReturn = new ArrayList<>();
-        for (Coord4D coord : possibleAcceptors) {
-            if (coord == null || coord.equals(stack.homeLocation)) {
+        //A network only spans one dimension so the home location only has to be compared by position
+        long home = stack.homeLocation == null ? 0 : stack.homeLocation.getPos().toLong();
+        for (Long2ByteMap.Entry entry : acceptorDirections.long2ByteEntrySet()) {
+            long acceptorPos = entry.getLongKey();
+            byte sides = entry.getByteValue();
+            if (sides == 0 || (stack.homeLocation != null && acceptorPos == home)) {
                 continue;
             }
-            EnumSet<Direction> sides = acceptorDirections.get(coord);
-            if (sides == null || sides.isEmpty()) {
-                continue;
-            }
-            TileEntity acceptor = MekanismUtils.getTileEntity(getWorld(), chunkMap, coord);
+            BlockPos pos = BlockPos.fromLong(acceptorPos);
+            TileEntity acceptor = MekanismUtils.getTileEntity(getWorld(), chunkMap, pos);
             if (acceptor == null) {
                 continue;
             }
 
             AcceptorData data = null;
-            for (Direction side : sides) {
+            for (Direction side : EnumUtils.DIRECTIONS) {
+                if (!hasSide(sides, side)) {
+                    continue;
+                }
                 Direction opposite = side.getOpposite();
-                TransitResponse response = TransporterManager.getPredictedInsert(acceptor, stack.color, request, opposite);
+                TransitResponse response = TransporterManager.getPredictedInsert(acceptor, stack.color, request, opposite, rejectionCache);
                 if (!response.isEmpty()) {
                     if (data == null) {
-                        toReturn.add(data = new AcceptorData(coord, response, opposite));
+                        toReturn.add(data = new AcceptorData(Coord4D.get(acceptor), response, opposite));
                     } else {
                         data.sides.add(opposite);
                     }
@@ -89,7 +166,7 @@ public class InventoryNetwork extends DynamicNetwork<TileEntity, InventoryNetwor
 
     @Override
     public String toString() {
-        return "[InventoryNetwork] " + transmitters.size() + " transmitters, " + possibleAcceptors.size() + " acceptors.";
+        return "[InventoryNetwork] " + transmitters.size() + " transmitters, " + getAcceptorSize() + " acceptors.";
     }
 
     @Override
@@ -109,7 +186,7 @@ public class InventoryNetwork extends DynamicNetwork<TileEntity, InventoryNetwor
 
     @Override
     public ITextComponent getTextComponent() {
-        return MekanismLang.NETWORK_DESCRIPTION.translate(MekanismLang.INVENTORY_NETWORK, transmitters.size(), possibleAcceptors.size());
+        return MekanismLang.NETWORK_DESCRIPTION.translate(MekanismLang.INVENTORY_NETWORK, transmitters.size(), getAcceptorSize());
     }
 
     public static class AcceptorData {
@@ -1,12 +1,12 @@
 package mekanism.common.util;
 
-import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import java.util.Collections;
 import java.util.Optional;
-import java.util.Set;
 import mekanism.api.energy.IStrictEnergyAcceptor;
 import mekanism.api.energy.IStrictEnergyOutputter;
 import mekanism.api.transmitters.TransmissionType;
 import mekanism.common.base.EnergyAcceptorWrapper;
+import mekanism.common.base.EnergyEmitterCache;
 import mekanism.common.base.IEnergyWrapper;
 import mekanism.common.base.target.EnergyAcceptorTarget;
 import mekanism.common.capabilities.Capabilities;
@@ -109,29 +109,9 @@ public final class CableUtils {
         if (!tileEntity.getWorld().isRemote && MekanismUtils.canFunction(tileEntity)) {
             double energyToSend = Math.min(emitter.getEnergy(), emitter.getMaxOutput());
             if (energyToSend > 0) {
-                BlockPos pos = tileEntity.getPos();
-                //Fake that we have one target given we know that no sides will overlap
-                // This allows us to have slightly better performance
-                EnergyAcceptorTarget target = new EnergyAcceptorTarget();
-                for (Direction side : EnumUtils.DIRECTIONS) {
-                    if (emitter.canOutputEnergy(side)) {
-                        TileEntity tile = MekanismUtils.getTileEntity(tileEntity.getWorld(), pos.offset(side));
-                        //If it can accept energy or it is a cable
-                        if (tile != null && (isValidAcceptorOnSide(tileEntity, tile, side) || isCable(tile))) {
-                            //Get the opposite side as the current side is relative to us
-                            Direction opposite = side.getOpposite();
-                            EnergyAcceptorWrapper acceptor = EnergyAcceptorWrapper.get(tile, opposite);
-                            if (acceptor != null && acceptor.canReceiveEnergy(opposite) && acceptor.needsEnergy(opposite)) {
-                                target.addHandler(opposite, acceptor);
-                            }
-                        }
-                    }
-                }
-                int curHandlers = target.getHandlers().size();
-                if (curHandlers > 0) {
-                    Set<EnergyAcceptorTarget> targets = new ObjectOpenHashSet<>();
-                    targets.add(target);
-                    double sent = EmitUtils.sendToAcceptors(targets, curHandlers, energyToSend);
+                EnergyEmitterCache cache = emitter.getEmitterCache();
+                double sent = cache == null ? emitUncached(tileEntity, emitter, energyToSend) : cache.emit(energyToSend);
+                if (sent > 0) {
                     if (emitter instanceof TileEntityInductionPort) {
                         //Streamline sideless removal method for induction port.
                         ((TileEntityInductionPort) emitter).removeEnergy(sent, false);
@@ -142,4 +122,29 @@ public final class CableUtils {
             }
         }
     }
+
+    private static double emitUncached(TileEntity tileEntity, IEnergyWrapper emitter, double energyToSend) {
+        BlockPos pos = tileEntity.getPos();
+        //Fake that we have one target given we know that no sides will overlap
+        // This allows us to have slightly better performance
+        EnergyAcceptorTarget target = new EnergyAcceptorTarget();
+        for (Direction side : EnumUtils.DIRECTIONS) {
+            if (emitter.canOutputEnergy(side)) {
+                TileEntity tile = MekanismUtils.getTileEntity(tileEntity.getWorld(), pos.offset(side));
+                //If it can accept energy or it is a cable
+                if (tile != null && (isValidAcceptorOnSide(tileEntity, tile, side) || isCable(tile))) {
+                    //Get the opposite side as the current side is relative to us
+                    Direction opposite = side.getOpposite();
+                    EnergyAcceptorWrapper acceptor = EnergyAcceptorWrapper.get(tile, opposite);
+                    if (acceptor != null && acceptor.canReceiveEnergy(opposite) && acceptor.needsEnergy(opposite)) {
+                        target.addHandler(opposite, acceptor);
+                    }
+                }
+            }
+        }
+        if (target.getHandlerCount() > 0) {
+            return EmitUtils.sendToAcceptors(Collections.singletonList(target), energyToSend);
+        }
+        return 0;
+    }
 }
\ No newline at end of file
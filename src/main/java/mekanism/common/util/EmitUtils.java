@@ -1,12 +1,12 @@
 package mekanism.common.util;
 
-import java.util.Set;
+import java.util.List;
 import java.util.function.BiConsumer;
-import mekanism.common.base.SplitInfo;
 import mekanism.common.base.SplitInfo.DoubleSplitInfo;
 import mekanism.common.base.SplitInfo.IntegerSplitInfo;
-import mekanism.common.base.target.EnergyAcceptorTarget;
-import mekanism.common.base.target.Target;
+import mekanism.common.base.SplitPlan;
+import mekanism.common.base.target.DoubleTarget;
+import mekanism.common.base.target.IntegerTarget;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.Direction;
 import net.minecraft.util.math.BlockPos;
@@ -15,65 +15,294 @@ import net.minecraft.world.World;
 public class EmitUtils {
 
     /**
+     * Plan for {@link #sendToAcceptors} to reuse, so that emitting from a tile does not allocate a new plan every time. It is taken out while in use, in case a handler
+     * ends up emitting again while being sent to.
+     */
+    private static final ThreadLocal<SplitPlan> SPLIT_PLANS = ThreadLocal.withInitial(SplitPlan::new);
+    /**
+     * How many times the handlers that want more than the share get gone over before the rest of them get sorted instead. Most splits settle well within this, and
+     * going over them in order is quicker than sorting them, but each pass may only satisfy one more handler so an unlucky split could take a pass per handler.
+     */
+    static final int MAX_SPLIT_PASSES = 4;
+
+    /**
+     * Splits the amount fairly between all the handlers of the given targets. Any handler that wants no more than its share is fully satisfied, and whatever those
+     * handlers do not use gets split evenly between the ones that want more.
+     *
+     * The handlers are gone over in order, giving each one that wants no more than the current share what it wants. As that can raise the share, the handlers that
+     * are left get gone over again for as long as the share keeps changing. If it is still changing after {@link #MAX_SPLIT_PASSES} passes, the handlers that are
+     * left are sorted from least to most wanted and each one gets either what it wants or the share, whichever is smaller, so that the split can not take a pass
+     * per handler. Whatever handlers are left at the end get the final share.
+     *
      * @param <HANDLER>        The handler of our target.
-     * @param <TYPE>           The type of the number
-     * @param <EXTRA>          Any extra information we may need.
-     * @param <TARGET>         The emitter target.
+     * @param <EXTRA>          Any extra information we may need
+     * @param <TARGET>         The emitter target
      * @param availableTargets The targets to distribute toSend fairly among.
-     * @param totalTargets     The total number of targets. Note: this number is bigger than availableTargets.size if any targets have more than one acceptor.
-     * @param splitInfo        Information containing the split.
+     * @param amountToSplit    The amount to split between all the targets
      * @param toSend           Any extra information such as gas stack or fluid stack.
      *
      * @return The amount that actually got sent.
      */
-    private static <HANDLER, TYPE extends Number & Comparable<TYPE>, EXTRA, TARGET extends Target<HANDLER, TYPE, EXTRA>> TYPE sendToAcceptors(
-          Set<TARGET> availableTargets, int totalTargets, SplitInfo<TYPE> splitInfo, EXTRA toSend) {
-        if (availableTargets.isEmpty() || totalTargets == 0) {
-            return splitInfo.getTotalSent();
+    public static <HANDLER, EXTRA, TARGET extends IntegerTarget<HANDLER, EXTRA>> int sendToAcceptors(List<TARGET> availableTargets, int amountToSplit, EXTRA toSend) {
+        SplitPlan plan = takePlan();
+        try {
+            simulateSplit(plan, availableTargets, toSend);
+            return sendPlanned(plan, availableTargets, amountToSplit);
+        } finally {
+            SPLIT_PLANS.set(plan);
         }
+    }
 
-        //Simulate addition, sending when the requested amount is less than the amountPer
-        // splitInfo gets adjusted to account for how much is actually sent
-        availableTargets.forEach(target -> target.sendPossible(toSend, splitInfo));
+    /**
+     * Splits the energy fairly between all the handlers of the given targets, in the same way as {@link #sendToAcceptors(List, int, Object)}.
+     *
+     * @param <HANDLER>        The handler of our target.
+     * @param <TARGET>         The emitter target
+     * @param availableTargets The targets to send energy fairly to.
+     * @param amountToSplit    The amount of energy to attempt to send
+     *
+     * @return The amount that actually got sent
+     */
+    public static <HANDLER, TARGET extends DoubleTarget<HANDLER>> double sendToAcceptors(List<TARGET> availableTargets, double amountToSplit) {
+        SplitPlan plan = takePlan();
+        try {
+            simulateSplit(plan, availableTargets, amountToSplit);
+            return sendPlanned(plan, availableTargets, amountToSplit);
+        } finally {
+            SPLIT_PLANS.set(plan);
+        }
+    }
 
-        //Only run this if we changed the amountPer from when we first/last ran things
-        while (splitInfo.amountPerChanged) {
-            splitInfo.amountPerChanged = false;
-            //splitInfo gets adjusted to account for how much is actually sent,
-            // and if amountPer got changed again and we need to rerun this
-            availableTargets.forEach(target -> target.shiftNeeded(splitInfo));
+    private static SplitPlan takePlan() {
+        SplitPlan plan = SPLIT_PLANS.get();
+        if (plan == null) {
+            //Already in use further up the stack
+            return new SplitPlan();
         }
+        SPLIT_PLANS.set(null);
+        return plan;
+    }
 
-        //Evenly distribute the remaining amount we have to give between all targets and handlers
-        // splitInfo gets adjusted to account for how much is actually sent
-        availableTargets.forEach(target -> target.sendRemainingSplit(splitInfo));
-        return splitInfo.getTotalSent();
+    /**
+     * Fills the plan with how much each handler of the given targets wants.
+     *
+     * @param plan    The plan to fill, it is cleared first.
+     * @param targets The targets to simulate.
+     * @param toSend  Any extra information such as gas stack or fluid stack.
+     */
+    public static <HANDLER, EXTRA, TARGET extends IntegerTarget<HANDLER, EXTRA>> void simulateSplit(SplitPlan plan, List<TARGET> targets, EXTRA toSend) {
+        plan.clear();
+        for (int i = 0, targetCount = targets.size(); i < targetCount; i++) {
+            TARGET target = targets.get(i);
+            for (int j = 0, handlerCount = target.getHandlerCount(); j < handlerCount; j++) {
+                plan.add(i, j, target.simulate(j, toSend));
+            }
+        }
     }
 
     /**
-     * @param <HANDLER>        The handler of our target.
-     * @param <EXTRA>          Any extra information we may need
-     * @param <TARGET>         The emitter target
-     * @param availableTargets The targets to distribute toSend fairly among.
-     * @param totalTargets     The total number of targets. Note: this number is bigger than availableTargets.size if any targets have more than one acceptor.
-     * @param amountToSplit    The amount to split between all the targets
-     * @param toSend           Any extra information such as gas stack or fluid stack.
+     * Fills the plan with how much energy each handler of the given targets wants.
+     *
+     * @param plan          The plan to fill, it is cleared first.
+     * @param targets       The targets to simulate.
+     * @param amountToSplit The amount of energy that is going to be sent.
+     */
+    public static <HANDLER, TARGET extends DoubleTarget<HANDLER>> void simulateSplit(SplitPlan plan, List<TARGET> targets, double amountToSplit) {
+        plan.clear();
+        for (int i = 0, targetCount = targets.size(); i < targetCount; i++) {
+            TARGET target = targets.get(i);
+            for (int j = 0, handlerCount = target.getHandlerCount(); j < handlerCount; j++) {
+                plan.add(i, j, target.simulate(j, amountToSplit));
+            }
+        }
+    }
+
+    /**
+     * Sends to the handlers in a plan, in the way described by {@link #sendToAcceptors(List, int, Object)}.
+     *
+     * @param plan          A plan that was filled from the given targets.
+     * @param targets       The targets the plan was filled from.
+     * @param amountToSplit The amount to split between all the targets
      *
      * @return The amount that actually got sent.
      */
-    public static <HANDLER, EXTRA, TARGET extends Target<HANDLER, Integer, EXTRA>> int sendToAcceptors(Set<TARGET> availableTargets, int totalTargets, int amountToSplit, EXTRA toSend) {
-        return sendToAcceptors(availableTargets, totalTargets, new IntegerSplitInfo(amountToSplit, totalTargets), toSend);
+    public static <HANDLER, EXTRA, TARGET extends IntegerTarget<HANDLER, EXTRA>> int sendPlanned(SplitPlan plan, List<TARGET> targets, int amountToSplit) {
+        //splitInfo gets adjusted to account for how much is actually sent, so if a handler accepts less than it said it wanted the share of the rest goes up
+        return splitInteger(plan, amountToSplit, (index, splitInfo, amount) ->
+              targets.get(plan.getTargetIndex(index)).accept(plan.getHandlerIndex(index), splitInfo, amount));
     }
 
     /**
-     * @param availableTargets The EnergyAcceptorWrapper targets to send energy fairly to.
-     * @param totalTargets     The total number of targets. Note: this number is bigger than availableTargets.size if any targets have more than one acceptor.
-     * @param amountToSplit    The amount of energy to attempt to send
+     * Sends energy to the handlers in a plan, in the way described by {@link #sendToAcceptors(List, int, Object)}.
      *
-     * @return The amount that actually got sent
+     * @param plan          A plan that was filled from the given targets.
+     * @param targets       The targets the plan was filled from.
+     * @param amountToSplit The amount of energy to attempt to send
+     *
+     * @return The amount that actually got sent.
      */
-    public static double sendToAcceptors(Set<EnergyAcceptorTarget> availableTargets, int totalTargets, double amountToSplit) {
-        return sendToAcceptors(availableTargets, totalTargets, new DoubleSplitInfo(amountToSplit, totalTargets), amountToSplit);
+    public static <HANDLER, TARGET extends DoubleTarget<HANDLER>> double sendPlanned(SplitPlan plan, List<TARGET> targets, double amountToSplit) {
+        return splitDouble(plan, amountToSplit, (index, splitInfo, amount) ->
+              targets.get(plan.getTargetIndex(index)).accept(plan.getHandlerIndex(index), splitInfo, amount));
+    }
+
+    /**
+     * Works out how much each handler in a plan gets in the way described by {@link #sendToAcceptors(List, int, Object)}, without sending anything. This assumes that
+     * each handler takes everything it said it wanted. It only touches the plan, so it can be called off the server thread, and the result gets sent with {@link
+     * #sendSplit(SplitPlan, List, int)}.
+     *
+     * @param plan          A plan that was filled with what each handler wants.
+     * @param amountToSplit The amount to split between all the handlers.
+     */
+    public static void planSplit(SplitPlan plan, int amountToSplit) {
+        splitInteger(plan, amountToSplit, (index, splitInfo, amount) -> {
+            plan.setPlanned(index, amount);
+            splitInfo.send(amount);
+        });
+    }
+
+    /**
+     * Works out how much energy each handler in a plan gets, in the same way as {@link #planSplit(SplitPlan, int)}. The result gets sent with {@link
+     * #sendSplit(SplitPlan, List, double)}.
+     *
+     * @param plan          A plan that was filled with how much energy each handler wants.
+     * @param amountToSplit The amount of energy to split between all the handlers.
+     */
+    public static void planSplit(SplitPlan plan, double amountToSplit) {
+        splitDouble(plan, amountToSplit, (index, splitInfo, amount) -> {
+            plan.setPlanned(index, amount);
+            splitInfo.send(amount);
+        });
+    }
+
+    /**
+     * Sends what {@link #planSplit(SplitPlan, int)} worked out to the handlers in a plan. If a handler takes less than it said it wanted, the rest is not passed on
+     * to the other handlers.
+     *
+     * @param plan          A plan that was filled from the given targets and then split.
+     * @param targets       The targets the plan was filled from.
+     * @param amountToSplit The amount the plan was split with.
+     *
+     * @return The amount that actually got sent.
+     */
+    public static <HANDLER, EXTRA, TARGET extends IntegerTarget<HANDLER, EXTRA>> int sendSplit(SplitPlan plan, List<TARGET> targets, int amountToSplit) {
+        IntegerSplitInfo splitInfo = new IntegerSplitInfo(amountToSplit, plan.size());
+        //Go over the handlers in the order they were added in, as splitting leaves the order rearranged
+        plan.resetOrder();
+        for (int i = 0; i < plan.size(); i++) {
+            int amount = (int) plan.getPlanned(i);
+            if (amount > 0) {
+                targets.get(plan.getTargetIndex(i)).accept(plan.getHandlerIndex(i), splitInfo, amount);
+            }
+        }
+        return splitInfo.getTotalSent();
+    }
+
+    /**
+     * Sends what {@link #planSplit(SplitPlan, double)} worked out to the handlers in a plan, in the same way as {@link #sendSplit(SplitPlan, List, int)}.
+     *
+     * @param plan          A plan that was filled from the given targets and then split.
+     * @param targets       The targets the plan was filled from.
+     * @param amountToSplit The amount of energy the plan was split with.
+     *
+     * @return The amount of energy that actually got sent.
+     */
+    public static <HANDLER, TARGET extends DoubleTarget<HANDLER>> double sendSplit(SplitPlan plan, List<TARGET> targets, double amountToSplit) {
+        DoubleSplitInfo splitInfo = new DoubleSplitInfo(amountToSplit, plan.size());
+        plan.resetOrder();
+        for (int i = 0; i < plan.size(); i++) {
+            double amount = plan.getPlanned(i);
+            if (amount > 0) {
+                targets.get(plan.getTargetIndex(i)).accept(plan.getHandlerIndex(i), splitInfo, amount);
+            }
+        }
+        return splitInfo.getTotalSent();
+    }
+
+    private static int splitInteger(SplitPlan plan, int amountToSplit, IntegerSender sender) {
+        int remaining = plan.size();
+        if (remaining == 0) {
+            return 0;
+        }
+        IntegerSplitInfo splitInfo = new IntegerSplitInfo(amountToSplit, remaining);
+        plan.resetOrder();
+        boolean shareChanged = true;
+        for (int pass = 0; shareChanged && remaining > 0; pass++) {
+            if (pass == MAX_SPLIT_PASSES) {
+                //The share is still going up, sort what is left so that each handler only has to be gone over once
+                plan.sort(remaining);
+                for (int i = 0; i < remaining; i++) {
+                    int demand = (int) plan.getDemand(i);
+                    int amountPerTarget = splitInfo.getAmountPerTarget();
+                    sender.send(i, splitInfo, Math.min(demand, amountPerTarget));
+                    if (demand == amountPerTarget) {
+                        //The handler wanted exactly its share so it is satisfied, make sure the share of the handlers after it does not stay rounded down to the old share
+                        splitInfo.updateAmountPerTarget();
+                    }
+                }
+                return splitInfo.getTotalSent();
+            }
+            shareChanged = false;
+            int kept = 0;
+            for (int i = 0; i < remaining; i++) {
+                int demand = (int) plan.getDemand(i);
+                int amountPerTarget = splitInfo.getAmountPerTarget();
+                if (demand <= amountPerTarget) {
+                    sender.send(i, splitInfo, demand);
+                    if (splitInfo.getAmountPerTarget() != amountPerTarget) {
+                        shareChanged = true;
+                    }
+                } else {
+                    plan.move(i, kept++);
+                }
+            }
+            remaining = kept;
+        }
+        //Evenly distribute what is left between the handlers that want more than the share
+        for (int i = 0; i < remaining; i++) {
+            sender.send(i, splitInfo, splitInfo.getAmountPerTarget());
+        }
+        return splitInfo.getTotalSent();
+    }
+
+    private static double splitDouble(SplitPlan plan, double amountToSplit, DoubleSender sender) {
+        int remaining = plan.size();
+        if (remaining == 0) {
+            return 0;
+        }
+        DoubleSplitInfo splitInfo = new DoubleSplitInfo(amountToSplit, remaining);
+        plan.resetOrder();
+        boolean shareChanged = true;
+        for (int pass = 0; shareChanged && remaining > 0; pass++) {
+            if (pass == MAX_SPLIT_PASSES) {
+                //The share is still going up, sort what is left so that each handler only has to be gone over once
+                plan.sort(remaining);
+                for (int i = 0; i < remaining; i++) {
+                    sender.send(i, splitInfo, Math.min(plan.getDemand(i), splitInfo.getAmountPerTarget()));
+                }
+                return splitInfo.getTotalSent();
+            }
+            shareChanged = false;
+            int kept = 0;
+            for (int i = 0; i < remaining; i++) {
+                double demand = plan.getDemand(i);
+                double amountPerTarget = splitInfo.getAmountPerTarget();
+                if (demand <= amountPerTarget) {
+                    sender.send(i, splitInfo, demand);
+                    if (splitInfo.getAmountPerTarget() != amountPerTarget) {
+                        shareChanged = true;
+                    }
+                } else {
+                    plan.move(i, kept++);
+                }
+            }
+            remaining = kept;
+        }
+        //Evenly distribute what is left between the handlers that want more than the share
+        for (int i = 0; i < remaining; i++) {
+            sender.send(i, splitInfo, splitInfo.getAmountPerTarget());
+        }
+        return splitInfo.getTotalSent();
     }
 
     /**
@@ -96,4 +325,28 @@ public class EmitUtils {
             }
         }
     }
+
+    /**
+     * Gives the handler at a position in the order of a plan its part of the split.
+     */
+    @FunctionalInterface
+    private interface IntegerSender {
+
+        /**
+         * @implNote Must call {@link IntegerSplitInfo#send(int)} with the amount the handler took.
+         */
+        void send(int index, IntegerSplitInfo splitInfo, int amount);
+    }
+
+    /**
+     * Gives the handler at a position in the order of a plan its part of the energy being split.
+     */
+    @FunctionalInterface
+    private interface DoubleSender {
+
+        /**
+         * @implNote Must call {@link DoubleSplitInfo#send(double)} with the amount the handler took.
+         */
+        void send(int index, DoubleSplitInfo splitInfo, double amount);
+    }
 }
\ No newline at end of file
@@ -1,6 +1,5 @@
 package mekanism.common.util;
 
-import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import java.util.Collections;
 import java.util.EnumSet;
 import java.util.Optional;
@@ -136,11 +135,8 @@ public final class GasUtils {
             });
         });
 
-        int curHandlers = target.getHandlers().size();
-        if (curHandlers > 0) {
-            Set<GasHandlerTarget> targets = new ObjectOpenHashSet<>();
-            targets.add(target);
-            return EmitUtils.sendToAcceptors(targets, curHandlers, stack.getAmount(), stack);
+        if (target.getHandlerCount() > 0) {
+            return EmitUtils.sendToAcceptors(Collections.singletonList(target), stack.getAmount(), stack);
         }
         return 0;
     }
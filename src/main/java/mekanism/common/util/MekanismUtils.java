@@ -33,6 +33,7 @@ import mekanism.common.tile.TileEntityAdvancedBoundingBlock;
 import mekanism.common.tile.TileEntityBoundingBlock;
 import mekanism.common.util.UnitDisplayUtils.ElectricUnit;
 import mekanism.common.util.UnitDisplayUtils.TemperatureUnit;
+import mekanism.common.world.DirtyChunkTracker;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
 import net.minecraft.block.Blocks;
@@ -546,7 +547,7 @@ public final class MekanismUtils {
         if (tile == null || tile.isRemoved() || tile.getWorld() == null) {
             return;
         }
-        tile.getWorld().markChunkDirty(tile.getPos(), tile);
+        DirtyChunkTracker.markDirty(tile);
     }
 
     /**
@@ -660,18 +661,30 @@ public final class MekanismUtils {
      * @return rounded energy display
      */
     public static ITextComponent getTemperatureDisplay(double T, TemperatureUnit unit) {
-        double TK = unit.convertToK(T, true);
+        return getTemperatureDisplay(T, unit, true);
+    }
+
+    /**
+     * Gets a rounded display of a temperature, or of an amount of heat.
+     *
+     * @param T     - temperature or amount of heat to display
+     * @param shift - false for amounts of heat, which unlike temperatures should not be moved to the zero point of the unit they are displayed in
+     *
+     * @return rounded display
+     */
+    public static ITextComponent getTemperatureDisplay(double T, TemperatureUnit unit, boolean shift) {
+        double TK = unit.convertToK(T, shift);
         switch (MekanismConfig.general.tempUnit.get()) {
             case K:
-                return UnitDisplayUtils.getDisplayShort(TK, TemperatureUnit.KELVIN);
+                return UnitDisplayUtils.getDisplayShort(TK, TemperatureUnit.KELVIN, shift);
             case C:
-                return UnitDisplayUtils.getDisplayShort(TK, TemperatureUnit.CELSIUS);
+                return UnitDisplayUtils.getDisplayShort(TK, TemperatureUnit.CELSIUS, shift);
             case R:
-                return UnitDisplayUtils.getDisplayShort(TK, TemperatureUnit.RANKINE);
+                return UnitDisplayUtils.getDisplayShort(TK, TemperatureUnit.RANKINE, shift);
             case F:
-                return UnitDisplayUtils.getDisplayShort(TK, TemperatureUnit.FAHRENHEIT);
+                return UnitDisplayUtils.getDisplayShort(TK, TemperatureUnit.FAHRENHEIT, shift);
             case STP:
-                return UnitDisplayUtils.getDisplayShort(TK, TemperatureUnit.AMBIENT);
+                return UnitDisplayUtils.getDisplayShort(TK, TemperatureUnit.AMBIENT, shift);
         }
         return MekanismLang.ERROR.translate();
     }
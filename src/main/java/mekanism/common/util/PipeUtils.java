@@ -1,6 +1,6 @@
 package mekanism.common.util;
 
-import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import java.util.Collections;
 import java.util.EnumSet;
 import java.util.Set;
 import javax.annotation.Nonnull;
@@ -68,11 +68,8 @@ public final class PipeUtils {
             });
         });
 
-        int curHandlers = target.getHandlers().size();
-        if (curHandlers > 0) {
-            Set<FluidHandlerTarget> targets = new ObjectOpenHashSet<>();
-            targets.add(target);
-            return EmitUtils.sendToAcceptors(targets, curHandlers, stack.getAmount(), stack);
+        if (target.getHandlerCount() > 0) {
+            return EmitUtils.sendToAcceptors(Collections.singletonList(target), stack.getAmount(), stack);
         }
         return 0;
     }
@@ -0,0 +1,90 @@
+package mekanism.common.world;
+
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import java.util.Map;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.IWorld;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.dimension.DimensionType;
+import net.minecraftforge.common.DimensionManager;
+
+/**
+ * Collects the chunks that tiles changed data in during a tick, and marks each of them as needing to be saved once at the end of the tick. Tiles that change every
+ * tick would otherwise look up and mark their chunk each time a value changes.
+ *
+ * Chunks get marked at the end of each world's tick, and again at the end of the server tick for changes made outside of a world's tick such as by transmitter networks.
+ * Nothing is held over to the next server tick, as the next tick starts by unloading and saving chunks and a chunk that had not been marked yet would lose its changes.
+ */
+public class DirtyChunkTracker {
+
+    private static final Map<DimensionType, LongSet> dirtyChunks = new Object2ObjectOpenHashMap<>();
+
+    /**
+     * Marks the chunk the given tile is in as needing to be saved at the end of the tick. Changes made on the client or off of the server thread mark the chunk
+     * straight away instead.
+     */
+    public static void markDirty(TileEntity tile) {
+        World world = tile.getWorld();
+        if (world == null) {
+            return;
+        }
+        BlockPos pos = tile.getPos();
+        MinecraftServer server = world.getServer();
+        if (world.isRemote() || server == null || !server.isOnExecutionThread()) {
+            world.markChunkDirty(pos, tile);
+            return;
+        }
+        dirtyChunks.computeIfAbsent(world.getDimension().getType(), type -> new LongOpenHashSet()).add(ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4));
+    }
+
+    /**
+     * Marks the chunks that got changed in every loaded world this tick as needing to be saved. Called at the end of the server tick, after everything else has ticked.
+     */
+    public static void flushAll(MinecraftServer server) {
+        for (Map.Entry<DimensionType, LongSet> entry : dirtyChunks.entrySet()) {
+            if (!entry.getValue().isEmpty()) {
+                World world = DimensionManager.getWorld(server, entry.getKey(), false, false);
+                if (world != null) {
+                    flush(world);
+                }
+            }
+        }
+    }
+
+    /**
+     * Marks all the chunks that got changed in the given world this tick as needing to be saved.
+     */
+    public static void flush(World world) {
+        LongSet chunks = dirtyChunks.get(world.getDimension().getType());
+        if (chunks == null || chunks.isEmpty()) {
+            return;
+        }
+        LongIterator iterator = chunks.iterator();
+        while (iterator.hasNext()) {
+            long chunkPos = iterator.nextLong();
+            Chunk chunk = world.getChunkProvider().getChunk(ChunkPos.getX(chunkPos), ChunkPos.getZ(chunkPos), false);
+            if (chunk != null) {
+                chunk.markDirty();
+            }
+        }
+        chunks.clear();
+    }
+
+    public static void worldUnloaded(IWorld world) {
+        if (world instanceof World) {
+            flush((World) world);
+        }
+        dirtyChunks.remove(world.getDimension().getType());
+    }
+
+    public static void reset() {
+        dirtyChunks.clear();
+    }
+}
\ No newline at end of file
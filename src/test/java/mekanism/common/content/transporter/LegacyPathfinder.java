@@ -0,0 +1,148 @@
+package mekanism.common.content.transporter;
+
+import it.unimi.dsi.fastutil.objects.Object2DoubleOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.Nullable;
+import mekanism.api.text.EnumColor;
+import mekanism.common.content.transporter.TransporterLayouts.Layout;
+import mekanism.common.util.EnumUtils;
+import net.minecraft.util.Direction;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.MathHelper;
+
+/**
+ * The A* search {@link TransporterPathfinder.Pathfinder} did before it walked a {@link TransporterAdjacency}, kept to check the current search against. It keeps its
+ * open and closed sets and scores in hash maps keyed by position, finds the best open position by going over all of them, and decides where a stack can go with
+ * {@link Layout#canInsert} instead of the adjacency. Positions are used in place of the coordinates it used to use, as these are not in a world.
+ */
+final class LegacyPathfinder {
+
+    private final Set<BlockPos> openSet = new ObjectOpenHashSet<>();
+    private final Set<BlockPos> closedSet = new ObjectOpenHashSet<>();
+    private final Map<BlockPos, BlockPos> navMap = new Object2ObjectOpenHashMap<>();
+    private final Object2DoubleOpenHashMap<BlockPos> gScore = new Object2DoubleOpenHashMap<>();
+    private final Object2DoubleOpenHashMap<BlockPos> fScore = new Object2DoubleOpenHashMap<>();
+    private final Layout layout;
+    private final BlockPos finalNode;
+    @Nullable
+    private final EnumColor color;
+    private final byte validSides;
+
+    private Direction side;
+    private List<BlockPos> results = new ArrayList<>();
+
+    /**
+     * @param validSides Bit mask by {@link Direction#ordinal()} of the sides of the destination that can be inserted into.
+     */
+    LegacyPathfinder(Layout layout, BlockPos finishObj, @Nullable EnumColor color, byte validSides) {
+        this.layout = layout;
+        finalNode = finishObj;
+        this.color = color;
+        this.validSides = validSides;
+    }
+
+    boolean find(BlockPos start) {
+        openSet.add(start);
+        gScore.put(start, 0D);
+        fScore.put(start, distance(start, finalNode));
+        boolean hasValidDirection = false;
+        int startIndex = layout.indexOf(start);
+        for (Direction direction : EnumUtils.DIRECTIONS) {
+            BlockPos neighbor = start.offset(direction);
+            if (layout.canInsert(startIndex, direction, color)) {
+                hasValidDirection = true;
+                break;
+            } else if (isValidDestination(start, direction, neighbor)) {
+                return true;
+            }
+        }
+        if (!hasValidDirection) {
+            return false;
+        }
+        double maxSearchDistance = 2 * distance(start, finalNode);
+        while (!openSet.isEmpty()) {
+            BlockPos currentNode = null;
+            double lowestFScore = 0;
+            for (BlockPos node : openSet) {
+                if (currentNode == null || fScore.getDouble(node) < lowestFScore) {
+                    currentNode = node;
+                    lowestFScore = fScore.getDouble(node);
+                }
+            }
+            if (currentNode == null) {
+                break;
+            }
+            openSet.remove(currentNode);
+            closedSet.add(currentNode);
+            if (distance(start, currentNode) > maxSearchDistance) {
+                continue;
+            }
+            int currentIndex = layout.indexOf(currentNode);
+            double currentScore = gScore.getDouble(currentNode);
+            for (Direction direction : EnumUtils.DIRECTIONS) {
+                BlockPos neighbor = currentNode.offset(direction);
+                if (layout.canInsert(currentIndex, direction, color)) {
+                    double tentativeG = currentScore + layout.costs[layout.indexOf(neighbor)];
+                    if (closedSet.contains(neighbor) && tentativeG >= gScore.getDouble(neighbor)) {
+                        continue;
+                    }
+                    if (!openSet.contains(neighbor) || tentativeG < gScore.getDouble(neighbor)) {
+                        navMap.put(neighbor, currentNode);
+                        gScore.put(neighbor, tentativeG);
+                        fScore.put(neighbor, tentativeG + distance(neighbor, finalNode));
+                        openSet.add(neighbor);
+                    }
+                } else if (isValidDestination(currentNode, direction, neighbor)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean isValidDestination(BlockPos start, Direction direction, BlockPos neighbor) {
+        if (neighbor.equals(finalNode) && (validSides & 1 << direction.ordinal()) != 0) {
+            side = direction;
+            results = reconstructPath(start);
+            return true;
+        }
+        return false;
+    }
+
+    private List<BlockPos> reconstructPath(BlockPos currentNode) {
+        List<BlockPos> path = new ArrayList<>();
+        for (BlockPos node = currentNode; node != null; node = navMap.get(node)) {
+            path.add(node);
+        }
+        return path;
+    }
+
+    /**
+     * Gets the path found, starting with the destination and ending with the start transporter.
+     */
+    List<BlockPos> getPath() {
+        List<BlockPos> path = new ArrayList<>();
+        path.add(finalNode);
+        path.addAll(results);
+        return path;
+    }
+
+    Direction getSide() {
+        return side;
+    }
+
+    /**
+     * The same distance as {@link mekanism.api.Coord4D#distanceTo}.
+     */
+    static double distance(BlockPos a, BlockPos b) {
+        int subX = a.getX() - b.getX();
+        int subY = a.getY() - b.getY();
+        int subZ = a.getZ() - b.getZ();
+        return MathHelper.sqrt(subX * subX + subY * subY + subZ * subZ);
+    }
+}
\ No newline at end of file
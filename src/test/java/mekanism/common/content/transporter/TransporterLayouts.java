@@ -0,0 +1,170 @@
+package mekanism.common.content.transporter;
+
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import javax.annotation.Nullable;
+import mekanism.api.Coord4D;
+import mekanism.api.text.EnumColor;
+import mekanism.common.util.EnumUtils;
+import net.minecraft.util.Direction;
+import net.minecraft.util.math.BlockPos;
+
+/**
+ * Synthetic layouts of transporters for trying out pathfinding without a world. Transporters are laid out flat at y = 0, some have no color and some are red or
+ * blue, some are slower or restrictive, and some have a side that can not connect even though the transporter next to it could.
+ */
+final class TransporterLayouts {
+
+    private static final double[] COSTS = {1, 2.5, 5, 10};
+    private static final double RESTRICTIVE_COST = 1000;
+    private static final byte ALL_SIDES = (byte) ((1 << EnumUtils.DIRECTIONS.length) - 1);
+
+    private TransporterLayouts() {
+    }
+
+    static class Layout {
+
+        final BlockPos[] positions;
+        final EnumColor[] colors;
+        final double[] costs;
+        final byte[] connectableSides;
+        private final Long2IntMap indices;
+
+        private Layout(List<BlockPos> positions, Random random) {
+            int count = positions.size();
+            this.positions = positions.toArray(new BlockPos[0]);
+            colors = new EnumColor[count];
+            costs = new double[count];
+            connectableSides = new byte[count];
+            indices = new Long2IntOpenHashMap(count);
+            indices.defaultReturnValue(-1);
+            for (int i = 0; i < count; i++) {
+                indices.put(this.positions[i].toLong(), i);
+                int color = random.nextInt(20);
+                colors[i] = color == 0 ? EnumColor.RED : color == 1 ? EnumColor.DARK_BLUE : null;
+                costs[i] = random.nextInt(40) == 0 ? RESTRICTIVE_COST : COSTS[random.nextInt(COSTS.length)];
+                connectableSides[i] = ALL_SIDES;
+                if (random.nextInt(8) == 0) {
+                    connectableSides[i] &= ~(1 << random.nextInt(EnumUtils.DIRECTIONS.length));
+                }
+            }
+        }
+
+        int size() {
+            return positions.length;
+        }
+
+        /**
+         * @return The index of the transporter at the given position, or -1 if there is not one.
+         */
+        int indexOf(BlockPos pos) {
+            return indices.get(pos.toLong());
+        }
+
+        /**
+         * Checks if a stack of the given color can go from the transporter at the given index into the transporter on the given side of it, the same way {@link
+         * TransporterStack#canInsertToTransporter} did before there was an adjacency: the other transporter has to let the color through, and the two transporters
+         * have to be able to connect to each other.
+         */
+        boolean canInsert(int from, Direction side, @Nullable EnumColor color) {
+            int to = indexOf(positions[from].offset(side));
+            return to != -1 && (colors[to] == null || colors[to] == color) && canConnect(to, side.getOpposite()) && canConnect(from, side);
+        }
+
+        boolean canConnect(int index, Direction side) {
+            return (connectableSides[index] & 1 << side.ordinal()) != 0;
+        }
+
+        /**
+         * The transporters are not in a world so they do not have a dimension.
+         */
+        Coord4D coord(BlockPos pos) {
+            return new Coord4D(pos.getX(), pos.getY(), pos.getZ(), null);
+        }
+
+        TransporterAdjacency adjacency() {
+            Coord4D[] coords = new Coord4D[size()];
+            for (int i = 0; i < coords.length; i++) {
+                coords[i] = coord(positions[i]);
+            }
+            return TransporterAdjacency.of(coords, colors, costs, connectableSides);
+        }
+    }
+
+    /**
+     * Creates a square grid of transporters with a few of them missing.
+     */
+    static Layout grid(int size, Random random) {
+        List<BlockPos> positions = new ArrayList<>(size * size);
+        for (int x = 0; x < size; x++) {
+            for (int z = 0; z < size; z++) {
+                if (random.nextInt(10) != 0) {
+                    positions.add(new BlockPos(x, 0, z));
+                }
+            }
+        }
+        return new Layout(positions, random);
+    }
+
+    /**
+     * Creates a maze of transporters with the given number of cells along each side. The maze is carved out with a random depth first search so that there is only
+     * one way between any two cells, then a few extra walls are knocked out so that there are some loops.
+     */
+    static Layout maze(int cells, Random random) {
+        int size = 2 * cells + 1;
+        boolean[][] open = new boolean[size][size];
+        boolean[][] visited = new boolean[cells][cells];
+        int[] stack = new int[cells * cells];
+        int stackSize = 0;
+        stack[stackSize++] = 0;
+        visited[0][0] = true;
+        open[1][1] = true;
+        List<int[]> moves = new ArrayList<>();
+        moves.add(new int[]{1, 0});
+        moves.add(new int[]{-1, 0});
+        moves.add(new int[]{0, 1});
+        moves.add(new int[]{0, -1});
+        while (stackSize > 0) {
+            int cell = stack[stackSize - 1];
+            int cellX = cell / cells;
+            int cellZ = cell % cells;
+            Collections.shuffle(moves, random);
+            boolean moved = false;
+            for (int[] move : moves) {
+                int nextX = cellX + move[0];
+                int nextZ = cellZ + move[1];
+                if (nextX >= 0 && nextX < cells && nextZ >= 0 && nextZ < cells && !visited[nextX][nextZ]) {
+                    visited[nextX][nextZ] = true;
+                    open[2 * cellX + 1 + move[0]][2 * cellZ + 1 + move[1]] = true;
+                    open[2 * nextX + 1][2 * nextZ + 1] = true;
+                    stack[stackSize++] = nextX * cells + nextZ;
+                    moved = true;
+                    break;
+                }
+            }
+            if (!moved) {
+                stackSize--;
+            }
+        }
+        for (int i = 0; i < cells; i++) {
+            int x = 1 + random.nextInt(size - 2);
+            int z = 1 + random.nextInt(size - 2);
+            if ((x + z) % 2 == 1) {
+                open[x][z] = true;
+            }
+        }
+        List<BlockPos> positions = new ArrayList<>();
+        for (int x = 0; x < size; x++) {
+            for (int z = 0; z < size; z++) {
+                if (open[x][z]) {
+                    positions.add(new BlockPos(x, 0, z));
+                }
+            }
+        }
+        return new Layout(positions, random);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,130 @@
+package mekanism.common.content.transporter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Random;
+import java.util.function.IntFunction;
+import mekanism.api.Coord4D;
+import mekanism.api.text.EnumColor;
+import mekanism.common.content.transporter.TransporterLayouts.Layout;
+import mekanism.common.content.transporter.TransporterPathfinder.Pathfinder;
+import mekanism.common.util.EnumUtils;
+import net.minecraft.util.Direction;
+import net.minecraft.util.math.BlockPos;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Compares the search over a {@link TransporterAdjacency} against the search that looked at where a stack could go one transporter at a time, on random grids and
+ * mazes. Both have to agree on whether there is a path, and on how much the cheapest one costs. The paths themselves can differ when there is more than one cheapest
+ * path, so the path the adjacency search finds is checked to be one the old search could have taken.
+ */
+class TransporterPathfinderTest {
+
+    private static final int LAYOUTS = 40;
+    private static final int SEARCHES_PER_LAYOUT = 50;
+
+    @Test
+    void gridSearchMatchesLegacySearch() {
+        Random random = new Random(0);
+        int found = 0;
+        for (int i = 0; i < LAYOUTS; i++) {
+            long seed = random.nextLong();
+            Random layoutRandom = new Random(seed);
+            found += compareSearches(TransporterLayouts.grid(5 + layoutRandom.nextInt(20), layoutRandom), layoutRandom, seed);
+        }
+        assertTrue(found > 0 && found < LAYOUTS * SEARCHES_PER_LAYOUT, "Expected some searches to find a path and some not to");
+    }
+
+    @Test
+    void mazeSearchMatchesLegacySearch() {
+        Random random = new Random(1);
+        int found = 0;
+        for (int i = 0; i < LAYOUTS; i++) {
+            long seed = random.nextLong();
+            Random layoutRandom = new Random(seed);
+            found += compareSearches(TransporterLayouts.maze(3 + layoutRandom.nextInt(10), layoutRandom), layoutRandom, seed);
+        }
+        assertTrue(found > 0 && found < LAYOUTS * SEARCHES_PER_LAYOUT, "Expected some searches to find a path and some not to");
+    }
+
+    /**
+     * @return How many of the searches found a path.
+     */
+    private static int compareSearches(Layout layout, Random random, long seed) {
+        TransporterAdjacency adjacency = layout.adjacency();
+        int found = 0;
+        for (int search = 0; search < SEARCHES_PER_LAYOUT; search++) {
+            EnumColor color = random.nextInt(4) == 0 ? EnumColor.RED : null;
+            int start = random.nextInt(layout.size());
+            if (layout.colors[start] != null && layout.colors[start] != color) {
+                //A stack can't be in a transporter it could not have gone into
+                continue;
+            }
+            BlockPos destination = randomDestination(layout, random);
+            byte validSides = (byte) random.nextInt(1 << EnumUtils.DIRECTIONS.length);
+            String where = "search " + search + " from " + layout.positions[start] + " to " + destination + " for seed " + seed;
+
+            LegacyPathfinder legacy = new LegacyPathfinder(layout, destination, color, validSides);
+            boolean legacyFound = legacy.find(layout.positions[start]);
+            Pathfinder pathfinder = Pathfinder.get();
+            boolean pathFound = pathfinder.find(adjacency, layout.coord(destination), start, color, validSides);
+            assertEquals(legacyFound, pathFound, () -> "Whether a path was found differs for " + where);
+            if (pathFound) {
+                found++;
+                List<Coord4D> path = pathfinder.getPath();
+                assertValidPath(layout, path, pathfinder.getSide(), start, destination, color, validSides, where);
+                double cost = pathCost(layout, path.size(), index -> path.get(index).getPos());
+                List<BlockPos> legacyPath = legacy.getPath();
+                double legacyCost = pathCost(layout, legacyPath.size(), legacyPath::get);
+                assertEquals(legacyCost, cost, () -> "Cost of the path differs for " + where);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Picks a position next to a random transporter that does not have a transporter in it.
+     */
+    private static BlockPos randomDestination(Layout layout, Random random) {
+        while (true) {
+            BlockPos pos = layout.positions[random.nextInt(layout.size())].offset(EnumUtils.DIRECTIONS[random.nextInt(EnumUtils.DIRECTIONS.length)]);
+            if (layout.indexOf(pos) == -1) {
+                return pos;
+            }
+        }
+    }
+
+    private static void assertValidPath(Layout layout, List<Coord4D> path, Direction side, int start, BlockPos destination, EnumColor color, byte validSides,
+          String where) {
+        assertEquals(destination, path.get(0).getPos(), () -> "Path does not start at the destination for " + where);
+        assertEquals(layout.positions[start], path.get(path.size() - 1).getPos(), () -> "Path does not end at the start for " + where);
+        assertEquals(destination, path.get(1).getPos().offset(side), () -> "Side is not the side of the destination for " + where);
+        assertTrue((validSides & 1 << side.ordinal()) != 0, () -> "Path goes into a side of the destination that can not be inserted into for " + where);
+        for (int i = path.size() - 1; i > 1; i--) {
+            BlockPos from = path.get(i).getPos();
+            BlockPos to = path.get(i - 1).getPos();
+            int fromIndex = layout.indexOf(from);
+            boolean canInsert = false;
+            for (Direction direction : EnumUtils.DIRECTIONS) {
+                if (from.offset(direction).equals(to)) {
+                    canInsert = layout.canInsert(fromIndex, direction, color);
+                    break;
+                }
+            }
+            assertTrue(canInsert, () -> "Path goes from " + from + " to " + to + " which a stack can't for " + where);
+        }
+    }
+
+    /**
+     * The cost of a path that starts with the destination and ends with the start, which is the cost of each transporter on it other than the start.
+     */
+    private static double pathCost(Layout layout, int length, IntFunction<BlockPos> positions) {
+        double cost = 0;
+        for (int i = length - 2; i > 0; i--) {
+            cost += layout.costs[layout.indexOf(positions.apply(i))];
+        }
+        return cost;
+    }
+}
\ No newline at end of file
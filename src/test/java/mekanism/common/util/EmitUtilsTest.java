@@ -0,0 +1,166 @@
+package mekanism.common.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Random;
+import mekanism.common.base.SplitPlan;
+import mekanism.common.util.SplitFixtures.Handler;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Compares the split against the old one, which went over the handlers that wanted more each time the share changed for as long as it took. The current split does
+ * the same for {@link EmitUtils#MAX_SPLIT_PASSES} passes and then sorts the handlers that are left, so it has to match the old split exactly whenever the old split
+ * settled within that many passes.
+ */
+class EmitUtilsTest {
+
+    private static final int RUNS = 10_000;
+    private static final int MAX_TARGETS = 12;
+    private static final int DESCENDING_AMOUNT = 100_000;
+
+    @Test
+    void integerSplitMatchesLegacySplit() {
+        Random random = new Random(0);
+        for (int run = 0; run < RUNS; run++) {
+            long seed = random.nextLong();
+            Random layoutRandom = new Random(seed);
+            int amount = layoutRandom.nextInt(10) == 0 ? layoutRandom.nextInt(10) : layoutRandom.nextInt(100_000);
+            compareIntegerSplit(SplitFixtures.randomLayout(layoutRandom, MAX_TARGETS, amount, true), amount, "seed " + seed);
+        }
+    }
+
+    @Test
+    void doubleSplitMatchesLegacySplit() {
+        Random random = new Random(0);
+        for (int run = 0; run < RUNS; run++) {
+            long seed = random.nextLong();
+            Random layoutRandom = new Random(seed);
+            double amount = layoutRandom.nextInt(10) == 0 ? layoutRandom.nextDouble() : layoutRandom.nextDouble() * 100_000;
+            compareDoubleSplit(SplitFixtures.randomLayout(layoutRandom, MAX_TARGETS, amount, false), amount, "seed " + seed);
+        }
+    }
+
+    /**
+     * Random layouts hardly ever keep the share changing for long enough for the rest of the handlers to be sorted, so go over layouts that do.
+     */
+    @Test
+    void descendingSplitMatchesLegacySplit() {
+        int sorted = 0;
+        for (int targets = 1; targets <= 100; targets++) {
+            String where = targets + " descending targets";
+            compareIntegerSplit(SplitFixtures.descendingLayout(targets, DESCENDING_AMOUNT), DESCENDING_AMOUNT, where);
+            if (LegacySplit.passes > EmitUtils.MAX_SPLIT_PASSES) {
+                sorted++;
+            }
+            compareDoubleSplit(SplitFixtures.descendingLayout(targets, DESCENDING_AMOUNT), DESCENDING_AMOUNT, where);
+        }
+        assertTrue(sorted > 0, "Expected some of the splits to sort the handlers that were left");
+    }
+
+    /**
+     * Working out the split ahead of time and then sending it has to give each handler exactly what sending it straight away does, as long as the handlers take what
+     * they said they wanted.
+     */
+    @Test
+    void plannedSplitMatchesSentSplit() {
+        Random random = new Random(0);
+        for (int run = 0; run < RUNS; run++) {
+            long seed = random.nextLong();
+            Random layoutRandom = new Random(seed);
+            int amount = layoutRandom.nextInt(100_000);
+            comparePlannedSplit(SplitFixtures.randomLayout(layoutRandom, MAX_TARGETS, amount, true), amount, "seed " + seed);
+        }
+        for (int targets = 1; targets <= 100; targets++) {
+            comparePlannedSplit(SplitFixtures.descendingLayout(targets, DESCENDING_AMOUNT), DESCENDING_AMOUNT, targets + " descending targets");
+        }
+    }
+
+    private static void comparePlannedSplit(List<List<Handler>> layout, int amount, String description) {
+        List<List<Handler>> planned = SplitFixtures.copy(layout);
+        List<List<Handler>> plannedEnergy = SplitFixtures.copy(layout);
+        List<List<Handler>> sentEnergy = SplitFixtures.copy(layout);
+        int sent = EmitUtils.sendToAcceptors(SplitFixtures.integerTargets(layout), amount, amount);
+        double energySent = EmitUtils.sendToAcceptors(SplitFixtures.doubleTargets(sentEnergy), amount);
+
+        SplitPlan plan = new SplitPlan();
+        List<SplitFixtures.IntegerHandlerTarget> targets = SplitFixtures.integerTargets(planned);
+        EmitUtils.simulateSplit(plan, targets, amount);
+        EmitUtils.planSplit(plan, amount);
+        assertEquals(sent, EmitUtils.sendSplit(plan, targets, amount), () -> "Total sent differs for " + description);
+
+        List<SplitFixtures.DoubleHandlerTarget> energyTargets = SplitFixtures.doubleTargets(plannedEnergy);
+        EmitUtils.simulateSplit(plan, energyTargets, (double) amount);
+        EmitUtils.planSplit(plan, (double) amount);
+        assertEquals(energySent, EmitUtils.sendSplit(plan, energyTargets, (double) amount), Math.max(1, amount) * 1E-9,
+              () -> "Total energy sent differs for " + description);
+        for (int i = 0; i < layout.size(); i++) {
+            for (int j = 0; j < layout.get(i).size(); j++) {
+                String where = layout.get(i).get(j).side + " of target " + i + " for " + description;
+                assertEquals(layout.get(i).get(j).received, planned.get(i).get(j).received, () -> "Amount received differs by " + where);
+                assertEquals(sentEnergy.get(i).get(j).received, plannedEnergy.get(i).get(j).received, () -> "Energy received differs by " + where);
+            }
+        }
+    }
+
+    /**
+     * With whole amounts the old split could leave the share rounded down to what it was before a handler that took exactly the share, and which handlers that
+     * affected depended on the order they were gone over in. The sorted part of the split does not, so when the old split took more passes than the current one makes
+     * the current split has to give every handler at least what the old split did, never more than it wants, and only leave less unsent than the number of handlers
+     * that did not get all they wanted.
+     */
+    private static void compareIntegerSplit(List<List<Handler>> layout, int amount, String description) {
+        List<List<Handler>> legacy = SplitFixtures.copy(layout);
+        int sent = EmitUtils.sendToAcceptors(SplitFixtures.integerTargets(layout), amount, amount);
+        int legacySent = LegacySplit.sendToAcceptors(legacy, amount);
+        if (LegacySplit.passes <= EmitUtils.MAX_SPLIT_PASSES) {
+            assertEquals(legacySent, sent, () -> "Total sent differs for " + description);
+            for (int i = 0; i < layout.size(); i++) {
+                List<Handler> handlers = layout.get(i);
+                for (int j = 0; j < handlers.size(); j++) {
+                    Handler handler = handlers.get(j);
+                    String where = handler.side + " of target " + i + " for " + description;
+                    assertEquals(legacy.get(i).get(j).received, handler.received, () -> "Amount received differs by " + where);
+                }
+            }
+            return;
+        }
+        int unsatisfied = 0;
+        for (int i = 0; i < layout.size(); i++) {
+            List<Handler> handlers = layout.get(i);
+            for (int j = 0; j < handlers.size(); j++) {
+                Handler handler = handlers.get(j);
+                Handler legacyHandler = legacy.get(i).get(j);
+                String where = handler.side + " of target " + i + " for " + description;
+                assertTrue(handler.received >= legacyHandler.received, () -> "Received less than the old split by " + where);
+                assertTrue(handler.received <= handler.demand, () -> "Received more than it wants by " + where);
+                if (handler.received < handler.demand) {
+                    unsatisfied++;
+                }
+            }
+        }
+        assertTrue(sent >= legacySent, () -> "Sent less than the old split for " + description);
+        if (unsatisfied > 0) {
+            int unsatisfiedHandlers = unsatisfied;
+            assertTrue(amount - sent < unsatisfiedHandlers, () -> "Left more than the remainder of the share unsent for " + description);
+        }
+    }
+
+    private static void compareDoubleSplit(List<List<Handler>> layout, double amount, String description) {
+        List<List<Handler>> legacy = SplitFixtures.copy(layout);
+        double sent = EmitUtils.sendToAcceptors(SplitFixtures.doubleTargets(layout), amount);
+        double legacySent = LegacySplit.sendToAcceptors(legacy, amount);
+        //The amounts are subtracted in a different order, so they are only the same up to rounding
+        double tolerance = Math.max(1, amount) * 1E-9;
+        assertEquals(legacySent, sent, tolerance, () -> "Total sent differs for " + description);
+        for (int i = 0; i < layout.size(); i++) {
+            List<Handler> handlers = layout.get(i);
+            for (int j = 0; j < handlers.size(); j++) {
+                Handler handler = handlers.get(j);
+                String where = handler.side + " of target " + i + " for " + description;
+                assertEquals(legacy.get(i).get(j).received, handler.received, tolerance, () -> "Amount received differs by " + where);
+            }
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package mekanism.common.util;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import mekanism.common.util.SplitFixtures.Handler;
+
+/**
+ * The split {@link EmitUtils#sendToAcceptors} used to do before it kept the demands in a {@link mekanism.common.base.SplitPlan}, kept to check the current split
+ * against. Handlers that want no more than the current share get what they want straight away, then the handlers that wanted more are gone over again each time the
+ * share changes, and whatever handlers are left get the final share. Unlike the current split it never gives up on going over them and sorts them instead.
+ */
+final class LegacySplit {
+
+    /**
+     * How many times the handlers were gone over by the last split, counting the first time.
+     */
+    static int passes;
+
+    private LegacySplit() {
+    }
+
+    static int sendToAcceptors(List<List<Handler>> targets, int amountToSplit) {
+        int totalTargets = countHandlers(targets);
+        passes = 0;
+        if (targets.isEmpty() || totalTargets == 0) {
+            return 0;
+        }
+        IntegerSplitInfo splitInfo = new IntegerSplitInfo(amountToSplit, totalTargets);
+        List<Map<Handler, Integer>> needed = new ArrayList<>(targets.size());
+        for (List<Handler> handlers : targets) {
+            Map<Handler, Integer> targetNeeded = new LinkedHashMap<>();
+            for (Handler handler : handlers) {
+                int amountNeeded = (int) handler.simulate(amountToSplit);
+                if (amountNeeded <= splitInfo.amountPerTarget) {
+                    splitInfo.send((int) handler.accept(amountNeeded));
+                } else {
+                    targetNeeded.put(handler, amountNeeded);
+                }
+            }
+            needed.add(targetNeeded);
+        }
+        passes++;
+        while (splitInfo.amountPerChanged) {
+            splitInfo.amountPerChanged = false;
+            passes++;
+            for (Map<Handler, Integer> targetNeeded : needed) {
+                Iterator<Entry<Handler, Integer>> iterator = targetNeeded.entrySet().iterator();
+                while (iterator.hasNext()) {
+                    Entry<Handler, Integer> entry = iterator.next();
+                    int amountNeeded = entry.getValue();
+                    if (amountNeeded <= splitInfo.amountPerTarget) {
+                        splitInfo.send((int) entry.getKey().accept(amountNeeded));
+                        iterator.remove();
+                    }
+                }
+            }
+        }
+        for (Map<Handler, Integer> targetNeeded : needed) {
+            for (Handler handler : targetNeeded.keySet()) {
+                splitInfo.send((int) handler.accept(splitInfo.amountPerTarget));
+            }
+        }
+        return splitInfo.sentSoFar;
+    }
+
+    static double sendToAcceptors(List<List<Handler>> targets, double amountToSplit) {
+        int totalTargets = countHandlers(targets);
+        passes = 0;
+        if (targets.isEmpty() || totalTargets == 0) {
+            return 0;
+        }
+        DoubleSplitInfo splitInfo = new DoubleSplitInfo(amountToSplit, totalTargets);
+        List<Map<Handler, Double>> needed = new ArrayList<>(targets.size());
+        for (List<Handler> handlers : targets) {
+            Map<Handler, Double> targetNeeded = new LinkedHashMap<>();
+            for (Handler handler : handlers) {
+                double amountNeeded = handler.simulate(amountToSplit);
+                if (amountNeeded <= splitInfo.amountPerTarget) {
+                    splitInfo.send(handler.accept(amountNeeded));
+                } else {
+                    targetNeeded.put(handler, amountNeeded);
+                }
+            }
+            needed.add(targetNeeded);
+        }
+        passes++;
+        while (splitInfo.amountPerChanged) {
+            splitInfo.amountPerChanged = false;
+            passes++;
+            for (Map<Handler, Double> targetNeeded : needed) {
+                Iterator<Entry<Handler, Double>> iterator = targetNeeded.entrySet().iterator();
+                while (iterator.hasNext()) {
+                    Entry<Handler, Double> entry = iterator.next();
+                    double amountNeeded = entry.getValue();
+                    if (amountNeeded <= splitInfo.amountPerTarget) {
+                        splitInfo.send(entry.getKey().accept(amountNeeded));
+                        iterator.remove();
+                    }
+                }
+            }
+        }
+        for (Map<Handler, Double> targetNeeded : needed) {
+            for (Handler handler : targetNeeded.keySet()) {
+                splitInfo.send(handler.accept(splitInfo.amountPerTarget));
+            }
+        }
+        return splitInfo.sentSoFar;
+    }
+
+    private static int countHandlers(List<List<Handler>> targets) {
+        int count = 0;
+        for (List<Handler> handlers : targets) {
+            count += handlers.size();
+        }
+        return count;
+    }
+
+    private static class IntegerSplitInfo {
+
+        private int toSplitAmong;
+        private boolean amountPerChanged;
+        private int amountToSplit;
+        private int amountPerTarget;
+        private int sentSoFar;
+
+        private IntegerSplitInfo(int amountToSplit, int totalTargets) {
+            toSplitAmong = totalTargets;
+            this.amountToSplit = amountToSplit;
+            amountPerTarget = toSplitAmong == 0 ? 0 : amountToSplit / toSplitAmong;
+        }
+
+        private void send(int amountNeeded) {
+            amountToSplit -= amountNeeded;
+            sentSoFar += amountNeeded;
+            toSplitAmong--;
+            if (amountNeeded != amountPerTarget && toSplitAmong != 0) {
+                int amountPerLast = amountPerTarget;
+                amountPerTarget = amountToSplit / toSplitAmong;
+                if (!amountPerChanged && amountPerTarget != amountPerLast) {
+                    amountPerChanged = true;
+                }
+            }
+        }
+    }
+
+    private static class DoubleSplitInfo {
+
+        private int toSplitAmong;
+        private boolean amountPerChanged;
+        private double amountToSplit;
+        private double amountPerTarget;
+        private double sentSoFar;
+
+        private DoubleSplitInfo(double amountToSplit, int totalTargets) {
+            toSplitAmong = totalTargets;
+            this.amountToSplit = amountToSplit;
+            amountPerTarget = toSplitAmong == 0 ? 0 : amountToSplit / toSplitAmong;
+        }
+
+        private void send(double amountNeeded) {
+            amountToSplit -= amountNeeded;
+            sentSoFar += amountNeeded;
+            toSplitAmong--;
+            if (amountNeeded != amountPerTarget && toSplitAmong != 0) {
+                double amountPerLast = amountPerTarget;
+                amountPerTarget = amountToSplit / toSplitAmong;
+                if (!amountPerChanged && amountPerTarget != amountPerLast) {
+                    amountPerChanged = true;
+                }
+            }
+        }
+    }
+}
\ No newline at end of file
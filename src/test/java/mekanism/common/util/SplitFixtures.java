@@ -0,0 +1,170 @@
+package mekanism.common.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import mekanism.common.base.SplitInfo.DoubleSplitInfo;
+import mekanism.common.base.SplitInfo.IntegerSplitInfo;
+import mekanism.common.base.target.DoubleTarget;
+import mekanism.common.base.target.IntegerTarget;
+import net.minecraft.util.Direction;
+
+/**
+ * Handlers and targets for splitting between that only want a fixed amount, and random layouts of them. A layout is a list of targets, each of which is a list of the
+ * demands of its handlers in the order of their sides.
+ */
+final class SplitFixtures {
+
+    private SplitFixtures() {
+    }
+
+    /**
+     * A handler that takes anything it is given up to the amount it wants.
+     */
+    static class Handler {
+
+        final Direction side;
+        final double demand;
+        double received;
+
+        Handler(Direction side, double demand) {
+            this.side = side;
+            this.demand = demand;
+        }
+
+        double simulate(double offered) {
+            return Math.min(demand - received, offered);
+        }
+
+        double accept(double offered) {
+            double accepted = simulate(offered);
+            received += accepted;
+            return accepted;
+        }
+    }
+
+    static class IntegerHandlerTarget extends IntegerTarget<Handler, Integer> {
+
+        @Override
+        protected void acceptAmount(Handler handler, Direction side, IntegerSplitInfo splitInfo, int amount) {
+            splitInfo.send((int) handler.accept(amount));
+        }
+
+        @Override
+        protected int simulate(Handler handler, Direction side, Integer toSend) {
+            return (int) handler.simulate(toSend);
+        }
+    }
+
+    static class DoubleHandlerTarget extends DoubleTarget<Handler> {
+
+        @Override
+        protected void acceptAmount(Handler handler, Direction side, DoubleSplitInfo splitInfo, double amount) {
+            splitInfo.send(handler.accept(amount));
+        }
+
+        @Override
+        protected double simulate(Handler handler, Direction side, double amount) {
+            return handler.simulate(amount);
+        }
+    }
+
+    /**
+     * Creates a random layout of up to the given number of targets. Demands include handlers that want nothing, that want the same as another handler, and that want
+     * more or less than an even share of the given amount.
+     */
+    static List<List<Handler>> randomLayout(Random random, int maxTargets, double amount, boolean wholeAmounts) {
+        int targetCount = random.nextInt(maxTargets + 1);
+        List<List<Handler>> layout = new ArrayList<>(targetCount);
+        int handlerEstimate = Math.max(1, targetCount * 3);
+        double lastDemand = 0;
+        for (int i = 0; i < targetCount; i++) {
+            List<Handler> handlers = new ArrayList<>();
+            //Each side is used at most once, and sides are kept in order like they are in an EnumMap
+            for (Direction side : EnumUtils.DIRECTIONS) {
+                if (random.nextInt(3) == 0) {
+                    continue;
+                }
+                double demand;
+                int kind = random.nextInt(10);
+                if (kind == 0) {
+                    demand = 0;
+                } else if (kind <= 2) {
+                    demand = lastDemand;
+                } else if (kind <= 6) {
+                    demand = random.nextDouble() * 2 * amount / handlerEstimate;
+                } else {
+                    demand = random.nextDouble() * amount * 2;
+                }
+                if (wholeAmounts) {
+                    demand = Math.floor(demand);
+                }
+                lastDemand = demand;
+                handlers.add(new Handler(side, demand));
+            }
+            if (handlers.isEmpty()) {
+                handlers.add(new Handler(Direction.DOWN, wholeAmounts ? random.nextInt(100) : random.nextDouble() * 100));
+            }
+            layout.add(handlers);
+        }
+        return layout;
+    }
+
+    /**
+     * Creates a layout of targets with a handler on every side, where every handler wants a little less than the one before it and slightly more than the amount is
+     * wanted in total. This is the order that makes the old split go over the handlers that want more the most times.
+     */
+    static List<List<Handler>> descendingLayout(int targetCount, int amount) {
+        int handlers = targetCount * EnumUtils.DIRECTIONS.length;
+        List<List<Handler>> layout = new ArrayList<>(targetCount);
+        int handler = 0;
+        for (int i = 0; i < targetCount; i++) {
+            List<Handler> sides = new ArrayList<>(EnumUtils.DIRECTIONS.length);
+            for (Direction side : EnumUtils.DIRECTIONS) {
+                sides.add(new Handler(side, 2 * (handlers - handler) * (amount / handlers + 1) / (handlers + 1)));
+                handler++;
+            }
+            layout.add(sides);
+        }
+        return layout;
+    }
+
+    /**
+     * @return A copy of the layout with handlers that have not received anything yet.
+     */
+    static List<List<Handler>> copy(List<List<Handler>> layout) {
+        List<List<Handler>> copy = new ArrayList<>(layout.size());
+        for (List<Handler> handlers : layout) {
+            List<Handler> handlersCopy = new ArrayList<>(handlers.size());
+            for (Handler handler : handlers) {
+                handlersCopy.add(new Handler(handler.side, handler.demand));
+            }
+            copy.add(handlersCopy);
+        }
+        return copy;
+    }
+
+    static List<IntegerHandlerTarget> integerTargets(List<List<Handler>> layout) {
+        List<IntegerHandlerTarget> targets = new ArrayList<>(layout.size());
+        for (List<Handler> handlers : layout) {
+            IntegerHandlerTarget target = new IntegerHandlerTarget();
+            for (Handler handler : handlers) {
+                target.addHandler(handler.side, handler);
+            }
+            targets.add(target);
+        }
+        return targets;
+    }
+
+    static List<DoubleHandlerTarget> doubleTargets(List<List<Handler>> layout) {
+        List<DoubleHandlerTarget> targets = new ArrayList<>(layout.size());
+        for (List<Handler> handlers : layout) {
+            DoubleHandlerTarget target = new DoubleHandlerTarget();
+            for (Handler handler : handlers) {
+                target.addHandler(handler.side, handler);
+            }
+            targets.add(target);
+        }
+        return targets;
+    }
+}
\ No newline at end of file